@@ -0,0 +1,78 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.benchmark.model.UserDTO;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.core.utils.BeanCopier;
+import org.springultron.core.utils.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeanUtils 属性拷贝基准测试
+ * spring* 为 Spring 基于 PropertyDescriptor 反射的实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanUtilsBenchmark {
+
+    private UserEntity entity;
+
+    private List<UserEntity> entities;
+
+    private Map<String, Object> map;
+
+    @Setup
+    public void setup() {
+        entity = UserEntity.sample();
+        entities = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            entities.add(UserEntity.sample());
+        }
+        map = BeanUtils.toMap(entity);
+    }
+
+    @Benchmark
+    public UserDTO copyProperties() {
+        return BeanUtils.copyProperties(entity, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO beanCopier() {
+        UserDTO dto = new UserDTO();
+        BeanCopier.create(UserEntity.class, UserDTO.class).copy(entity, dto);
+        return dto;
+    }
+
+    @Benchmark
+    public UserDTO springCopyProperties() {
+        UserDTO dto = new UserDTO();
+        org.springframework.beans.BeanUtils.copyProperties(entity, dto);
+        return dto;
+    }
+
+    @Benchmark
+    public List<UserDTO> copyList() {
+        return BeanUtils.copyList(entities, UserDTO.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return BeanUtils.toMap(entity);
+    }
+
+    @Benchmark
+    public UserEntity toBean() {
+        return BeanUtils.toBean(map, UserEntity.class);
+    }
+}
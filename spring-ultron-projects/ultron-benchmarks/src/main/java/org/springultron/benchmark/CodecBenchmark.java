@@ -0,0 +1,108 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.DigestUtils;
+import org.springultron.core.utils.Hex;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hex 编码及 HMAC 摘要基准测试
+ * 多线程下可通过 -t 参数观察对象池的竞争开销
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final String HMAC_KEY = "192006250b4c09247ec02edce69f6a2d";
+
+    @Param({"32", "1024"})
+    private int size;
+
+    private byte[] data;
+
+    private String text;
+
+    private final byte[] macOut = new byte[32];
+
+    private final char[] hexOut = new char[64];
+
+    private final StringBuilder hexBuilder = new StringBuilder(64);
+
+    private ByteBuffer directData;
+
+    private final ByteBuffer directOut = ByteBuffer.allocateDirect(32);
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        ThreadLocalRandom.current().nextBytes(data);
+        text = new String(Hex.encodeHex(data), 0, size);
+        directData = ByteBuffer.allocateDirect(size);
+        directData.put(data).flip();
+    }
+
+    @Benchmark
+    public String encodeHexString() {
+        return Hex.encodeHexString(data);
+    }
+
+    @Benchmark
+    public String hmacSha256Hex() {
+        return DigestUtils.hmacSha256Hex(text, HMAC_KEY);
+    }
+
+    @Benchmark
+    public String hmacSha256HexBytes() {
+        return DigestUtils.hmacSha256Hex(text.getBytes(StandardCharsets.UTF_8), HMAC_KEY);
+    }
+
+    /**
+     * 每次新建 Mac 的基线
+     */
+    @Benchmark
+    public byte[] hmacSha256Unpooled() {
+        return DigestUtils.getInitializedMac("HmacSHA256", HMAC_KEY).doFinal(data);
+    }
+
+    @Benchmark
+    public byte[] hmacSha256Into() {
+        DigestUtils.hmacInto("HmacSHA256", data, HMAC_KEY, macOut, 0);
+        return macOut;
+    }
+
+    @Benchmark
+    public ByteBuffer hmacSha256IntoDirect() {
+        directData.rewind();
+        directOut.clear();
+        DigestUtils.hmacInto("HmacSHA256", directData, HMAC_KEY, directOut);
+        return directOut;
+    }
+
+    @Benchmark
+    public char[] hmacSha256HexInto() {
+        DigestUtils.hmacHex("HmacSHA256", data, HMAC_KEY, hexOut, 0);
+        return hexOut;
+    }
+
+    @Benchmark
+    public StringBuilder hmacSha256HexAppend() {
+        hexBuilder.setLength(0);
+        return DigestUtils.hmacHex("HmacSHA256", data, HMAC_KEY, hexBuilder);
+    }
+
+    @Benchmark
+    public String sha256Hex() {
+        return DigestUtils.sha256Hex(text);
+    }
+}
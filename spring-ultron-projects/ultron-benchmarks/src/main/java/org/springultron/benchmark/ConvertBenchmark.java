@@ -0,0 +1,104 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springultron.core.utils.BeanUtils;
+import org.springultron.core.utils.TypeConverterUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 类型转换基准测试
+ * simpleTypeConverter* 为 Spring SimpleTypeConverter(PropertyEditor)转换，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 19:30
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+    private final SimpleTypeConverter simpleTypeConverter = new SimpleTypeConverter();
+
+    private final Map<String, Object> map = new HashMap<>();
+
+    @Setup
+    public void setup() {
+        map.put("id", "1024");
+        map.put("age", 18);
+        map.put("amount", "99.95");
+        map.put("createTime", "2026-10-18 19:30:00");
+    }
+
+    @Benchmark
+    public int simpleTypeConverterInt() {
+        return simpleTypeConverter.convertIfNecessary("1024", int.class);
+    }
+
+    @Benchmark
+    public int stringToInt() {
+        return TypeConverterUtils.convertIfNecessary("1024", int.class);
+    }
+
+    @Benchmark
+    public BigDecimal simpleTypeConverterBigDecimal() {
+        return simpleTypeConverter.convertIfNecessary("99.95", BigDecimal.class);
+    }
+
+    @Benchmark
+    public BigDecimal stringToBigDecimal() {
+        return TypeConverterUtils.convertIfNecessary("99.95", BigDecimal.class);
+    }
+
+    @Benchmark
+    public Order toBean() {
+        return BeanUtils.toBean(map, Order.class);
+    }
+
+    public static class Order {
+        private long id;
+        private Long age;
+        private BigDecimal amount;
+        private LocalDateTime createTime;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public Long getAge() {
+            return age;
+        }
+
+        public void setAge(Long age) {
+            this.age = age;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public LocalDateTime getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(LocalDateTime createTime) {
+            this.createTime = createTime;
+        }
+    }
+}
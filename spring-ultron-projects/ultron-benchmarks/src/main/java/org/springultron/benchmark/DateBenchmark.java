@@ -0,0 +1,61 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.DateUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日期时间格式化及解析基准测试
+ * formatter* 为 {@link DateTimeFormatter} 实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2026, 10, 18, 20, 0, 30);
+
+    private final String text = "2026-10-18 20:00:30";
+
+    @Benchmark
+    public String formatterFormat() {
+        return DateUtils.DATE_TIME_FORMATTER.format(dateTime);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtils.formatDateTime(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime formatterParse() {
+        return LocalDateTime.parse(text, DateUtils.DATE_TIME_FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtils.parseDateTime(text);
+    }
+
+    /**
+     * 每次编译格式化器
+     */
+    @Benchmark
+    public String ofPatternFormat() {
+        return DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm").format(dateTime);
+    }
+
+    @Benchmark
+    public String cachedPatternFormat() {
+        return DateUtils.formatDateTime(dateTime, "yyyy/MM/dd HH:mm");
+    }
+}
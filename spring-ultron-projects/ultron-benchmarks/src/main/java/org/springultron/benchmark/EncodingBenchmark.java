@@ -0,0 +1,128 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.Base64Utils;
+import org.springultron.core.utils.Hex;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hex 及 Base64 编解码基准测试(不同数据长度)
+ * jdk* 为 {@link HexFormat}/{@link Base64} 的实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 16:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    private int size;
+
+    private byte[] data;
+
+    private String hex;
+
+    private char[] hexChars;
+
+    private byte[] hexBytes;
+
+    private byte[] base64;
+
+    private byte[] base64Bytes;
+
+    private char[] base64Chars;
+
+    private byte[] decoded;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        ThreadLocalRandom.current().nextBytes(data);
+        hex = Hex.encodeHexString(data);
+        hexChars = new char[size << 1];
+        hexBytes = new byte[size << 1];
+        base64 = Base64.getEncoder().encode(data);
+        base64Bytes = new byte[Base64Utils.encodedLength(size) + 1];
+        base64Chars = new char[Base64Utils.encodedLength(size)];
+        decoded = new byte[size];
+    }
+
+    @Benchmark
+    public String hexEncodeString() {
+        return Hex.encodeHexString(data);
+    }
+
+    @Benchmark
+    public String jdkHexEncodeString() {
+        return HexFormat.of().formatHex(data);
+    }
+
+    @Benchmark
+    public char[] hexEncodeToChars() {
+        Hex.encodeTo(data, hexChars, 0);
+        return hexChars;
+    }
+
+    @Benchmark
+    public byte[] hexEncodeToBytes() {
+        Hex.encodeTo(data, hexBytes, 0);
+        return hexBytes;
+    }
+
+    @Benchmark
+    public byte[] hexDecode() {
+        return Hex.decodeHex(hex);
+    }
+
+    @Benchmark
+    public byte[] jdkHexDecode() {
+        return HexFormat.of().parseHex(hex);
+    }
+
+    @Benchmark
+    public byte[] hexDecodeTo() {
+        Hex.decodeTo(hex, decoded, 0);
+        return decoded;
+    }
+
+    @Benchmark
+    public String base64EncodeString() {
+        return Base64Utils.encodeToString(data);
+    }
+
+    @Benchmark
+    public byte[] base64EncodeTo() {
+        Base64Utils.encodeTo(data, base64Bytes, 0);
+        return base64Bytes;
+    }
+
+    /**
+     * 非 0 偏移，走查表编码
+     */
+    @Benchmark
+    public byte[] base64EncodeToOffset() {
+        Base64Utils.encodeTo(data, base64Bytes, 1);
+        return base64Bytes;
+    }
+
+    @Benchmark
+    public char[] base64EncodeToChars() {
+        Base64Utils.encodeTo(data, base64Chars, 0);
+        return base64Chars;
+    }
+
+    @Benchmark
+    public byte[] base64DecodeTo() {
+        Base64Utils.decodeTo(base64, decoded);
+        return decoded;
+    }
+}
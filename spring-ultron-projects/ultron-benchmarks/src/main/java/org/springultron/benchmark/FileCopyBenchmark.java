@@ -0,0 +1,97 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文件复制及读取基准测试
+ * stream* 为 8KB 堆缓冲区的流复制，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 18:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileCopyBenchmark {
+
+    /**
+     * 文件大小(MB)
+     */
+    @Param({"1", "64", "512"})
+    private int sizeMb;
+
+    private Path source;
+
+    private Path target;
+
+    @Setup
+    public void setup() throws IOException {
+        source = Files.createTempFile("ultron-bench-src", ".bin");
+        target = Files.createTempFile("ultron-bench-dst", ".bin");
+        final byte[] block = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(block);
+        try (OutputStream out = Files.newOutputStream(source)) {
+            for (int i = 0; i < sizeMb; i++) {
+                out.write(block);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+    }
+
+    @Benchmark
+    public long streamCopy() throws IOException {
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = Files.newOutputStream(target, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return in.transferTo(out);
+        }
+    }
+
+    @Benchmark
+    public long channelCopy() {
+        return FileUtils.copy(source, target);
+    }
+
+    @Benchmark
+    public long streamSum() throws IOException {
+        long sum = 0;
+        final byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(source)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                for (int i = 0; i < n; i += 4096) {
+                    sum += buffer[i];
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long mappedSum() {
+        final MappedByteBuffer buffer = FileUtils.map(source);
+        long sum = 0;
+        for (int i = 0; i < buffer.limit(); i += 4096) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,43 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.IdUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID生成基准测试（多线程争用）
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class IdUtilsBenchmark {
+
+    @Benchmark
+    public String randomUUID() {
+        return IdUtils.randomUUID();
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String genOrderNo() {
+        return IdUtils.genOrderNo();
+    }
+
+    @Benchmark
+    public long nextId() {
+        return IdUtils.nextId();
+    }
+
+    @Benchmark
+    public long[] nextIds() {
+        return IdUtils.nextIds(100);
+    }
+}
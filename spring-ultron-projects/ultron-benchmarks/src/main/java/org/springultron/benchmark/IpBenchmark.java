@@ -0,0 +1,87 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.CidrMatcher;
+import org.springultron.core.utils.IpUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IP 解析及网段匹配基准测试
+ * inetAddress* 为 {@link InetAddress} 实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 18:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpBenchmark {
+
+    private final String ipv4 = "192.168.31.254";
+
+    private final String ipv6 = "2001:db8:85a3::8a2e:370:7334";
+
+    private final byte[] dest = new byte[16];
+
+    private CidrMatcher matcher;
+
+    private List<long[]> ranges;
+
+    @Setup
+    public void setup() {
+        final List<String> cidrs = new ArrayList<>();
+        ranges = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            cidrs.add("10." + i + ".0.0/16");
+            ranges.add(new long[]{(10L << 24) | ((long) i << 16), 0xFFFF0000L});
+        }
+        matcher = CidrMatcher.of(cidrs);
+    }
+
+    @Benchmark
+    public boolean isInternalIp() {
+        return IpUtils.isInternalIp(ipv4);
+    }
+
+    @Benchmark
+    public boolean inetAddressIsInternalIp() throws UnknownHostException {
+        return IpUtils.isInternalIp(InetAddress.getByName(ipv4));
+    }
+
+    @Benchmark
+    public int parseIpv6() {
+        return IpUtils.parseAddress(ipv6, 0, ipv6.length(), dest);
+    }
+
+    @Benchmark
+    public byte[] inetAddressParseIpv6() throws UnknownHostException {
+        return InetAddress.getByName(ipv6).getAddress();
+    }
+
+    @Benchmark
+    public boolean cidrTrie() {
+        return matcher.contains("10.255.3.4");
+    }
+
+    /**
+     * 逐个网段比较
+     */
+    @Benchmark
+    public boolean cidrLinear() {
+        final long ip = IpUtils.ipv4ToLong("10.255.3.4");
+        for (long[] range : ranges) {
+            if ((ip & range[1]) == range[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
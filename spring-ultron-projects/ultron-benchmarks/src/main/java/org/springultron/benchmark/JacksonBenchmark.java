@@ -0,0 +1,80 @@
+package org.springultron.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.core.jackson.Jackson;
+import org.springultron.core.result.ApiResult;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson 序列化/反序列化基准测试
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private ApiResult<UserEntity> result;
+
+    private String json;
+
+    private ByteBuffer directBuffer;
+
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        result = ApiResult.success(UserEntity.sample());
+        json = Jackson.toJson(UserEntity.sample());
+        directBuffer = ByteBuffer.allocateDirect(8 * 1024);
+        builder = new StringBuilder(1024);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return Jackson.toJson(result);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return Jackson.toBytes(result);
+    }
+
+    @Benchmark
+    public void writeToOutputStream() {
+        Jackson.writeTo(result, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int writeToByteBuffer() {
+        directBuffer.clear();
+        return Jackson.writeTo(result, directBuffer);
+    }
+
+    @Benchmark
+    public int writeToStringBuilder() {
+        builder.setLength(0);
+        Jackson.writeTo(result, builder);
+        return builder.length();
+    }
+
+    @Benchmark
+    public UserEntity parse() {
+        return Jackson.parse(json, UserEntity.class);
+    }
+
+    @Benchmark
+    public JsonNode readTree() {
+        return Jackson.readTree(json);
+    }
+}
@@ -0,0 +1,103 @@
+package org.springultron.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springultron.benchmark.model.SubscriberInfo;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.core.jackson.Jackson;
+import org.springultron.core.result.ApiResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson ObjectReader/ObjectWriter 缓存及 Blackbird 模块基准测试
+ * <p>
+ * cached* 走 {@link Jackson} 的按类型缓存，mapper* 直接调用 ObjectMapper(每次解析类型并查找(反)序列化器)；
+ * blackbird 参数在独立 fork 中为全局 ObjectMapper 注册 {@link BlackbirdModule}
+ *
+ * @author brucewuu
+ * @date 2026/10/18 12:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonReaderCacheBenchmark {
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectMapper mapper;
+
+    private SubscriberInfo subscriberInfo;
+
+    private ApiResult<UserEntity> apiResult;
+
+    private String subscriberInfoJson;
+
+    private String mapJson;
+
+    private String listJson;
+
+    @Setup
+    public void setup() {
+        if (blackbird) {
+            Jackson.registerModule(new BlackbirdModule());
+        }
+        mapper = Jackson.getInstance();
+        subscriberInfoJson = "{\"subscribe\":1,\"openid\":\"o6_bmjrPTlm6_2sgVt7hMZOPfL2M\",\"nickname\":\"Band\",\"sex\":1,"
+                + "\"language\":\"zh_CN\",\"city\":\"广州\",\"province\":\"广东\",\"country\":\"中国\","
+                + "\"headimgurl\":\"http://thirdwx.qlogo.cn/mmopen/g3MonUZtNHkdmzicIlibx6iaFqAc56vxLSUfpb6n5WKSYVY0ChQKkiaJSgQ1dZuTOgvLLrhJbERQQ4eMsv84eavHiaiceqxibJxCfHe/0\","
+                + "\"subscribe_time\":1382694957,\"unionid\":\"o6_bmasdasdsad6_2sgVt7hMZOPfL\",\"remark\":\"\",\"groupid\":0,"
+                + "\"tagid_list\":[128,2],\"subscribe_scene\":\"ADD_SCENE_QR_CODE\",\"qr_scene\":98765,\"qr_scene_str\":\"\"}";
+        subscriberInfo = Jackson.parse(subscriberInfoJson, SubscriberInfo.class);
+        apiResult = ApiResult.success(UserEntity.sample());
+        mapJson = Jackson.toJson(Map.of("a", 1, "b", 2, "c", 3, "d", 4));
+        listJson = Jackson.toJson(List.of(UserEntity.sample(), UserEntity.sample(), UserEntity.sample()));
+    }
+
+    @Benchmark
+    public SubscriberInfo cachedParse() {
+        return Jackson.parse(subscriberInfoJson, SubscriberInfo.class);
+    }
+
+    @Benchmark
+    public SubscriberInfo mapperParse() throws Exception {
+        return mapper.readValue(subscriberInfoJson, SubscriberInfo.class);
+    }
+
+    @Benchmark
+    public Map<String, Integer> cachedParseMap() {
+        return Jackson.parseMap(mapJson, String.class, Integer.class);
+    }
+
+    @Benchmark
+    public Map<String, Integer> mapperParseMap() throws Exception {
+        return mapper.readValue(mapJson, mapper.getTypeFactory().constructMapType(Map.class, String.class, Integer.class));
+    }
+
+    @Benchmark
+    public List<UserEntity> cachedParseList() {
+        return Jackson.parseList(listJson, UserEntity.class);
+    }
+
+    @Benchmark
+    public String cachedToJsonApiResult() {
+        return Jackson.toJson(apiResult);
+    }
+
+    @Benchmark
+    public String mapperToJsonApiResult() throws Exception {
+        return mapper.writeValueAsString(apiResult);
+    }
+
+    @Benchmark
+    public String cachedToJsonSubscriberInfo() {
+        return Jackson.toJson(subscriberInfo);
+    }
+}
@@ -0,0 +1,72 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.core.jackson.Jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Jackson 大数组流式读写与整体读写对比基准测试(配合 -prof gc 观察内存分配)
+ *
+ * @author brucewuu
+ * @date 2026/10/18 12:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonStreamingBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private List<UserEntity> users;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserEntity user = UserEntity.sample();
+            user.setId((long) i);
+            users.add(user);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jackson.writeArray(out, users.iterator());
+        json = out.toByteArray();
+    }
+
+    @Benchmark
+    public long parseList() {
+        return Jackson.parseList(new ByteArrayInputStream(json), UserEntity.class).stream()
+                .mapToLong(UserEntity::getId)
+                .sum();
+    }
+
+    @Benchmark
+    public long streamArray() {
+        try (Stream<UserEntity> stream = Jackson.streamArray(new ByteArrayInputStream(json), UserEntity.class)) {
+            return stream.mapToLong(UserEntity::getId).sum();
+        }
+    }
+
+    @Benchmark
+    public void writeList() {
+        Jackson.writeTo(users, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void writeArray() {
+        Jackson.writeArray(OutputStream.nullOutputStream(), users.iterator());
+    }
+}
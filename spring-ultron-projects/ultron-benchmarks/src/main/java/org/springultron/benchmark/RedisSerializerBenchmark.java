@@ -0,0 +1,86 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.unit.DataSize;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.redis.config.RedisConfiguration;
+import org.springultron.redis.config.UltronRedisProperties;
+import org.springultron.redis.serializer.RedisCompression;
+import org.springultron.redis.serializer.RedisSerializerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value 序列化基准测试，典型缓存对象为 20 条实体的列表
+ * 序列化后的字节数由 serialize 基准的辅助计数器 serializedBytes 输出
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private RedisSerializerType type;
+
+    @Param({"NONE", "DEFLATE"})
+    private RedisCompression compression;
+
+    private RedisSerializer<Object> serializer;
+
+    private List<UserEntity> value;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        UltronRedisProperties properties = new UltronRedisProperties();
+        properties.getSerializer().setType(type);
+        properties.getSerializer().setCompression(compression);
+        properties.getSerializer().setCompressionThreshold(DataSize.ofBytes(512));
+        properties.getSerializer().getTypeAliases().put("user", UserEntity.class);
+        serializer = new RedisConfiguration().redisSerializer(properties);
+        value = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            UserEntity entity = UserEntity.sample();
+            entity.setId((long) i);
+            value.add(entity);
+        }
+        bytes = serializer.serialize(value);
+    }
+
+    /**
+     * 序列化结果大小，EVENTS 类型不按时间归一化，报告值即单次序列化的字节数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SizeCounters {
+
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(SizeCounters counters) {
+        byte[] result = serializer.serialize(value);
+        counters.serializedBytes = result.length;
+        return result;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+}
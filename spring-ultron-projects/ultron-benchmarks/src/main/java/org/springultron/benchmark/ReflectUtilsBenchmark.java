@@ -0,0 +1,76 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+import org.springultron.benchmark.model.UserEntity;
+import org.springultron.core.utils.ReflectUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReflectUtils 反射访问基准测试
+ * spring* 为 Spring ReflectionUtils 的实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 14:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectUtilsBenchmark {
+
+    private UserEntity entity;
+
+    private Field field;
+
+    private Method getter;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        entity = UserEntity.sample();
+        field = UserEntity.class.getDeclaredField("username");
+        ReflectionUtils.makeAccessible(field);
+        getter = UserEntity.class.getMethod("getUsername");
+    }
+
+    @Benchmark
+    public Object getFieldByName() {
+        return ReflectUtils.getField("username", entity);
+    }
+
+    @Benchmark
+    public Object getField() {
+        return ReflectUtils.getField(field, entity);
+    }
+
+    @Benchmark
+    public Object springGetField() {
+        return ReflectionUtils.getField(field, entity);
+    }
+
+    @Benchmark
+    public void setField() {
+        ReflectUtils.setField(field, entity, "ultron");
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return ReflectUtils.invokeMethod(getter, entity);
+    }
+
+    @Benchmark
+    public Object springInvokeMethod() {
+        return ReflectionUtils.invokeMethod(getter, entity);
+    }
+
+    @Benchmark
+    public PropertyDescriptor[] getBeanGetters() {
+        return ReflectUtils.getBeanGetters(UserEntity.class);
+    }
+}
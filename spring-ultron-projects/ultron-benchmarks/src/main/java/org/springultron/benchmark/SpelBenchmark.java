@@ -0,0 +1,82 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springultron.core.spel.UltronExpressionEvaluator;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁/缓存 key 的 spEl 求值基准测试
+ * context* 为每次创建 EvaluationContext 的完整求值，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 19:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpelBenchmark {
+
+    private final UltronExpressionEvaluator interpreted = new UltronExpressionEvaluator();
+
+    private final UltronExpressionEvaluator compiled = new UltronExpressionEvaluator(SpelCompilerMode.IMMEDIATE);
+
+    private Method method;
+
+    private Object[] args;
+
+    private AnnotatedElementKey methodKey;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = SpelBenchmark.class.getMethod("order", User.class, Long.class);
+        args = new Object[]{new User("ultron"), 1024L};
+        methodKey = new AnnotatedElementKey(method, SpelBenchmark.class);
+    }
+
+    public void order(User user, Long orderId) {
+    }
+
+    @Benchmark
+    public String templateProperty() {
+        return interpreted.evalAsText("#user.name", method, args, this, SpelBenchmark.class, null);
+    }
+
+    @Benchmark
+    public String contextProperty() {
+        EvaluationContext context = interpreted.createContext(method, args, this, SpelBenchmark.class, null);
+        return interpreted.evalAsText("#user.name", methodKey, context);
+    }
+
+    /**
+     * 非简单模板，回退为完整求值
+     */
+    @Benchmark
+    public String contextConcat() {
+        return interpreted.evalAsText("#user.name + ':' + #orderId", method, args, this, SpelBenchmark.class, null);
+    }
+
+    @Benchmark
+    public String compiledConcat() {
+        return compiled.evalAsText("#user.name + ':' + #orderId", method, args, this, SpelBenchmark.class, null);
+    }
+
+    public static class User {
+        private final String name;
+
+        public User(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springultron.core.utils.Splitter;
+import org.springultron.core.utils.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringUtils/Splitter 字符串分割基准测试
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    private static final String COMMA_LIST = "id,username,nickname,age,email,mobile,enabled,createTime";
+
+    private static final String HEADER_VALUE = "gzip, deflate; br , zstd";
+
+    private static final String REDIS_KEY = "ultron:cache:user:10086:profile";
+
+    private static final Splitter COMMA = Splitter.on(',');
+
+    private static final Splitter HEADER = Splitter.on(",; ");
+
+    private static final Splitter COLON = Splitter.on(':');
+
+    @Benchmark
+    public String[] splitChar() {
+        return StringUtils.split(COMMA_LIST, ',');
+    }
+
+    @Benchmark
+    public String[] splitChars() {
+        return StringUtils.split(HEADER_VALUE, ",; ");
+    }
+
+    @Benchmark
+    public String[] splitPreserveAllTokens() {
+        return StringUtils.splitPreserveAllTokens(COMMA_LIST, ',');
+    }
+
+    @Benchmark
+    public String[] splitterSplitChars() {
+        return HEADER.split(HEADER_VALUE);
+    }
+
+    @Benchmark
+    public void splitterForEachView(Blackhole bh) {
+        COMMA.forEachToken(COMMA_LIST, token -> bh.consume(token.length()));
+    }
+
+    @Benchmark
+    public void splitterForEachRange(Blackhole bh) {
+        COLON.forEachToken(REDIS_KEY, (source, start, end) -> bh.consume(end - start));
+    }
+
+    @Benchmark
+    public String deleteWhitespaceUnchanged() {
+        return StringUtils.deleteWhitespace(COMMA_LIST);
+    }
+}
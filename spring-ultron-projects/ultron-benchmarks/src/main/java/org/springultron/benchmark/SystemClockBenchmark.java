@@ -0,0 +1,71 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.utils.SystemClock;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存时钟与 System.currentTimeMillis() 对比基准测试（多线程读取）
+ *
+ * @author brucewuu
+ * @date 2026/10/18 11:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class SystemClockBenchmark {
+
+    @Param({"1", "5", "10"})
+    private long tickMillis;
+
+    @Param({"PAUSE_ON_IDLE", "ALWAYS_ON"})
+    private SystemClock.Mode mode;
+
+    private SystemClock clock;
+
+    @Setup
+    public void setup() {
+        clock = new SystemClock(tickMillis, mode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        clock.shutdown();
+    }
+
+    @Benchmark
+    public long clockMillis() {
+        return clock.now();
+    }
+
+    @Benchmark
+    public long clockNanos() {
+        return clock.monotonicNanos();
+    }
+
+    @Benchmark
+    public long systemCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public long systemNanoTime() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public String currentTimeToString() {
+        return SystemClock.currentTimeToString(clock.now());
+    }
+
+    @Benchmark
+    public String timestampToString() {
+        return new Timestamp(clock.now()).toString();
+    }
+}
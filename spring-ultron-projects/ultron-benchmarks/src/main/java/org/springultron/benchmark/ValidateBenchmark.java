@@ -0,0 +1,81 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.pool.PatternPool;
+import org.springultron.core.utils.RegexUtils;
+import org.springultron.core.utils.ValidateUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 格式校验基准测试
+ * regex* 为 {@link PatternPool} 正则实现，作为对比基线
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateBenchmark {
+
+    private static final String USER_NAME_REGEX = "^[a-zA-Z][a-zA-Z0-9_]{4,15}$";
+
+    private String mobile = "+8613800138000";
+
+    private String idCard = "11010519491231002X";
+
+    private String ipv4 = "192.168.100.254";
+
+    private String userName = "ultron_user";
+
+    @Benchmark
+    public boolean mobile() {
+        return ValidateUtils.isMobile(mobile);
+    }
+
+    @Benchmark
+    public boolean regexMobile() {
+        return PatternPool.MOBILE.matcher(mobile).matches();
+    }
+
+    @Benchmark
+    public boolean idCard() {
+        return ValidateUtils.isIdCard(idCard);
+    }
+
+    @Benchmark
+    public boolean regexIdCard() {
+        return PatternPool.ID_CARD.matcher(idCard).matches();
+    }
+
+    @Benchmark
+    public long ipv4() {
+        return ValidateUtils.parseIpv4(ipv4);
+    }
+
+    @Benchmark
+    public boolean regexIpv4() {
+        return PatternPool.IPV4.matcher(ipv4).matches();
+    }
+
+    /**
+     * 字符串正则，命中编译缓存
+     */
+    @Benchmark
+    public boolean cachedRegex() {
+        return RegexUtils.isMatch(userName, USER_NAME_REGEX);
+    }
+
+    /**
+     * 字符串正则，每次编译
+     */
+    @Benchmark
+    public boolean compileRegex() {
+        return Pattern.compile(USER_NAME_REGEX, Pattern.CASE_INSENSITIVE).matcher(userName).matches();
+    }
+}
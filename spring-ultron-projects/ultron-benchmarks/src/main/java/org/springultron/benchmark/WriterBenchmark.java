@@ -0,0 +1,83 @@
+package org.springultron.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springultron.core.io.ChunkedWriter;
+import org.springultron.core.io.FastStringWriter;
+import org.springultron.core.io.IOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChunkedWriter 与 FastStringWriter/StringBuilder 字符拼接及 UTF-8 输出基准测试
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class WriterBenchmark {
+
+    /**
+     * 拼接片段数
+     */
+    @Param({"16", "256", "4096"})
+    private int parts;
+
+    private final StringBuilder part = new StringBuilder("Request Args   :username=ultron, 中文内容\n");
+
+    private String text;
+
+    private final OutputStream discard = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setup() {
+        text = String.valueOf(part).repeat(parts);
+    }
+
+    @Benchmark
+    public String stringBuilder() {
+        final StringBuilder sb = new StringBuilder(1024);
+        for (int i = 0; i < parts; i++) {
+            sb.append(part).append(i);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String fastStringWriter() throws IOException {
+        try (FastStringWriter writer = new FastStringWriter(1024)) {
+            for (int i = 0; i < parts; i++) {
+                writer.append(part).append(String.valueOf(i));
+            }
+            return writer.toString();
+        }
+    }
+
+    @Benchmark
+    public String chunkedWriter() {
+        try (ChunkedWriter writer = new ChunkedWriter()) {
+            for (int i = 0; i < parts; i++) {
+                writer.append(part).append(i);
+            }
+            return writer.toString();
+        }
+    }
+
+    @Benchmark
+    public void getBytesUtf8() throws IOException {
+        discard.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void writeUtf8() throws IOException {
+        IOUtils.writeUtf8(text, discard);
+    }
+}
@@ -0,0 +1,192 @@
+package org.springultron.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+/**
+ * 基准测试用的公众号用户信息，字段多且带下划线别名，覆盖常见的第三方接口响应
+ *
+ * @author brucewuu
+ * @date 2026/10/19 09:30
+ */
+public class SubscriberInfo {
+
+    private int subscribe;
+
+    @JsonAlias(value = "openid")
+    private String openId;
+
+    @JsonAlias(value = "unionid")
+    private String unionId;
+
+    @JsonAlias(value = "nickname")
+    private String nickName;
+
+    @JsonAlias(value = "headimgurl")
+    private String headImgUrl;
+
+    private int sex;
+
+    private String country;
+
+    private String province;
+
+    private String city;
+
+    private String language;
+
+    @JsonAlias(value = "subscribe_time")
+    private long subscribeTime;
+
+    private String remark;
+
+    @JsonAlias(value = "groupid")
+    private int groupId;
+
+    @JsonAlias(value = "tagid_list")
+    private Integer[] tagIdList;
+
+    @JsonAlias(value = "subscribe_scene")
+    private String subscribeScene;
+
+    @JsonAlias(value = "qr_scene")
+    private String qrScene;
+
+    @JsonAlias(value = "qr_scene_str")
+    private String qrSceneStr;
+
+    public int getSubscribe() {
+        return subscribe;
+    }
+
+    public void setSubscribe(int subscribe) {
+        this.subscribe = subscribe;
+    }
+
+    public String getOpenId() {
+        return openId;
+    }
+
+    public void setOpenId(String openId) {
+        this.openId = openId;
+    }
+
+    public String getUnionId() {
+        return unionId;
+    }
+
+    public void setUnionId(String unionId) {
+        this.unionId = unionId;
+    }
+
+    public String getNickName() {
+        return nickName;
+    }
+
+    public void setNickName(String nickName) {
+        this.nickName = nickName;
+    }
+
+    public String getHeadImgUrl() {
+        return headImgUrl;
+    }
+
+    public void setHeadImgUrl(String headImgUrl) {
+        this.headImgUrl = headImgUrl;
+    }
+
+    public int getSex() {
+        return sex;
+    }
+
+    public void setSex(int sex) {
+        this.sex = sex;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public long getSubscribeTime() {
+        return subscribeTime;
+    }
+
+    public void setSubscribeTime(long subscribeTime) {
+        this.subscribeTime = subscribeTime;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public void setRemark(String remark) {
+        this.remark = remark;
+    }
+
+    public int getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(int groupId) {
+        this.groupId = groupId;
+    }
+
+    public Integer[] getTagIdList() {
+        return tagIdList;
+    }
+
+    public void setTagIdList(Integer[] tagIdList) {
+        this.tagIdList = tagIdList;
+    }
+
+    public String getSubscribeScene() {
+        return subscribeScene;
+    }
+
+    public void setSubscribeScene(String subscribeScene) {
+        this.subscribeScene = subscribeScene;
+    }
+
+    public String getQrScene() {
+        return qrScene;
+    }
+
+    public void setQrScene(String qrScene) {
+        this.qrScene = qrScene;
+    }
+
+    public String getQrSceneStr() {
+        return qrSceneStr;
+    }
+
+    public void setQrSceneStr(String qrSceneStr) {
+        this.qrSceneStr = qrSceneStr;
+    }
+}
@@ -0,0 +1,105 @@
+package org.springultron.benchmark.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 基准测试用实体
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:00
+ */
+public class UserEntity {
+
+    private Long id;
+
+    private String username;
+
+    private String nickname;
+
+    private Integer age;
+
+    private String email;
+
+    private String mobile;
+
+    private Boolean enabled;
+
+    private LocalDateTime createTime;
+
+    public static UserEntity sample() {
+        UserEntity entity = new UserEntity();
+        entity.setId(1024L);
+        entity.setUsername("ultron");
+        entity.setNickname("奥创");
+        entity.setAge(18);
+        entity.setEmail("ultron@springultron.org");
+        entity.setMobile("13800138000");
+        entity.setEnabled(Boolean.TRUE);
+        entity.setCreateTime(LocalDateTime.of(2026, 10, 18, 10, 0, 0));
+        return entity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getMobile() {
+        return mobile;
+    }
+
+    public void setMobile(String mobile) {
+        this.mobile = mobile;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+}
@@ -1,12 +1,30 @@
 package org.springultron.boot.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
 import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springultron.boot.enums.TaskMode;
+import org.springultron.boot.props.UltronTaskProperties;
+import org.springultron.boot.task.ContextTaskDecorator;
+import org.springultron.boot.task.VirtualTaskExecutor;
+import org.springultron.boot.task.VirtualTaskExecutorMetrics;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -14,12 +32,19 @@ import java.util.concurrent.ThreadPoolExecutor;
  * <p>
  * 官方提供的线程池配置 {@link TaskExecutionAutoConfiguration} {@link TaskSchedulingAutoConfiguration}
  * </p>
+ * 通过 ultron.task.mode 切换 @Async 的执行模式，见 {@link TaskMode}；
+ * 所有模式下异步任务均传递 traceId 及 SecurityContext
  *
  * @author brucewuu
  * @date 2024/05/03 17:39
  */
 @AutoConfiguration(before = {TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class})
+@EnableConfigurationProperties(UltronTaskProperties.class)
 public class UltronTaskAutoConfiguration {
+    /**
+     * 混合模式下虚拟线程执行器的 bean 名称
+     */
+    public static final String VIRTUAL_TASK_EXECUTOR_BEAN_NAME = "virtualTaskExecutor";
 
     @Bean
     public ThreadPoolTaskExecutorCustomizer threadPoolTaskExecutorCustomizer() {
@@ -35,4 +60,75 @@ public class UltronTaskAutoConfiguration {
         };
     }
 
-}
\ No newline at end of file
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public ContextTaskDecorator contextTaskDecorator() {
+        return new ContextTaskDecorator();
+    }
+
+    /**
+     * 虚拟线程需 JDK 21+，低版本 JDK 下启动失败并提示修改配置
+     */
+    private static VirtualTaskExecutor createVirtualTaskExecutor(UltronTaskProperties properties, ObjectProvider<TaskDecorator> taskDecorator) {
+        final int feature = Runtime.version().feature();
+        if (feature < 21) {
+            throw new IllegalStateException(TaskMode.ULTRON_TASK_MODE + "=" + properties.getMode().name().toLowerCase()
+                    + " requires JDK 21+, current JDK " + feature + "; use " + TaskMode.ULTRON_TASK_MODE + "=platform instead");
+        }
+        UltronTaskProperties.Virtual virtual = properties.getVirtual();
+        return new VirtualTaskExecutor(virtual.getThreadNamePrefix(), virtual.getMaxConcurrency(),
+                virtual.getAcquireTimeout(), taskDecorator.getIfUnique());
+    }
+
+    /**
+     * 虚拟线程模式：@Async 默认执行器为虚拟线程执行器
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = TaskMode.ULTRON_TASK_MODE, havingValue = "virtual")
+    static class VirtualTaskExecutorConfiguration {
+
+        @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+        @ConditionalOnMissingBean(Executor.class)
+        public VirtualTaskExecutor applicationTaskExecutor(UltronTaskProperties properties, ObjectProvider<TaskDecorator> taskDecorator) {
+            return createVirtualTaskExecutor(properties, taskDecorator);
+        }
+    }
+
+    /**
+     * 混合模式：@Async 默认执行器为平台线程池，另提供虚拟线程执行器
+     * 定义了虚拟线程执行器后 Spring Boot 不再创建默认线程池，这里按官方配置创建
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = TaskMode.ULTRON_TASK_MODE, havingValue = "hybrid")
+    static class HybridTaskExecutorConfiguration {
+
+        @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+        @ConditionalOnMissingBean(Executor.class)
+        public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+            return threadPoolTaskExecutorBuilder.build();
+        }
+
+        @Bean(VIRTUAL_TASK_EXECUTOR_BEAN_NAME)
+        @ConditionalOnMissingBean(name = VIRTUAL_TASK_EXECUTOR_BEAN_NAME)
+        public VirtualTaskExecutor virtualTaskExecutor(UltronTaskProperties properties, ObjectProvider<TaskDecorator> taskDecorator) {
+            return createVirtualTaskExecutor(properties, taskDecorator);
+        }
+    }
+
+    /**
+     * 虚拟线程执行器 Micrometer 指标，引入 actuator 后自动注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class VirtualTaskExecutorMetricsConfiguration {
+
+        @Bean
+        public MeterBinder virtualTaskExecutorMetrics(ListableBeanFactory beanFactory) {
+            return registry -> beanFactory.getBeansOfType(VirtualTaskExecutor.class, false, false)
+                    .forEach((name, executor) -> new VirtualTaskExecutorMetrics(executor, name).bindTo(registry));
+        }
+    }
+
+}
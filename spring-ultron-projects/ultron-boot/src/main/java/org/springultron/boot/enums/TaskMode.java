@@ -0,0 +1,32 @@
+package org.springultron.boot.enums;
+
+/**
+ * 异步任务执行模式
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:30
+ */
+public enum TaskMode {
+    /**
+     * 平台线程池(默认)，@Async 使用 Spring Boot 自动配置的 ThreadPoolTaskExecutor
+     */
+    PLATFORM,
+    /**
+     * 虚拟线程，@Async 每个任务一个虚拟线程，并发数由信号量限制
+     */
+    VIRTUAL,
+    /**
+     * 混合模式，@Async 默认使用平台线程池，另提供名为 virtualTaskExecutor 的虚拟线程执行器，
+     * 通过 @Async("virtualTaskExecutor") 指定给 I/O 密集型任务
+     */
+    HYBRID;
+
+    /**
+     * 异步任务配置前缀
+     */
+    public static final String ULTRON_TASK_PROPS_PREFIX = "ultron.task";
+    /**
+     * 异步任务执行模式
+     */
+    public static final String ULTRON_TASK_MODE = "ultron.task.mode";
+}
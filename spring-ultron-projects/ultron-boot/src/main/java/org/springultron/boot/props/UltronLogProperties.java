@@ -3,6 +3,9 @@ package org.springultron.boot.props;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springultron.boot.enums.LogLevel;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 请求日志配置
  *
@@ -19,6 +22,11 @@ public class UltronLogProperties {
      * 日志等级
      */
     private LogLevel level = LogLevel.BODY;
+    /**
+     * 可信代理网段(如 10.0.0.0/8)，配置后请求 IP 从右向左解析 X-Forwarded-For 并跳过可信代理，
+     * 为空时取 X-Forwarded-For 中第一个地址
+     */
+    private List<String> trustedProxies = new ArrayList<>();
 
     public boolean isEnable() {
         return enable;
@@ -35,4 +43,12 @@ public class UltronLogProperties {
     public void setLevel(LogLevel level) {
         this.level = level;
     }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
 }
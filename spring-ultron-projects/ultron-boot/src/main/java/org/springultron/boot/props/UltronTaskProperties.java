@@ -0,0 +1,75 @@
+package org.springultron.boot.props;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springultron.boot.enums.TaskMode;
+
+import java.time.Duration;
+
+/**
+ * 异步任务配置
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:30
+ */
+@ConfigurationProperties(TaskMode.ULTRON_TASK_PROPS_PREFIX)
+public class UltronTaskProperties {
+    /**
+     * 执行模式，默认平台线程池
+     */
+    private TaskMode mode = TaskMode.PLATFORM;
+    /**
+     * 虚拟线程执行器配置
+     */
+    private final Virtual virtual = new Virtual();
+
+    public TaskMode getMode() {
+        return mode;
+    }
+
+    public void setMode(TaskMode mode) {
+        this.mode = mode;
+    }
+
+    public Virtual getVirtual() {
+        return virtual;
+    }
+
+    public static class Virtual {
+        /**
+         * 最大并发任务数，超出的任务在虚拟线程中等待，小于等于 0 表示不限制
+         */
+        private int maxConcurrency = 256;
+        /**
+         * 等待执行的最长时间，超时的任务被拒绝，为空或 0 表示一直等待
+         */
+        private Duration acquireTimeout;
+        /**
+         * 线程名前缀
+         */
+        private String threadNamePrefix = "ultron-virtual-";
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        public String getThreadNamePrefix() {
+            return threadNamePrefix;
+        }
+
+        public void setThreadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+    }
+}
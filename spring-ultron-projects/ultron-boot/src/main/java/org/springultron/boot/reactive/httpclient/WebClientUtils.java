@@ -5,6 +5,7 @@ import org.springframework.http.MediaType;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springultron.logging.trace.TraceIdContext;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
@@ -51,6 +52,22 @@ public final class WebClientUtils {
         WebClientUtils.INSTANCE = builder.build();
     }
 
+    /**
+     * 组装时捕获当前线程的追踪ID写入 Reactor Context，
+     * 开启自动上下文传递(见 TraceIdReactorConfiguration)后，响应回调线程中的日志可带上追踪ID
+     *
+     * @param mono 请求
+     * @param <T>  返回值泛型
+     * @return 写入追踪ID的请求，当前线程没有追踪ID时返回原请求
+     */
+    private static <T> Mono<T> withTraceId(Mono<T> mono) {
+        final String traceId = TraceIdContext.snapshot();
+        if (traceId == null) {
+            return mono;
+        }
+        return mono.contextWrite(context -> context.hasKey(TraceIdContext.TRACE_ID) ? context : context.put(TraceIdContext.TRACE_ID, traceId));
+    }
+
     /**
      * 发起GET请求
      *
@@ -60,11 +77,11 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String targetUrl, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(targetUrl)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -116,11 +133,11 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(URI uri, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(uri)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -133,11 +150,11 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String baseUrl, Object[] uriVariables, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(baseUrl, uriVariables)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -150,11 +167,11 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String baseUrl, Map<String, ?> uriVariables, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(baseUrl, uriVariables)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -168,12 +185,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String targetUrl, String headerName, String headerValue, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(targetUrl)
                 .header(headerName, headerValue)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -186,12 +203,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String targetUrl, MultiValueMap<String, String> headerMap, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(targetUrl)
                 .headers(headers -> headers.addAll(headerMap))
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -206,12 +223,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> get(String baseUrl, Map<String, ?> uriVariables, String headerName, String headerValue, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .get()
                 .uri(baseUrl, uriVariables)
                 .header(headerName, headerValue)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -224,14 +241,14 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postJSON(String targetUrl, Object reqBody, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(targetUrl)
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(reqBody)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -246,7 +263,7 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postJSON(String baseUrl, String headerName, String headerValue, Object reqBody, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .header(headerName, headerValue)
@@ -254,7 +271,7 @@ public final class WebClientUtils {
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(reqBody)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -268,7 +285,7 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postJSON(String baseUrl, Map<String, String> headerMap, Object reqBody, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .headers(headers -> headers.setAll(headerMap))
@@ -276,7 +293,7 @@ public final class WebClientUtils {
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(reqBody)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -289,12 +306,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, BodyInserters.FormInserter<String> formInserter, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .body(formInserter)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -309,13 +326,13 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, String headerName, String headerValue, BodyInserters.FormInserter<String> formInserter, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .header(headerName, headerValue)
                 .body(formInserter)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -329,13 +346,13 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, Map<String, String> headerMap, BodyInserters.FormInserter<String> formInserter, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .headers(headers -> headers.setAll(headerMap))
                 .body(formInserter)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -348,12 +365,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, Object formData, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .bodyValue(formData)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -368,13 +385,13 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, String headerName, String headerValue, Object formData, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .header(headerName, headerValue)
                 .bodyValue(formData)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 
     /**
@@ -388,12 +405,12 @@ public final class WebClientUtils {
      * @return 返回值Mono对象
      */
     public static <T> Mono<T> postForm(String baseUrl, Map<String, String> headerMap, Object formData, Class<T> returnType) {
-        return getInstance()
+        return withTraceId(getInstance()
                 .post()
                 .uri(baseUrl)
                 .headers(headers -> headers.setAll(headerMap))
                 .bodyValue(formData)
                 .retrieve()
-                .bodyToMono(returnType);
+                .bodyToMono(returnType));
     }
 }
@@ -24,6 +24,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springultron.boot.enums.LogLevel;
 import org.springultron.boot.props.UltronLogProperties;
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.core.jackson.Jackson;
 import org.springultron.core.pool.StringPool;
 import org.springultron.core.utils.*;
@@ -51,9 +52,12 @@ public class RequestLogAspect {
 
     private final UltronLogProperties ultronLogProperties;
 
+    private final CidrMatcher trustedProxies;
+
     @Autowired
     public RequestLogAspect(UltronLogProperties ultronLogProperties) {
         this.ultronLogProperties = ultronLogProperties;
+        this.trustedProxies = CidrMatcher.of(ultronLogProperties.getTrustedProxies());
     }
 
     /**
@@ -70,61 +74,63 @@ public class RequestLogAspect {
             return point.proceed();
         }
         final long startTime = System.nanoTime();
-        // 构建成一条长日志，避免并发下日志错乱
-        StringBuilder reqLog = new StringBuilder(1024);
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        reqLog.append("================ Start ================");
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        // 打印调用 controller 的全路径以及执行方法
-        reqLog.append("Class Method   : ")
-                .append(point.getSignature().getDeclaringTypeName())
-                .append(".")
-                .append(point.getSignature().getName());
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        // 打印描述信息
-        reqLog.append("Description    : ").append(apiLog.description());
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        // 打印请求 url
-        reqLog.append("URL            : ").append(request.getRequestURL());
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        // 打印 Http method
-        reqLog.append("HTTP Method    : ").append(request.getMethod());
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        if (LogLevel.HEADERS == ultronLogProperties.getLevel() || LogLevel.HEADERS == apiLog.level()) {
-            // 打印请求头
-            Enumeration<String> headers = request.getHeaderNames();
-            while (headers.hasMoreElements()) {
-                String headerName = headers.nextElement();
-                String headerValue = request.getHeader(headerName);
-                reqLog.append("HTTP Header    : ").append(headerName).append("=").append(headerValue);
-                reqLog.append(StringPool.LINE_SEPARATOR);
-            }
-        }
-        // 打印请求的 IP
-        reqLog.append("IP             : ").append(WebUtils.getRemoteIP(request));
-        reqLog.append(StringPool.LINE_SEPARATOR);
-        // 打印请求入参
-        this.buildRequestArgs(point, reqLog);
-        try {
-            // 执行请求获取返回值
-            Object result = point.proceed();
-            if (LogLevel.BASIC != ultronLogProperties.getLevel() && LogLevel.BASIC != apiLog.level()) {
-                // 打印返回值
-                reqLog.append("ResponseBody   : ").append(Jackson.toJson(result));
-            }
-            return result;
-        } finally {
+        // 构建成一条长日志，避免并发下日志错乱，分段缓冲区来自缓冲池，日志输出后归还
+        try (ChunkedWriter reqLog = new ChunkedWriter()) {
+            reqLog.append(StringPool.LINE_SEPARATOR);
+            reqLog.append("================ Start ================");
+            reqLog.append(StringPool.LINE_SEPARATOR);
+            // 打印调用 controller 的全路径以及执行方法
+            reqLog.append("Class Method   : ")
+                    .append(point.getSignature().getDeclaringTypeName())
+                    .append(".")
+                    .append(point.getSignature().getName());
+            reqLog.append(StringPool.LINE_SEPARATOR);
+            // 打印描述信息
+            reqLog.append("Description    : ").append(apiLog.description());
+            reqLog.append(StringPool.LINE_SEPARATOR);
+            // 打印请求 url
+            reqLog.append("URL            : ").append(request.getRequestURL());
             reqLog.append(StringPool.LINE_SEPARATOR);
-            // 执行耗时
-            reqLog.append("Time-Consuming : ").append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).append(" ms");
+            // 打印 Http method
+            reqLog.append("HTTP Method    : ").append(request.getMethod());
             reqLog.append(StringPool.LINE_SEPARATOR);
-            reqLog.append("================ End ================");
+            if (LogLevel.HEADERS == ultronLogProperties.getLevel() || LogLevel.HEADERS == apiLog.level()) {
+                // 打印请求头
+                Enumeration<String> headers = request.getHeaderNames();
+                while (headers.hasMoreElements()) {
+                    String headerName = headers.nextElement();
+                    String headerValue = request.getHeader(headerName);
+                    reqLog.append("HTTP Header    : ").append(headerName).append("=").append(headerValue);
+                    reqLog.append(StringPool.LINE_SEPARATOR);
+                }
+            }
+            // 打印请求的 IP
+            reqLog.append("IP             : ").append(WebUtils.getRemoteIP(request, trustedProxies));
             reqLog.append(StringPool.LINE_SEPARATOR);
-            log.info(reqLog.toString());
+            // 打印请求入参
+            this.buildRequestArgs(point, reqLog);
+            try {
+                // 执行请求获取返回值
+                Object result = point.proceed();
+                if (LogLevel.BASIC != ultronLogProperties.getLevel() && LogLevel.BASIC != apiLog.level()) {
+                    // 打印返回值
+                    reqLog.append("ResponseBody   : ");
+                    Jackson.writeTo(result, reqLog);
+                }
+                return result;
+            } finally {
+                reqLog.append(StringPool.LINE_SEPARATOR);
+                // 执行耗时
+                reqLog.append("Time-Consuming : ").append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).append(" ms");
+                reqLog.append(StringPool.LINE_SEPARATOR);
+                reqLog.append("================ End ================");
+                reqLog.append(StringPool.LINE_SEPARATOR);
+                log.info(reqLog.toString());
+            }
         }
     }
 
-    private void buildRequestArgs(ProceedingJoinPoint point, StringBuilder reqLog) {
+    private void buildRequestArgs(ProceedingJoinPoint point, ChunkedWriter reqLog) {
         Object[] args = point.getArgs();
         int length = ArrayUtils.getLength(args);
         if (length == 0) {
@@ -185,23 +191,35 @@ public class RequestLogAspect {
             } else if (value instanceof InputStreamSource) {
                 paramsMap.put(parameterName, "InputStreamSource");
             } else if (Jackson.canSerialize(value)) {
-                // 判断模型能被 json 序列化，则添加
-                paramsMap.put(parameterName, Jackson.toJson(value));
+                // 判断模型能被 json 序列化，则添加，输出日志时直接序列化到日志缓冲区
+                paramsMap.put(parameterName, new JsonArg(value));
             } else {
                 paramsMap.put(parameterName, "【注意】不能序列化为json");
             }
         }
 
         if (reqBody != null) {
-            reqLog.append("RequestBody    : ").append(Jackson.toJson(reqBody));
+            reqLog.append("RequestBody    : ");
+            Jackson.writeTo(reqBody, reqLog);
             reqLog.append(StringPool.LINE_SEPARATOR);
         }
 
         if (!paramsMap.isEmpty()) {
             for (Map.Entry<String, Object> entry : paramsMap.entrySet()) {
-                reqLog.append("Request Args   :").append(entry.getKey()).append("=").append(entry.getValue());
+                reqLog.append("Request Args   :").append(entry.getKey()).append("=");
+                if (entry.getValue() instanceof JsonArg jsonArg) {
+                    Jackson.writeTo(jsonArg.value(), reqLog);
+                } else {
+                    reqLog.append(String.valueOf(entry.getValue()));
+                }
                 reqLog.append(StringPool.LINE_SEPARATOR);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 需序列化为 json 输出的请求参数
+     */
+    private record JsonArg(Object value) {
+    }
+}
@@ -0,0 +1,63 @@
+package org.springultron.boot.task;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+import org.springultron.logging.trace.TraceIdContext;
+
+/**
+ * 异步任务上下文传递：提交时捕获 traceId 及 SecurityContext，执行时设置，执行完恢复工作线程原有上下文
+ * <p>
+ * traceId 只做单值快照({@link TraceIdContext#snapshot()})，不复制整个 MDC；未引入 spring-security 时只传递 traceId
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:30
+ */
+public class ContextTaskDecorator implements TaskDecorator {
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder", ContextTaskDecorator.class.getClassLoader());
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        final String traceId = TraceIdContext.snapshot();
+        final Object securityContext = SECURITY_PRESENT ? SecurityContextSupport.capture() : null;
+        if (traceId == null && securityContext == null) {
+            return runnable;
+        }
+        return () -> {
+            final String previousTraceId = TraceIdContext.restore(traceId);
+            final Object previousSecurityContext = SECURITY_PRESENT ? SecurityContextSupport.capture() : null;
+            if (SECURITY_PRESENT) {
+                SecurityContextSupport.restore(securityContext);
+            }
+            try {
+                runnable.run();
+            } finally {
+                TraceIdContext.restore(previousTraceId);
+                if (SECURITY_PRESENT) {
+                    SecurityContextSupport.restore(previousSecurityContext);
+                }
+            }
+        };
+    }
+
+    /**
+     * 隔离对 spring-security 的引用，未引入时不会加载
+     */
+    private static final class SecurityContextSupport {
+
+        private static Object capture() {
+            final SecurityContext context = SecurityContextHolder.getContext();
+            return context.getAuthentication() == null ? null : context;
+        }
+
+        private static void restore(Object context) {
+            if (context == null) {
+                SecurityContextHolder.clearContext();
+            } else {
+                SecurityContextHolder.setContext((SecurityContext) context);
+            }
+        }
+    }
+}
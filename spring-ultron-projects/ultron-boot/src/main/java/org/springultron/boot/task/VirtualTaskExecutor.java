@@ -0,0 +1,222 @@
+package org.springultron.boot.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 虚拟线程执行器，每个任务一个虚拟线程，需 JDK 21+
+ * <p>
+ * 1、并发数由信号量限制以保护下游，超出的任务在各自的虚拟线程中等待许可，不占用平台线程，也不阻塞提交方
+ * 2、等待超过 acquireTimeout 的任务被拒绝：submit/submitCompletable 返回的 Future 以 {@link TaskRejectedException} 异常完成
+ * 3、{@link TaskDecorator} 在提交线程中调用，用于传递 MDC、SecurityContext 等上下文
+ * 4、{@link #getQueueSize()}、{@link #getActiveCount()}、{@link #getRejectedCount()} 可用于监控
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:30
+ */
+public class VirtualTaskExecutor implements AsyncTaskExecutor {
+    private static final Logger log = LoggerFactory.getLogger(VirtualTaskExecutor.class);
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrency;
+    /**
+     * 为 null 时不限制并发
+     */
+    @Nullable
+    private final Semaphore semaphore;
+    /**
+     * 等待许可的纳秒数，小于等于 0 时一直等待
+     */
+    private final long acquireTimeoutNanos;
+    @Nullable
+    private final TaskDecorator taskDecorator;
+
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param threadNamePrefix 线程名前缀
+     * @param maxConcurrency   最大并发任务数，小于等于 0 表示不限制
+     * @param acquireTimeout   等待执行的最长时间，为 null 或 0 表示一直等待
+     * @param taskDecorator    任务装饰器
+     */
+    public VirtualTaskExecutor(String threadNamePrefix, int maxConcurrency, @Nullable Duration acquireTimeout,
+                               @Nullable TaskDecorator taskDecorator) {
+        Assert.hasText(threadNamePrefix, "threadNamePrefix must not be empty");
+        // 项目基线为 JDK 17，借助 Spring 的多版本实现创建虚拟线程，JDK 版本由自动配置提前校验
+        this.threadFactory = new org.springframework.core.task.VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+        this.maxConcurrency = maxConcurrency;
+        this.semaphore = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.acquireTimeoutNanos = acquireTimeout == null ? 0L : acquireTimeout.toNanos();
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Assert.notNull(task, "Runnable must not be null");
+        final Runnable decorated = taskDecorator != null ? taskDecorator.decorate(task) : task;
+        threadFactory.newThread(() -> run(task, decorated)).start();
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        TaskFuture<Object> future = new TaskFuture<>(Executors.callable(task, null));
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        TaskFuture<T> future = new TaskFuture<>(task);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> submitCompletable(Runnable task) {
+        return submitCompletable(Executors.callable(task, null));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitCompletable(Callable<T> task) {
+        CompletableTask<T> completableTask = new CompletableTask<>(task);
+        execute(completableTask);
+        return completableTask.future;
+    }
+
+    private void run(Runnable task, Runnable decorated) {
+        if (semaphore != null && !acquire(semaphore)) {
+            rejectedCount.increment();
+            TaskRejectedException ex = new TaskRejectedException("VirtualTaskExecutor did not accept task: " + task + ", max concurrency reached");
+            if (task instanceof Rejectable rejectable) {
+                rejectable.reject(ex);
+            } else {
+                log.warn(ex.getMessage());
+            }
+            return;
+        }
+        activeCount.incrementAndGet();
+        try {
+            decorated.run();
+        } finally {
+            activeCount.decrementAndGet();
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        queueSize.incrementAndGet();
+        try {
+            if (acquireTimeoutNanos <= 0) {
+                semaphore.acquire();
+                return true;
+            }
+            return semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queueSize.decrementAndGet();
+        }
+    }
+
+    /**
+     * 等待执行的任务数
+     *
+     * @return 任务数
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * 正在执行的任务数
+     *
+     * @return 任务数
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * 累计被拒绝的任务数
+     *
+     * @return 任务数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 最大并发任务数
+     *
+     * @return 不限制时为 -1
+     */
+    public int getMaxConcurrency() {
+        return semaphore == null ? -1 : maxConcurrency;
+    }
+
+    /**
+     * 任务被拒绝时通知调用方
+     */
+    private interface Rejectable {
+        void reject(TaskRejectedException ex);
+    }
+
+    private static final class TaskFuture<T> extends FutureTask<T> implements Rejectable {
+        private TaskFuture(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void reject(TaskRejectedException ex) {
+            setException(ex);
+        }
+    }
+
+    private static final class CompletableTask<T> implements Runnable, Rejectable {
+        private final Callable<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private CompletableTask(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(task.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void reject(TaskRejectedException ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+}
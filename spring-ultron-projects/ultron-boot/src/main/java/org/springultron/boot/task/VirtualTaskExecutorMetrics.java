@@ -0,0 +1,54 @@
+package org.springultron.boot.task;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 虚拟线程执行器指标：ultron.task.queued(等待执行)、ultron.task.active(正在执行)、ultron.task.rejected(累计拒绝)
+ *
+ * @author brucewuu
+ * @date 2026/10/18 20:30
+ */
+public class VirtualTaskExecutorMetrics implements MeterBinder {
+    private final VirtualTaskExecutor executor;
+    private final Tags tags;
+
+    /**
+     * @param executor 虚拟线程执行器
+     * @param name     执行器名称，作为 name 标签
+     */
+    public VirtualTaskExecutorMetrics(VirtualTaskExecutor executor, String name) {
+        this.executor = executor;
+        this.tags = Tags.of(Tag.of("name", name));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ultron.task.queued", executor, VirtualTaskExecutor::getQueueSize)
+                .tags(tags)
+                .description("The approximate number of tasks waiting for a permit")
+                .baseUnit("tasks")
+                .register(registry);
+        Gauge.builder("ultron.task.active", executor, VirtualTaskExecutor::getActiveCount)
+                .tags(tags)
+                .description("The approximate number of tasks that are actively executing")
+                .baseUnit("tasks")
+                .register(registry);
+        FunctionCounter.builder("ultron.task.rejected", executor, VirtualTaskExecutor::getRejectedCount)
+                .tags(tags)
+                .description("The total number of tasks rejected after waiting for a permit")
+                .baseUnit("tasks")
+                .register(registry);
+        if (executor.getMaxConcurrency() > 0) {
+            Gauge.builder("ultron.task.max.concurrency", executor, VirtualTaskExecutor::getMaxConcurrency)
+                    .tags(tags)
+                    .description("The maximum number of concurrently executing tasks")
+                    .baseUnit("tasks")
+                    .register(registry);
+        }
+    }
+}
@@ -2,9 +2,7 @@ package org.springultron.core.constraints;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Optional;
-import java.util.regex.Pattern;
+import org.springultron.core.utils.ValidateUtils;
 
 /**
  * 身份证校验规则
@@ -16,6 +14,6 @@ public class IdCardValidator implements ConstraintValidator<IdCard, String> {
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        return Optional.ofNullable(value).map(v -> Pattern.compile("(^[1-9]\\d{7}((0\\d)|(1[0-2]))(([0|1|2]\\d)|3[0-1])\\d{2}[0-9Xx]$)|(^[1-9]\\d{5}[1-9]\\d{3}((0\\d)|(1[0-2]))(([0|1|2]\\d)|3[0-1])\\d{3}[0-9Xx]$)").matcher(v).matches()).orElse(Boolean.FALSE);
+        return ValidateUtils.isIdCard(value);
     }
 }
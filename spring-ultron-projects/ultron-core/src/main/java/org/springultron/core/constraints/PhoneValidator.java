@@ -2,9 +2,7 @@ package org.springultron.core.constraints;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import org.springultron.core.utils.RegexUtils;
-
-import java.util.Optional;
+import org.springultron.core.utils.ValidateUtils;
 
 /**
  * 手机号码校验规则
@@ -16,6 +14,6 @@ public class PhoneValidator implements ConstraintValidator<Phone, String> {
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        return Optional.ofNullable(value).map(RegexUtils::matchPhone).orElse(Boolean.FALSE);
+        return ValidateUtils.isMobile(value);
     }
 }
\ No newline at end of file
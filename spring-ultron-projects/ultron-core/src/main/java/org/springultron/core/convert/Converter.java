@@ -18,6 +18,21 @@ public abstract class Converter<A, B> implements Function<A, B> {
     @Lazy
     private transient Converter<B, A> reverse;
 
+    /**
+     * 基于 {@link ConverterRegistry} 的双向类型转换，转换函数在创建时解析，之后不再查表
+     *
+     * @param aType 类型 A
+     * @param bType 类型 B
+     * @param <A>   泛型
+     * @param <B>   泛型
+     * @return Converter
+     */
+    public static <A, B> Converter<A, B> of(Class<A> aType, Class<B> bType) {
+        Objects.requireNonNull(aType, "aType can not be null");
+        Objects.requireNonNull(bType, "bType can not be null");
+        return new TypeConverter<>(aType, bType);
+    }
+
     protected abstract B doForward(A a);
 
     protected abstract A doBackward(B b);
@@ -73,6 +88,38 @@ public abstract class Converter<A, B> implements Function<A, B> {
         return this.convert(a);
     }
 
+    private static final class TypeConverter<A, B> extends Converter<A, B> {
+        private final Class<A> aType;
+        private final Class<B> bType;
+        private final Function<Object, Object> forward;
+        private final Function<Object, Object> backward;
+
+        TypeConverter(Class<A> aType, Class<B> bType) {
+            this.aType = aType;
+            this.bType = bType;
+            this.forward = ConverterRegistry.getConverter(aType, bType, null);
+            this.backward = ConverterRegistry.getConverter(bType, aType, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected B doForward(A a) {
+            // 实际类型为子类时按实际类型解析
+            return (B) (a.getClass() == aType ? forward : ConverterRegistry.getConverter(a.getClass(), bType, null)).apply(a);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected A doBackward(B b) {
+            return (A) (b.getClass() == bType ? backward : ConverterRegistry.getConverter(b.getClass(), aType, null)).apply(b);
+        }
+
+        @Override
+        public String toString() {
+            return "Converter.of(" + aType.getName() + ", " + bType.getName() + ")";
+        }
+    }
+
     private static final class ReverseConverter<A, B> extends Converter<B, A> implements Serializable {
         private static final long serialVersionUID = 0L;
         final Converter<A, B> original;
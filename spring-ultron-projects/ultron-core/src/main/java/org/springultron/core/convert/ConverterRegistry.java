@@ -0,0 +1,210 @@
+package org.springultron.core.convert;
+
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+import org.springultron.core.utils.ClassUtils;
+import org.springultron.core.utils.DateUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 类型转换注册表
+ * <p>
+ * 按 (源类型, 目标类型, TypeDescriptor) 解析并缓存转换函数，转换时不再查找 PropertyEditor：
+ * 1、类型兼容(集合、Map、数组除外)直接返回原值
+ * 2、String 转 int/long/BigDecimal/LocalDateTime 及数字类型之间的转换使用专用实现，语义与 Spring 默认的 CustomNumberEditor 一致
+ * 3、其余交给 {@link SimpleTypeConverter}(PropertyEditor 有状态，不能在线程间共享)，实例借自有界对象池、用后归还，
+ * 不与线程绑定，适用于虚拟线程
+ *
+ * @author brucewuu
+ * @date 2026/10/18 19:30
+ */
+public final class ConverterRegistry {
+
+    private static final Map<ConverterKey, Function<Object, Object>> CACHE = new ConcurrentReferenceHashMap<>(256);
+
+    /**
+     * 空闲 SimpleTypeConverter 上限
+     */
+    private static final int MAX_IDLE_CONVERTERS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final Queue<SimpleTypeConverter> IDLE_CONVERTERS = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicInteger IDLE_SIZE = new AtomicInteger();
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * 对象值转换
+     *
+     * @param value          值
+     * @param requiredType   需转换对象类型
+     * @param typeDescriptor 目标类型描述，用于集合元素等泛型转换
+     * @param <T>            泛型
+     * @return 转换结果
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> T convert(@Nullable Object value, Class<T> requiredType, @Nullable TypeDescriptor typeDescriptor) {
+        if (value == null) {
+            return convertIfNecessary(null, requiredType, typeDescriptor);
+        }
+        return (T) getConverter(value.getClass(), requiredType, typeDescriptor).apply(value);
+    }
+
+    /**
+     * 获取转换函数，结果已缓存，可在调用方长期持有
+     *
+     * @param sourceType     源类型
+     * @param targetType     目标类型
+     * @param typeDescriptor 目标类型描述
+     * @return 转换函数，参数不能为 null
+     */
+    public static Function<Object, Object> getConverter(Class<?> sourceType, Class<?> targetType, @Nullable TypeDescriptor typeDescriptor) {
+        return CACHE.computeIfAbsent(new ConverterKey(sourceType, targetType, typeDescriptor), ConverterRegistry::resolve);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static Function<Object, Object> resolve(ConverterKey key) {
+        final Class<?> sourceType = key.sourceType();
+        final Class<?> targetType = key.targetType();
+        if (ClassUtils.isAssignable(targetType, sourceType) && !needsElementConversion(targetType)) {
+            return Function.identity();
+        }
+        final Class<?> target = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+        final boolean primitive = targetType.isPrimitive();
+        if (sourceType == String.class) {
+            if (target == Integer.class) {
+                return value -> parseInt((String) value, primitive);
+            }
+            if (target == Long.class) {
+                return value -> parseLong((String) value, primitive);
+            }
+            if (target == BigDecimal.class) {
+                return value -> parseNumber((String) value, BigDecimal.class, false);
+            }
+            if (target == LocalDateTime.class) {
+                return value -> parseDateTime((String) value);
+            }
+        }
+        if (Number.class.isAssignableFrom(sourceType) && NumberUtils.STANDARD_NUMBER_TYPES.contains(target)) {
+            @SuppressWarnings("unchecked") final Class<? extends Number> numberType = (Class<? extends Number>) target;
+            return value -> NumberUtils.convertNumberToTargetClass((Number) value, numberType);
+        }
+        final TypeDescriptor typeDescriptor = key.typeDescriptor();
+        return value -> convertIfNecessary(value, targetType, typeDescriptor);
+    }
+
+    /**
+     * 借出 SimpleTypeConverter 完成转换后归还，池空时新建，池满时丢弃
+     */
+    @Nullable
+    private static <T> T convertIfNecessary(@Nullable Object value, Class<T> requiredType, @Nullable TypeDescriptor typeDescriptor) {
+        SimpleTypeConverter converter = IDLE_CONVERTERS.poll();
+        if (converter != null) {
+            IDLE_SIZE.decrementAndGet();
+        } else {
+            converter = new SimpleTypeConverter();
+        }
+        try {
+            return converter.convertIfNecessary(value, requiredType, typeDescriptor);
+        } finally {
+            if (IDLE_SIZE.incrementAndGet() <= MAX_IDLE_CONVERTERS) {
+                IDLE_CONVERTERS.offer(converter);
+            } else {
+                IDLE_SIZE.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 集合、Map、数组即使类型兼容也可能需要按泛型转换元素
+     */
+    private static boolean needsElementConversion(Class<?> targetType) {
+        return targetType.isArray() || Collection.class.isAssignableFrom(targetType) || Map.class.isAssignableFrom(targetType);
+    }
+
+    @Nullable
+    private static Integer parseInt(String text, boolean primitive) {
+        if (isDecimal(text) && text.length() < 10) {
+            return Integer.parseInt(text);
+        }
+        return parseNumber(text, Integer.class, primitive);
+    }
+
+    @Nullable
+    private static Long parseLong(String text, boolean primitive) {
+        if (isDecimal(text) && text.length() < 19) {
+            return Long.parseLong(text);
+        }
+        return parseNumber(text, Long.class, primitive);
+    }
+
+    /**
+     * 与 CustomNumberEditor 一致：包装类型空白字符串转为 null，支持前后空白及十六进制
+     */
+    @Nullable
+    private static <T extends Number> T parseNumber(String text, Class<T> type, boolean primitive) {
+        if (!primitive && !StringUtils.hasText(text)) {
+            return null;
+        }
+        return NumberUtils.parseNumber(text, type);
+    }
+
+    /**
+     * 支持 yyyy-MM-dd HH:mm:ss 及 ISO-8601(yyyy-MM-ddTHH:mm:ss)格式，空白字符串转为 null
+     */
+    @Nullable
+    private static LocalDateTime parseDateTime(String text) {
+        if (!StringUtils.hasText(text)) {
+            return null;
+        }
+        final String trimmed = text.trim();
+        if (trimmed.length() > 10 && trimmed.charAt(10) == 'T') {
+            return LocalDateTime.parse(trimmed);
+        }
+        return DateUtils.parseDateTime(trimmed);
+    }
+
+    /**
+     * 是否为不带空白的十进制整数，长度由调用方限制以避免溢出
+     */
+    private static boolean isDecimal(String text) {
+        final int length = text.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = text.charAt(0) == '-' ? 1 : 0;
+        if (i == length) {
+            return false;
+        }
+        for (; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record ConverterKey(Class<?> sourceType, Class<?> targetType, @Nullable TypeDescriptor typeDescriptor) {
+    }
+}
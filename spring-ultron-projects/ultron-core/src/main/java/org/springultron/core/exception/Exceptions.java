@@ -16,7 +16,7 @@
 
 package org.springultron.core.exception;
 
-import org.springultron.core.io.FastStringWriter;
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.core.pool.StringPool;
 
 import java.io.PrintWriter;
@@ -116,8 +116,9 @@ public class Exceptions {
      * @return {String}
      */
     public static String getStackTraceString(Throwable e) {
-        FastStringWriter stringWriter = new FastStringWriter(512);
-        e.printStackTrace(new PrintWriter(stringWriter));
-        return stringWriter.toString();
+        try (ChunkedWriter stringWriter = new ChunkedWriter()) {
+            e.printStackTrace(new PrintWriter(stringWriter));
+            return stringWriter.toString();
+        }
     }
 }
\ No newline at end of file
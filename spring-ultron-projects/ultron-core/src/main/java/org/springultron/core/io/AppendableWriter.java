@@ -0,0 +1,78 @@
+package org.springultron.core.io;
+
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * 将 {@link Appendable}(如 StringBuilder) 适配为 {@link Writer}，写入内容直接追加到目标，不产生中间字符串
+ *
+ * @author brucewuu
+ * @date 2026/10/18 11:30
+ */
+public class AppendableWriter extends Writer {
+
+    private final Appendable target;
+
+    public AppendableWriter(Appendable target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        target.append((char) c);
+    }
+
+    @Override
+    public void write(@NonNull char[] c, int off, int len) throws IOException {
+        if (target instanceof StringBuilder sb) {
+            sb.append(c, off, len);
+        } else {
+            target.append(CharBuffer.wrap(c, off, len));
+        }
+    }
+
+    @Override
+    public void write(@NonNull String str, int off, int len) throws IOException {
+        target.append(str, off, off + len);
+    }
+
+    @Override
+    public AppendableWriter append(CharSequence csq) throws IOException {
+        target.append(csq);
+        return this;
+    }
+
+    @Override
+    public AppendableWriter append(CharSequence csq, int start, int end) throws IOException {
+        target.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public AppendableWriter append(char c) throws IOException {
+        target.append(c);
+        return this;
+    }
+
+    public Appendable getTarget() {
+        return target;
+    }
+
+    @Override
+    public String toString() {
+        return target.toString();
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+    }
+
+    @Override
+    public void close() throws IOException {
+
+    }
+}
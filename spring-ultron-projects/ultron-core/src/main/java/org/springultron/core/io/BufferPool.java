@@ -0,0 +1,164 @@
+package org.springultron.core.io;
+
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 固定大小的 char[]/byte[]/直接内存 缓冲区池
+ * <p>
+ * 1、缓冲区大小固定，借出即用，无需按大小分级查找
+ * 2、缓冲区在使用期间由调用方独占，不与线程绑定，适用于虚拟线程
+ * 3、每种缓冲区空闲数量不超过 {@link #MAX_IDLE}，超出时归还的缓冲区直接丢弃，交由 GC 回收
+ * <p>
+ * 使用方式：
+ * <pre>
+ * final char[] buffer = BufferPool.acquireChars();
+ * try {
+ *     ...
+ * } finally {
+ *     BufferPool.release(buffer);
+ * }
+ * </pre>
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:30
+ */
+public final class BufferPool {
+
+    private BufferPool() {
+    }
+
+    /**
+     * char 缓冲区大小
+     */
+    public static final int CHAR_BUFFER_SIZE = 4096;
+
+    /**
+     * byte 缓冲区大小
+     */
+    public static final int BYTE_BUFFER_SIZE = 8192;
+
+    /**
+     * 直接内存缓冲区大小
+     */
+    public static final int DIRECT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 每种缓冲区空闲数量上限
+     */
+    static final int MAX_IDLE = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+    private static final Pool<char[]> CHARS = new Pool<>();
+
+    private static final Pool<byte[]> BYTES = new Pool<>();
+
+    private static final Pool<ByteBuffer> DIRECT = new Pool<>();
+
+    /**
+     * 借出长度为 {@link #CHAR_BUFFER_SIZE} 的 char 数组，内容未清空
+     *
+     * @return char[]
+     */
+    public static char[] acquireChars() {
+        final char[] buffer = CHARS.poll();
+        return buffer != null ? buffer : new char[CHAR_BUFFER_SIZE];
+    }
+
+    /**
+     * 借出长度为 {@link #BYTE_BUFFER_SIZE} 的 byte 数组，内容未清空
+     *
+     * @return byte[]
+     */
+    public static byte[] acquireBytes() {
+        final byte[] buffer = BYTES.poll();
+        return buffer != null ? buffer : new byte[BYTE_BUFFER_SIZE];
+    }
+
+    /**
+     * 借出容量为 {@link #DIRECT_BUFFER_SIZE} 的直接内存缓冲区，已 clear
+     *
+     * @return ByteBuffer
+     */
+    public static ByteBuffer acquireDirect() {
+        final ByteBuffer buffer = DIRECT.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+    }
+
+    /**
+     * 归还 char 数组，长度不是 {@link #CHAR_BUFFER_SIZE} 时忽略
+     *
+     * @param buffer char[]
+     */
+    public static void release(@Nullable char[] buffer) {
+        if (buffer != null && buffer.length == CHAR_BUFFER_SIZE) {
+            CHARS.offer(buffer);
+        }
+    }
+
+    /**
+     * 归还 byte 数组，长度不是 {@link #BYTE_BUFFER_SIZE} 时忽略
+     *
+     * @param buffer byte[]
+     */
+    public static void release(@Nullable byte[] buffer) {
+        if (buffer != null && buffer.length == BYTE_BUFFER_SIZE) {
+            BYTES.offer(buffer);
+        }
+    }
+
+    /**
+     * 归还直接内存缓冲区，非直接内存或容量不是 {@link #DIRECT_BUFFER_SIZE} 时忽略
+     *
+     * @param buffer ByteBuffer
+     */
+    public static void release(@Nullable ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect() && !buffer.isReadOnly() && buffer.capacity() == DIRECT_BUFFER_SIZE) {
+            DIRECT.offer(buffer.clear());
+        }
+    }
+
+    /**
+     * 清空缓冲区池
+     */
+    public static void clear() {
+        CHARS.clear();
+        BYTES.clear();
+        DIRECT.clear();
+    }
+
+    /**
+     * 无锁的有界空闲队列
+     */
+    private static final class Pool<T> {
+
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private T poll() {
+            T value = idle.poll();
+            if (value != null) {
+                size.decrementAndGet();
+            }
+            return value;
+        }
+
+        private void offer(T value) {
+            if (size.incrementAndGet() <= MAX_IDLE) {
+                idle.offer(value);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+
+        private void clear() {
+            while (poll() != null) {
+                // drain
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package org.springultron.core.io;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 分段字符缓冲 Writer，替代 {@link FastStringWriter}
+ * <p>
+ * 1、内容写入从 {@link BufferPool} 借出的固定大小分段，扩容只追加分段，不复制已写入内容
+ * 2、{@link #append(CharSequence)} 直接复制字符，不先转换为 String；{@link #append(long)} 直接写入数字字符
+ * 3、{@link #writeUtf8(OutputStream)} 将内容直接编码为 UTF-8 写入输出流，不产生中间字符串/字节数组
+ * 4、close 时归还全部分段并清空内容，需在 close 前调用 {@link #toString()} 等方法取得结果
+ * <p>
+ * 非线程安全，写入方法不会抛出 IOException
+ * <pre>
+ * try (ChunkedWriter writer = new ChunkedWriter()) {
+ *     Jackson.writeTo(value, writer);
+ *     return writer.toString();
+ * }
+ * </pre>
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:30
+ */
+public class ChunkedWriter extends Writer {
+
+    private static final int CHUNK_SIZE = BufferPool.CHAR_BUFFER_SIZE;
+
+    private static final char[][] EMPTY_CHUNKS = new char[0][];
+
+    /**
+     * 已借出的分段，除最后一个外均已写满
+     */
+    private char[][] chunks = EMPTY_CHUNKS;
+
+    /**
+     * 分段数量
+     */
+    private int chunkCount;
+
+    /**
+     * 当前(最后一个)分段
+     */
+    @Nullable
+    private char[] current;
+
+    /**
+     * 当前分段已写入的字符数
+     */
+    private int pos;
+
+    private char[] nextChunk() {
+        final char[] chunk = BufferPool.acquireChars();
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount << 1));
+        }
+        chunks[chunkCount++] = chunk;
+        current = chunk;
+        pos = 0;
+        return chunk;
+    }
+
+    @Override
+    public void write(int c) {
+        char[] chunk = current;
+        if (chunk == null || pos == CHUNK_SIZE) {
+            chunk = nextChunk();
+        }
+        chunk[pos++] = (char) c;
+    }
+
+    @Override
+    public void write(@NonNull char[] c, int off, int len) {
+        if ((off < 0) || (off > c.length) || (len < 0) || ((off + len) > c.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            char[] chunk = current;
+            if (chunk == null || pos == CHUNK_SIZE) {
+                chunk = nextChunk();
+            }
+            final int n = Math.min(len, CHUNK_SIZE - pos);
+            System.arraycopy(c, off, chunk, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void write(@NonNull String str) {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public void write(@NonNull String str, int off, int len) {
+        appendChars(str, off, off + len);
+    }
+
+    @Override
+    public ChunkedWriter append(@Nullable CharSequence csq) {
+        final CharSequence s = csq == null ? "null" : csq;
+        appendChars(s, 0, s.length());
+        return this;
+    }
+
+    @Override
+    public ChunkedWriter append(@Nullable CharSequence csq, int start, int end) {
+        final CharSequence s = csq == null ? "null" : csq;
+        if (start < 0 || start > end || end > s.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + s.length());
+        }
+        appendChars(s, start, end);
+        return this;
+    }
+
+    @Override
+    public ChunkedWriter append(char c) {
+        write(c);
+        return this;
+    }
+
+    /**
+     * 追加 int 的十进制表示
+     *
+     * @param value 值
+     * @return this
+     */
+    public ChunkedWriter append(int value) {
+        return append((long) value);
+    }
+
+    /**
+     * 追加 long 的十进制表示，不创建字符串
+     *
+     * @param value 值
+     * @return this
+     */
+    public ChunkedWriter append(long value) {
+        if (value == Long.MIN_VALUE) {
+            appendChars("-9223372036854775808", 0, 20);
+            return this;
+        }
+        final char[] digits = new char[20];
+        int i = digits.length;
+        long v = Math.abs(value);
+        do {
+            digits[--i] = (char) ('0' + (int) (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (value < 0) {
+            digits[--i] = '-';
+        }
+        write(digits, i, digits.length - i);
+        return this;
+    }
+
+    private void appendChars(CharSequence csq, int start, int end) {
+        while (start < end) {
+            char[] chunk = current;
+            if (chunk == null || pos == CHUNK_SIZE) {
+                chunk = nextChunk();
+            }
+            final int n = Math.min(end - start, CHUNK_SIZE - pos);
+            if (csq instanceof String str) {
+                str.getChars(start, start + n, chunk, pos);
+            } else if (csq instanceof StringBuilder sb) {
+                sb.getChars(start, start + n, chunk, pos);
+            } else if (csq instanceof StringBuffer sb) {
+                sb.getChars(start, start + n, chunk, pos);
+            } else if (csq instanceof CharBuffer cb) {
+                cb.get(cb.position() + start, chunk, pos, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    chunk[pos + i] = csq.charAt(start + i);
+                }
+            }
+            pos += n;
+            start += n;
+        }
+    }
+
+    /**
+     * 读取 Reader 全部内容，直接读入分段，不经过中间缓冲区，不关闭 Reader
+     *
+     * @param reader Reader
+     * @return 读取的字符数
+     * @throws IOException if an I/O error occurs
+     */
+    public long readFrom(Reader reader) throws IOException {
+        long count = 0;
+        while (true) {
+            char[] chunk = current;
+            if (chunk == null || pos == CHUNK_SIZE) {
+                chunk = nextChunk();
+            }
+            final int n = reader.read(chunk, pos, CHUNK_SIZE - pos);
+            if (n < 0) {
+                return count;
+            }
+            pos += n;
+            count += n;
+        }
+    }
+
+    /**
+     * 已写入的字符数
+     *
+     * @return 字符数
+     */
+    public int size() {
+        return chunkCount == 0 ? 0 : (chunkCount - 1) * CHUNK_SIZE + pos;
+    }
+
+    /**
+     * 清空内容，保留第一个分段，其余分段归还
+     */
+    public void reset() {
+        for (int i = 1; i < chunkCount; i++) {
+            BufferPool.release(chunks[i]);
+            chunks[i] = null;
+        }
+        if (chunkCount > 0) {
+            chunkCount = 1;
+            current = chunks[0];
+        }
+        pos = 0;
+    }
+
+    /**
+     * 将内容写入 Writer
+     *
+     * @param out Writer
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(Writer out) throws IOException {
+        for (int i = 0; i < chunkCount; i++) {
+            out.write(chunks[i], 0, chunkLength(i));
+        }
+    }
+
+    /**
+     * 将内容追加到 StringBuilder
+     *
+     * @param sb StringBuilder
+     */
+    public void writeTo(StringBuilder sb) {
+        sb.ensureCapacity(sb.length() + size());
+        for (int i = 0; i < chunkCount; i++) {
+            sb.append(chunks[i], 0, chunkLength(i));
+        }
+    }
+
+    /**
+     * 将内容编码为 UTF-8 直接写入输出流，不关闭输出流
+     *
+     * @param out 输出流
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeUtf8(OutputStream out) throws IOException {
+        try (Utf8Encoder encoder = new Utf8Encoder(out)) {
+            for (int i = 0; i < chunkCount; i++) {
+                encoder.encode(chunks[i], 0, chunkLength(i));
+            }
+        }
+    }
+
+    public char[] toCharArray() {
+        final char[] result = new char[size()];
+        for (int i = 0; i < chunkCount; i++) {
+            System.arraycopy(chunks[i], 0, result, i * CHUNK_SIZE, chunkLength(i));
+        }
+        return result;
+    }
+
+    private int chunkLength(int index) {
+        return index == chunkCount - 1 ? pos : CHUNK_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        if (chunkCount == 0) {
+            return "";
+        }
+        if (chunkCount == 1) {
+            return new String(chunks[0], 0, pos);
+        }
+        final StringBuilder sb = new StringBuilder(size());
+        writeTo(sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    /**
+     * 归还全部分段并清空内容，close 后仍可继续写入
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < chunkCount; i++) {
+            BufferPool.release(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        current = null;
+        pos = 0;
+    }
+}
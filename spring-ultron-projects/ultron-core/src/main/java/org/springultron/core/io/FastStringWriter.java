@@ -9,7 +9,9 @@ import java.util.Arrays;
 /**
  * @author brucewuu
  * @date 2020/3/25 11:51
+ * @deprecated 扩容时复制全部内容，请使用 {@link ChunkedWriter}
  */
+@Deprecated
 public class FastStringWriter extends Writer {
     /**
      * char buffer
@@ -6,14 +6,19 @@ import org.springframework.util.ResourceUtils;
 import org.springframework.web.util.UriUtils;
 import org.springultron.core.exception.Exceptions;
 import org.springultron.core.pool.StringPool;
+import org.springultron.core.utils.Charsets;
 import org.springultron.core.utils.StringUtils;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * 文件操作工具
@@ -180,8 +185,9 @@ public class FileUtils extends FileCopyUtils {
      * @return the file contents, never {@code null}
      */
     public static String readToString(final File file, final Charset encoding) {
-        try (final InputStream in = Files.newInputStream(file.toPath())) {
-            return IOUtils.readString(in, encoding);
+        try {
+            // 按文件大小一次性读取后解码，不经过 Reader 及中间缓冲区
+            return new String(Files.readAllBytes(file.toPath()), Charsets.toCharset(encoding));
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -195,8 +201,95 @@ public class FileUtils extends FileCopyUtils {
      * @return the file contents, never {@code null}
      */
     public static byte[] readToByteArray(final File file) {
-        try (final InputStream in = Files.newInputStream(file.toPath())) {
-            return IOUtils.readByteArray(in);
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 以只读方式将整个文件映射到内存，映射后关闭文件通道不影响映射的使用
+     * <p>
+     * 适用于大文件的随机访问或多次读取，数据由操作系统按需分页加载，不占用堆内存
+     *
+     * @param path 文件路径
+     * @return MappedByteBuffer
+     * @throws IllegalArgumentException 文件大于 {@link Integer#MAX_VALUE} 字节时，请使用 {@link #map(Path, long, long)} 分段映射
+     */
+    public static MappedByteBuffer map(final Path path) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File is too large to map at once: " + size + " bytes, use map(path, position, size)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 以只读方式将文件的指定区间映射到内存
+     *
+     * @param path     文件路径
+     * @param position 起始位置
+     * @param size     映射大小，不超过 {@link Integer#MAX_VALUE}
+     * @return MappedByteBuffer
+     */
+    public static MappedByteBuffer map(final Path path, final long position, final long size) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 复制文件，目标文件存在时覆盖，由内核直接传输(Linux 下为 sendfile)，不经过用户态缓冲区
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @return 复制的字节数
+     */
+    public static long copy(final Path source, final Path target) {
+        try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return IOUtils.copy(in, out);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 将文件内容传输到目标通道(如 SocketChannel)，不关闭目标通道
+     *
+     * @param path   文件路径
+     * @param output 目标通道
+     * @return 传输的字节数
+     */
+    public static long transferTo(final Path path, final WritableByteChannel output) {
+        try (final FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            return IOUtils.transferTo(in, 0, in.size(), output);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 将文件内容写入输出流，不关闭输出流
+     * 输出流为 {@link FileOutputStream} 时由内核直接传输，否则使用池化缓冲区复制
+     *
+     * @param path   文件路径
+     * @param output 输出流
+     * @return 传输的字节数
+     */
+    public static long transferTo(final Path path, final OutputStream output) {
+        if (output instanceof FileOutputStream fileOutput) {
+            return transferTo(path, fileOutput.getChannel());
+        }
+        try (final InputStream in = Files.newInputStream(path)) {
+            return IOUtils.copyLarge(in, output);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -4,6 +4,10 @@ import org.springframework.lang.Nullable;
 import org.springultron.core.utils.Charsets;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -23,12 +27,6 @@ public class IOUtils {
      */
     private static final int EOF = -1;
 
-    /**
-     * The default buffer size ({@value}) to use for
-     * {@link #copyLarge(InputStream, OutputStream)}
-     */
-    private static final int DEFAULT_BUFFER_SIZE = 1024 * 4;
-
     /**
      * 关闭流
      *
@@ -67,17 +65,14 @@ public class IOUtils {
     }
 
     public static String readString(final InputStream input, final Charset encoding) throws IOException {
-        try (final FastStringWriter sw = new FastStringWriter()) {
-            copy(input, sw, encoding);
+        try (final ChunkedWriter sw = new ChunkedWriter()) {
+            sw.readFrom(new InputStreamReader(input, Charsets.toCharset(encoding)));
             return sw.toString();
         }
     }
 
     public static byte[] readByteArray(final InputStream input) throws IOException {
-        try (final ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            copy(input, output);
-            return output.toByteArray();
-        }
+        return input.readAllBytes();
     }
 
     /**
@@ -94,7 +89,31 @@ public class IOUtils {
      */
     public static void write(@Nullable final String data, final OutputStream output, final Charset encoding) throws IOException {
         if (data != null) {
-            output.write(data.getBytes(encoding));
+            if (StandardCharsets.UTF_8.equals(encoding)) {
+                writeUtf8(data, output);
+            } else {
+                output.write(data.getBytes(encoding));
+            }
+        }
+    }
+
+    /**
+     * 将字符序列编码为 UTF-8 直接写入输出流，经池化缓冲区分段写出，不产生中间字节数组，不关闭输出流
+     *
+     * @param data   字符序列，null 忽略
+     * @param output 输出流
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeUtf8(@Nullable final CharSequence data, final OutputStream output) throws IOException {
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+        if (data instanceof ChunkedWriter writer) {
+            writer.writeUtf8(output);
+            return;
+        }
+        try (Utf8Encoder encoder = new Utf8Encoder(output)) {
+            encoder.encode(data, 0, data.length());
         }
     }
 
@@ -162,6 +181,20 @@ public class IOUtils {
         copy(in, output);
     }
 
+    /**
+     * Copies chars from a <code>Reader</code> to a <code>Writer</code> using an internal buffer of the
+     * given size.
+     *
+     * @param input      the <code>Reader</code> to read from
+     * @param output     the <code>Writer</code> to write to
+     * @param bufferSize the bufferSize used to copy from the input to the output
+     * @return the number of characters copied
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(final Reader input, final Writer output, final int bufferSize) throws IOException {
+        return copyLarge(input, output, new char[bufferSize]);
+    }
+
     /**
      * Copies chars from a <code>Reader</code> to a <code>Writer</code>.
      * <p>
@@ -194,7 +227,7 @@ public class IOUtils {
      * This method buffers the input internally, so there is no need to use a
      * <code>BufferedInputStream</code>.
      * <p>
-     * The buffer size is given by {@link #DEFAULT_BUFFER_SIZE}.
+     * The buffer is borrowed from {@link BufferPool}.
      *
      * @param input  the <code>InputStream</code> to read from
      * @param output the <code>OutputStream</code> to write to
@@ -203,7 +236,16 @@ public class IOUtils {
      * @throws IOException          if an I/O error occurs
      */
     public static long copyLarge(final InputStream input, final OutputStream output) throws IOException {
-        return copy(input, output, DEFAULT_BUFFER_SIZE);
+        // 文件到文件，由内核直接传输
+        if (input instanceof FileInputStream fileInput && output instanceof FileOutputStream fileOutput) {
+            return copy(fileInput.getChannel(), fileOutput.getChannel());
+        }
+        final byte[] buffer = BufferPool.acquireBytes();
+        try {
+            return copyLarge(input, output, buffer);
+        } finally {
+            BufferPool.release(buffer);
+        }
     }
 
     /**
@@ -237,7 +279,7 @@ public class IOUtils {
      * This method buffers the input internally, so there is no need to use a
      * <code>BufferedReader</code>.
      * <p>
-     * The buffer size is given by {@link #DEFAULT_BUFFER_SIZE}.
+     * The buffer is borrowed from {@link BufferPool}.
      *
      * @param input  the <code>Reader</code> to read from
      * @param output the <code>Writer</code> to write to
@@ -246,7 +288,12 @@ public class IOUtils {
      * @throws IOException          if an I/O error occurs
      */
     public static long copyLarge(final Reader input, final Writer output) throws IOException {
-        return copyLarge(input, output, new char[DEFAULT_BUFFER_SIZE]);
+        final char[] buffer = BufferPool.acquireChars();
+        try {
+            return copyLarge(input, output, buffer);
+        } finally {
+            BufferPool.release(buffer);
+        }
     }
 
     /**
@@ -272,4 +319,77 @@ public class IOUtils {
         }
         return count;
     }
+
+    /**
+     * 通道间复制，复制后源通道及目标通道的 position 后移，不关闭通道
+     * <p>
+     * 1、源为 {@link FileChannel} 时使用 {@link FileChannel#transferTo(long, long, WritableByteChannel)}，
+     * 文件到文件/Socket 由内核直接传输，不经过用户态缓冲区
+     * 2、其余情况使用 {@link BufferPool} 中的直接内存缓冲区，避免 JDK 在堆缓冲区与直接内存间的额外复制
+     *
+     * @param input  源通道(阻塞模式)
+     * @param output 目标通道(阻塞模式)
+     * @return 复制的字节数
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(final ReadableByteChannel input, final WritableByteChannel output) throws IOException {
+        if (input instanceof FileChannel fileChannel) {
+            final long position = fileChannel.position();
+            final long count = transferTo(fileChannel, position, fileChannel.size() - position, output);
+            fileChannel.position(position + count);
+            return count;
+        }
+        final ByteBuffer buffer = BufferPool.acquireDirect();
+        try {
+            return copy(input, output, buffer);
+        } finally {
+            BufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * 使用指定缓冲区进行通道间复制，不关闭通道
+     *
+     * @param input  源通道(阻塞模式)
+     * @param output 目标通道(阻塞模式)
+     * @param buffer 缓冲区，大小即每次读取的字节数上限
+     * @return 复制的字节数
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(final ReadableByteChannel input, final WritableByteChannel output, final ByteBuffer buffer) throws IOException {
+        long count = 0;
+        buffer.clear();
+        while (input.read(buffer) != EOF) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                count += output.write(buffer);
+            }
+            buffer.clear();
+        }
+        return count;
+    }
+
+    /**
+     * 将文件通道指定区间传输到目标通道，直到传输完毕或到达文件末尾，不修改源通道的 position
+     * <p>
+     * 单次 {@link FileChannel#transferTo(long, long, WritableByteChannel)} 可能只传输部分字节(如 Linux 单次上限约 2GB)，此处循环传输
+     *
+     * @param input    文件通道
+     * @param position 起始位置
+     * @param count    最大传输字节数
+     * @param output   目标通道
+     * @return 传输的字节数
+     * @throws IOException if an I/O error occurs
+     */
+    public static long transferTo(final FileChannel input, final long position, final long count, final WritableByteChannel output) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            final long n = input.transferTo(position + transferred, count - transferred, output);
+            if (n <= 0) {
+                break;
+            }
+            transferred += n;
+        }
+        return transferred;
+    }
 }
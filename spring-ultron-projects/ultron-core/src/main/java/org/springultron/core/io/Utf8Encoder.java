@@ -0,0 +1,143 @@
+package org.springultron.core.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 增量 UTF-8 编码器，字符直接编码到池化的 byte 缓冲区，缓冲区满时写入输出流
+ * <p>
+ * 代理对可跨越多次 encode 调用，不成对的代理字符编码为 '?'，与 {@link String#getBytes(java.nio.charset.Charset)} 一致
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:30
+ */
+final class Utf8Encoder implements AutoCloseable {
+
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream out;
+
+    private byte[] buffer;
+
+    private int pos;
+
+    /**
+     * 等待低位代理的高位代理，0 表示无
+     */
+    private char pendingHigh;
+
+    Utf8Encoder(OutputStream out) {
+        this.out = out;
+        this.buffer = BufferPool.acquireBytes();
+    }
+
+    void encode(char[] chars, int off, int len) throws IOException {
+        final int end = off + len;
+        int i = off;
+        while (i < end) {
+            // ASCII 快速路径
+            final int limit = Math.min(end, i + buffer.length - pos);
+            while (i < limit && pendingHigh == 0) {
+                final char ch = chars[i];
+                if (ch >= 0x80) {
+                    break;
+                }
+                buffer[pos++] = (byte) ch;
+                i++;
+            }
+            if (i < end) {
+                if (pos == buffer.length) {
+                    flushBuffer();
+                } else {
+                    encodeChar(chars[i++]);
+                }
+            }
+        }
+    }
+
+    void encode(CharSequence csq, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            final int limit = Math.min(end, i + buffer.length - pos);
+            while (i < limit && pendingHigh == 0) {
+                final char ch = csq.charAt(i);
+                if (ch >= 0x80) {
+                    break;
+                }
+                buffer[pos++] = (byte) ch;
+                i++;
+            }
+            if (i < end) {
+                if (pos == buffer.length) {
+                    flushBuffer();
+                } else {
+                    encodeChar(csq.charAt(i++));
+                }
+            }
+        }
+    }
+
+    private void encodeChar(char ch) throws IOException {
+        // 最多写入 1 个替换字符 + 3 字节
+        if (buffer.length - pos < 4) {
+            flushBuffer();
+        }
+        if (pendingHigh != 0) {
+            final char high = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(ch)) {
+                final int codePoint = Character.toCodePoint(high, ch);
+                buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[pos++] = REPLACEMENT;
+        }
+        if (ch < 0x80) {
+            buffer[pos++] = (byte) ch;
+        } else if (ch < 0x800) {
+            buffer[pos++] = (byte) (0xC0 | (ch >> 6));
+            buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+        } else if (Character.isHighSurrogate(ch)) {
+            pendingHigh = ch;
+        } else if (Character.isLowSurrogate(ch)) {
+            buffer[pos++] = REPLACEMENT;
+        } else {
+            buffer[pos++] = (byte) (0xE0 | (ch >> 12));
+            buffer[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (pos > 0) {
+            out.write(buffer, 0, pos);
+            pos = 0;
+        }
+    }
+
+    /**
+     * 写出剩余字节并归还缓冲区，不关闭输出流
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (pendingHigh != 0) {
+                pendingHigh = 0;
+                if (pos == buffer.length) {
+                    flushBuffer();
+                }
+                buffer[pos++] = REPLACEMENT;
+            }
+            flushBuffer();
+        } finally {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+}
@@ -3,27 +3,37 @@ package org.springultron.core.jackson;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.SubtypeResolver;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
 import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import org.springframework.util.ConcurrentLruCache;
 import org.springultron.core.exception.Exceptions;
+import org.springultron.core.io.AppendableWriter;
 import org.springultron.core.utils.BeanUtils;
 import org.springultron.core.utils.DateUtils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.Serial;
+import java.io.*;
+import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Jackson工具类
@@ -44,7 +54,7 @@ public class Jackson {
      */
     public static String toJson(Object value) {
         try {
-            return getInstance().writeValueAsString(value);
+            return getWriter(value).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw Exceptions.unchecked(e);
         }
@@ -58,12 +68,64 @@ public class Jackson {
      */
     public static byte[] toBytes(Object value) {
         try {
-            return getInstance().writeValueAsBytes(value);
+            return getWriter(value).writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw Exceptions.unchecked(e);
         }
     }
 
+    /**
+     * 将对象序列化成json直接写入输出流，不产生中间字符串/字节数组，写入后不关闭输出流
+     *
+     * @param value 对象
+     * @param out   输出流
+     */
+    public static void writeTo(Object value, OutputStream out) {
+        try {
+            getWriter(value).writeValue(out, value);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 将对象序列化成json直接写入Writer，写入后不关闭Writer
+     *
+     * @param value  对象
+     * @param writer Writer
+     */
+    public static void writeTo(Object value, Writer writer) {
+        try {
+            getWriter(value).writeValue(writer, value);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 将对象序列化成json直接追加到 Appendable(如 StringBuilder)
+     *
+     * @param value      对象
+     * @param appendable Appendable
+     */
+    public static void writeTo(Object value, Appendable appendable) {
+        writeTo(value, appendable instanceof Writer writer ? writer : new AppendableWriter(appendable));
+    }
+
+    /**
+     * 将对象序列化成json(UTF-8)写入ByteBuffer，从 position 开始写入，写入后 position 后移
+     *
+     * @param value  对象
+     * @param buffer ByteBuffer(堆内或直接内存)
+     * @return 写入的字节数
+     * @throws java.nio.BufferOverflowException 剩余空间不足
+     */
+    public static int writeTo(Object value, ByteBuffer buffer) {
+        final int start = buffer.position();
+        writeTo(value, new ByteBufferBackedOutputStream(buffer));
+        return buffer.position() - start;
+    }
+
     /**
      * 将json反序列化成对象
      *
@@ -74,7 +136,7 @@ public class Jackson {
      */
     public static <T> T parse(String json, Class<T> valueType) {
         try {
-            return getInstance().readValue(json, valueType);
+            return getReader(valueType).readValue(json);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -90,7 +152,7 @@ public class Jackson {
      */
     public static <T> T parse(byte[] bytes, Class<T> valueType) {
         try {
-            return getInstance().readValue(bytes, valueType);
+            return getReader(valueType).readValue(bytes);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -106,7 +168,7 @@ public class Jackson {
      */
     public static <T> T parse(InputStream is, Class<T> valueType) {
         try {
-            return getInstance().readValue(is, valueType);
+            return getReader(valueType).readValue(is);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -122,7 +184,7 @@ public class Jackson {
      */
     public static <T> T parse(String json, TypeReference<T> valueTypeRef) {
         try {
-            return getInstance().readValue(json, valueTypeRef);
+            return getReader(valueTypeRef).readValue(json);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -138,7 +200,7 @@ public class Jackson {
      */
     public static <T> T parse(byte[] bytes, TypeReference<T> valueTypeRef) {
         try {
-            return getInstance().readValue(bytes, valueTypeRef);
+            return getReader(valueTypeRef).readValue(bytes);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -154,7 +216,7 @@ public class Jackson {
      */
     public static <T> T parse(InputStream is, TypeReference<T> valueTypeRef) {
         try {
-            return getInstance().readValue(is, valueTypeRef);
+            return getReader(valueTypeRef).readValue(is);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -202,7 +264,7 @@ public class Jackson {
      */
     public static <K, V> Map<K, V> parseMap(String json, Class<K> keyClass, Class<V> valueClass) {
         try {
-            return getInstance().readValue(json, getMapType(keyClass, valueClass));
+            return getMapReader(keyClass, valueClass).readValue(json);
         } catch (JsonProcessingException e) {
             throw Exceptions.unchecked(e);
         }
@@ -220,7 +282,7 @@ public class Jackson {
      */
     public static <K, V> Map<K, V> parseMap(byte[] bytes, Class<K> keyClass, Class<V> valueClass) {
         try {
-            return getInstance().readValue(bytes, getMapType(keyClass, valueClass));
+            return getMapReader(keyClass, valueClass).readValue(bytes);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -238,7 +300,7 @@ public class Jackson {
      */
     public static <K, V> Map<K, V> parseMap(InputStream is, Class<K> keyClass, Class<V> valueClass) {
         try {
-            return getInstance().readValue(is, getMapType(keyClass, valueClass));
+            return getMapReader(keyClass, valueClass).readValue(is);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -254,7 +316,7 @@ public class Jackson {
      */
     public static <T> List<T> parseList(String json, Class<T> valueType) {
         try {
-            return getInstance().readValue(json, getListType(valueType));
+            return getListReader(valueType).readValue(json);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -270,7 +332,7 @@ public class Jackson {
      */
     public static <T> List<T> parseList(byte[] bytes, Class<T> valueType) {
         try {
-            return getInstance().readValue(bytes, getListType(valueType));
+            return getListReader(valueType).readValue(bytes);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -286,7 +348,7 @@ public class Jackson {
      */
     public static <T> List<T> parseList(InputStream is, Class<T> valueType) {
         try {
-            return getInstance().readValue(is, getListType(valueType));
+            return getListReader(valueType).readValue(is);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -302,7 +364,7 @@ public class Jackson {
      */
     public static <T> List<T> parseList(String json, TypeReference<? extends List<T>> valueTypeRef) {
         try {
-            return getInstance().readValue(json, valueTypeRef);
+            return getReader(valueTypeRef).readValue(json);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -318,7 +380,7 @@ public class Jackson {
      */
     public static <T> List<T> parseList(byte[] bytes, TypeReference<? extends List<T>> valueTypeRef) {
         try {
-            return getInstance().readValue(bytes, valueTypeRef);
+            return getReader(valueTypeRef).readValue(bytes);
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -334,7 +396,108 @@ public class Jackson {
      */
     public static <T> List<T> parseList(InputStream is, TypeReference<? extends List<T>> valueTypeRef) {
         try {
-            return getInstance().readValue(is, valueTypeRef);
+            return getReader(valueTypeRef).readValue(is);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 流式读取json数组，逐个元素按需反序列化，内存占用与数组长度无关
+     * 返回的 Stream 需关闭(建议 try-with-resources)，关闭或读取完毕时同时关闭输入流
+     *
+     * @param is          输入流(json数组)
+     * @param elementType 元素类型
+     * @param <T>         泛型标记
+     * @return Stream
+     */
+    public static <T> Stream<T> streamArray(InputStream is, Class<T> elementType) {
+        final MappingIterator<T> iterator = iterateArray(is, elementType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw Exceptions.unchecked(e);
+                    }
+                });
+    }
+
+    /**
+     * 流式读取json数组，逐个元素按需反序列化，内存占用与数组长度无关
+     * 返回的迭代器需关闭，关闭或读取完毕时同时关闭输入流
+     *
+     * @param is          输入流(json数组)
+     * @param elementType 元素类型
+     * @param <T>         泛型标记
+     * @return MappingIterator
+     */
+    public static <T> MappingIterator<T> iterateArray(InputStream is, Class<T> elementType) {
+        try {
+            return getReader(elementType).readValues(is);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 流式读取json数组，适用于嵌套在json对象中的数组
+     * 调用前需将 JsonParser 定位到数组的 START_ARRAY，读取完毕后 JsonParser 位于对应的 END_ARRAY
+     *
+     * @param parser      JsonParser
+     * @param elementType 元素类型
+     * @param <T>         泛型标记
+     * @return Iterator
+     */
+    public static <T> Iterator<T> iterateArray(JsonParser parser, Class<T> elementType) {
+        if (!parser.isExpectedStartArrayToken()) {
+            throw new IllegalArgumentException("JsonParser is not positioned at START_ARRAY: " + parser.currentToken());
+        }
+        final ObjectReader reader = getReader(elementType);
+        return new Iterator<>() {
+            private JsonToken next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = parser.nextToken();
+                    } catch (IOException e) {
+                        throw Exceptions.unchecked(e);
+                    }
+                }
+                return next != null && next != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                next = null;
+                try {
+                    return reader.readValue(parser);
+                } catch (IOException e) {
+                    throw Exceptions.unchecked(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 将迭代器中的元素逐个序列化写入输出流(json数组)，内存占用与元素数量无关，写入后不关闭输出流
+     *
+     * @param out      输出流
+     * @param elements 元素迭代器
+     * @param <T>      泛型标记
+     */
+    public static <T> void writeArray(OutputStream out, Iterator<T> elements) {
+        try (SequenceWriter sequenceWriter = getInstance().writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValuesAsArray(out)) {
+            while (elements.hasNext()) {
+                sequenceWriter.write(elements.next());
+            }
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
@@ -433,6 +596,25 @@ public class Jackson {
         return getInstance().getTypeFactory().constructCollectionLikeType(ArrayList.class, elementClass);
     }
 
+    /**
+     * 判断对象能否被序列化
+     *
+     * @param value 对象
+     * @return 是否能序列化
+     */
+    public static boolean canSerialize(Object value) {
+        return value == null || getInstance().canSerialize(value.getClass());
+    }
+
+    /**
+     * 为全局 ObjectMapper 注册模块，并清空已缓存的 ObjectReader/ObjectWriter
+     *
+     * @param module 模块
+     */
+    public static void registerModule(Module module) {
+        getInstance().registerModule(module);
+    }
+
     public static ObjectMapper getInstance() {
         return SingletonHolder.INSTANCE;
     }
@@ -441,12 +623,112 @@ public class Jackson {
         private static final ObjectMapper INSTANCE = new JacksonObjectMapper();
     }
 
+    /**
+     * 按全局 ObjectMapper 当前配置缓存的 ObjectReader/ObjectWriter，配置变更后整体重建
+     */
+    private static volatile ObjectCaches caches;
+
+    /**
+     * ObjectReader/ObjectWriter 缓存容量
+     */
+    private static final int CACHE_CAPACITY = 256;
+
+    /**
+     * ObjectReader/ObjectWriter 缓存
+     * <p>
+     * 1、记录创建时 ObjectMapper 的配置快照，ObjectMapper 的 configure/enable/setXxx 等操作都会替换这些不可变对象，
+     * 快照不一致即视为配置已变更；注册模块、mix-in、子类型等原地修改的操作由 {@link JacksonObjectMapper} 主动失效
+     * 2、以 JavaType 为键的有界 LRU 缓存，类型数量超过容量时淘汰最久未使用的条目
+     */
+    private static final class ObjectCaches {
+
+        private final DeserializationConfig deserializationConfig;
+
+        private final SerializationConfig serializationConfig;
+
+        private final DeserializationContext deserializationContext;
+
+        private final SerializerFactory serializerFactory;
+
+        private final SerializerProvider serializerProvider;
+
+        private final InjectableValues injectableValues;
+
+        /**
+         * 按目标类型缓存预解析了根反序列化器的 ObjectReader，避免每次查找反序列化器
+         */
+        private final ConcurrentLruCache<JavaType, ObjectReader> readers;
+
+        /**
+         * 按对象类型缓存预解析了根序列化器的 ObjectWriter，写入后不关闭目标流
+         */
+        private final ConcurrentLruCache<JavaType, ObjectWriter> writers;
+
+        private ObjectCaches(ObjectMapper mapper) {
+            this.readers = new ConcurrentLruCache<>(CACHE_CAPACITY, mapper::readerFor);
+            this.writers = new ConcurrentLruCache<>(CACHE_CAPACITY, type -> mapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+            this.deserializationConfig = mapper.getDeserializationConfig();
+            this.serializationConfig = mapper.getSerializationConfig();
+            this.deserializationContext = mapper.getDeserializationContext();
+            this.serializerFactory = mapper.getSerializerFactory();
+            this.serializerProvider = mapper.getSerializerProvider();
+            this.injectableValues = mapper.getInjectableValues();
+        }
+
+        private boolean isCurrent(ObjectMapper mapper) {
+            return deserializationConfig == mapper.getDeserializationConfig()
+                    && serializationConfig == mapper.getSerializationConfig()
+                    && deserializationContext == mapper.getDeserializationContext()
+                    && serializerFactory == mapper.getSerializerFactory()
+                    && serializerProvider == mapper.getSerializerProvider()
+                    && injectableValues == mapper.getInjectableValues();
+        }
+    }
+
+    private static ObjectCaches caches() {
+        final ObjectMapper mapper = getInstance();
+        ObjectCaches current = caches;
+        if (current == null || !current.isCurrent(mapper)) {
+            current = new ObjectCaches(mapper);
+            caches = current;
+        }
+        return current;
+    }
+
+    private static void invalidateCaches() {
+        caches = null;
+    }
+
+    private static ObjectReader getReader(Class<?> valueType) {
+        return caches().readers.get(getInstance().constructType(valueType));
+    }
+
+    private static ObjectReader getReader(TypeReference<?> valueTypeRef) {
+        return caches().readers.get(getInstance().constructType(valueTypeRef));
+    }
+
+    private static ObjectReader getMapReader(Class<?> keyClass, Class<?> valueClass) {
+        return caches().readers.get(getMapType(keyClass, valueClass));
+    }
+
+    private static ObjectReader getListReader(Class<?> elementClass) {
+        return caches().readers.get(getListType(elementClass));
+    }
+
+    private static ObjectWriter getWriter(Object value) {
+        if (value == null) {
+            return getInstance().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+        return caches().writers.get(getInstance().constructType(value.getClass()));
+    }
+
     public static class JacksonObjectMapper extends ObjectMapper {
         @Serial
         private static final long serialVersionUID = 3L;
 
         JacksonObjectMapper() {
-            super();
+            // 使用全局共享的并发缓冲池复用序列化缓冲区，替代基于 ThreadLocal 的默认实现，适用于虚拟线程
+            super(JsonFactory.builder().recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool()).build());
             // 设置地点系统默认
             super.setLocale(Locale.getDefault());
             // 设置为系统默认时区
@@ -468,6 +750,63 @@ public class Jackson {
             super.registerModule(new UltronJavaTimeModule());
         }
 
+        /*
+         * 以下操作原地修改 ObjectMapper 内部状态，不会替换配置对象，需主动失效 ObjectReader/ObjectWriter 缓存
+         */
+
+        @Override
+        public ObjectMapper registerModule(Module module) {
+            ObjectMapper mapper = super.registerModule(module);
+            invalidateCaches();
+            return mapper;
+        }
+
+        @Override
+        public ObjectMapper addMixIn(Class<?> target, Class<?> mixinSource) {
+            ObjectMapper mapper = super.addMixIn(target, mixinSource);
+            invalidateCaches();
+            return mapper;
+        }
+
+        @Override
+        public ObjectMapper setMixIns(Map<Class<?>, Class<?>> sourceMixins) {
+            ObjectMapper mapper = super.setMixIns(sourceMixins);
+            invalidateCaches();
+            return mapper;
+        }
+
+        @Override
+        public ObjectMapper setMixInResolver(ClassIntrospector.MixInResolver resolver) {
+            ObjectMapper mapper = super.setMixInResolver(resolver);
+            invalidateCaches();
+            return mapper;
+        }
+
+        @Override
+        public ObjectMapper setSubtypeResolver(SubtypeResolver str) {
+            ObjectMapper mapper = super.setSubtypeResolver(str);
+            invalidateCaches();
+            return mapper;
+        }
+
+        @Override
+        public void registerSubtypes(Class<?>... classes) {
+            super.registerSubtypes(classes);
+            invalidateCaches();
+        }
+
+        @Override
+        public void registerSubtypes(NamedType... types) {
+            super.registerSubtypes(types);
+            invalidateCaches();
+        }
+
+        @Override
+        public void registerSubtypes(Collection<Class<?>> subtypes) {
+            super.registerSubtypes(subtypes);
+            invalidateCaches();
+        }
+
         @Override
         public ObjectMapper copy() {
             return super.copy();
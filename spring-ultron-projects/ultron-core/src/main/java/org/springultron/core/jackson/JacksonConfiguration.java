@@ -2,13 +2,17 @@ package org.springultron.core.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.time.ZoneId;
@@ -50,4 +54,27 @@ public class JacksonConfiguration {
             builder.modules(new UltronJavaTimeModule());
         };
     }
+
+    /**
+     * 开启 Blackbird(基于 LambdaMetafactory 生成属性访问器，替代反射)，提升序列化/反序列化吞吐
+     * 需引入 jackson-module-blackbird，并配置 ultron.jackson.blackbird=true
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.module.blackbird.BlackbirdModule")
+    @ConditionalOnProperty(name = "ultron.jackson.blackbird", havingValue = "true")
+    static class BlackbirdConfiguration {
+
+        @Bean
+        public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+            return builder -> builder.postConfigurer(objectMapper -> objectMapper.registerModule(new BlackbirdModule()));
+        }
+
+        /**
+         * 工具类 Jackson 使用的全局 ObjectMapper 同样开启，在单例初始化完成后注册，重复注册会被 Jackson 忽略
+         */
+        @Bean
+        public SmartInitializingSingleton blackbirdJacksonRegistrar() {
+            return () -> Jackson.registerModule(new BlackbirdModule());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.springultron.core.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.PackageVersion;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
@@ -10,6 +12,7 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import org.springultron.core.utils.DateUtils;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,6 +20,9 @@ import java.time.LocalTime;
 
 /**
  * java 8 时间默认序列化
+ * <p>
+ * 默认格式的序列化使用 {@link DateUtils} 手写的格式化，不经过 DateTimeFormatter；
+ * 时间戳输出及 @JsonFormat 指定的格式仍由 jsr310 原有逻辑处理
  *
  * @author brucewuu
  * @date 2019-06-13 17:25
@@ -30,8 +36,62 @@ public final class UltronJavaTimeModule extends SimpleModule {
         this.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateUtils.DATE_TIME_FORMATTER));
         this.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateUtils.DATE_FORMATTER));
         this.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateUtils.TIME_FORMATTER));
-        this.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateUtils.DATE_TIME_FORMATTER));
-        this.addSerializer(LocalDate.class, new LocalDateSerializer(DateUtils.DATE_FORMATTER));
-        this.addSerializer(LocalTime.class, new LocalTimeSerializer(DateUtils.TIME_FORMATTER));
+        this.addSerializer(LocalDateTime.class, new FastLocalDateTimeSerializer());
+        this.addSerializer(LocalDate.class, new FastLocalDateSerializer());
+        this.addSerializer(LocalTime.class, new FastLocalTimeSerializer());
+    }
+
+    private static final class FastLocalDateTimeSerializer extends LocalDateTimeSerializer {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private FastLocalDateTimeSerializer() {
+            super(DateUtils.DATE_TIME_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            if (_formatter == DateUtils.DATE_TIME_FORMATTER && !useTimestamp(provider)) {
+                g.writeString(DateUtils.formatDateTime(value));
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
+    }
+
+    private static final class FastLocalDateSerializer extends LocalDateSerializer {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private FastLocalDateSerializer() {
+            super(DateUtils.DATE_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            if (_formatter == DateUtils.DATE_FORMATTER && !useTimestamp(provider)) {
+                g.writeString(DateUtils.formatDate(value));
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
+    }
+
+    private static final class FastLocalTimeSerializer extends LocalTimeSerializer {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private FastLocalTimeSerializer() {
+            super(DateUtils.TIME_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalTime value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            if (_formatter == DateUtils.TIME_FORMATTER && !useTimestamp(provider)) {
+                g.writeString(DateUtils.formatTime(value));
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
     }
 }
@@ -1,14 +1,34 @@
 package org.springultron.core.pool;
 
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
  * 常用正则表达式
+ * <p>
+ * 1、命名注册表：内置常用正则，业务可通过 {@link #register(String, Pattern)} 注册自定义正则，按名称复用
+ * 2、编译缓存：{@link #compile(String, int)} 通过有界并发 LRU 缓存编译结果，避免重复编译
  *
  * @author brucewuu
  * @date 2019/11/17 15:13
  */
 public class PatternPool {
+
+    /**
+     * 编译缓存容量
+     */
+    public static final int CACHE_CAPACITY = 512;
+
+    private static final ConcurrentLruCache<PatternKey, Pattern> CACHE =
+            new ConcurrentLruCache<>(CACHE_CAPACITY, key -> Pattern.compile(key.regex(), key.flags()));
+
+    private static final Map<String, Pattern> REGISTRY = new ConcurrentHashMap<>();
+
     /**
      * 手机号码
      */
@@ -25,4 +45,88 @@ public class PatternPool {
      * 16进制字符串
      */
     public static final Pattern HEX = Pattern.compile("^[a-f0-9]+$", Pattern.CASE_INSENSITIVE);
+    /**
+     * 身份证号码(15位或18位)
+     */
+    public static final Pattern ID_CARD = Pattern.compile("(^[1-9]\\d{7}((0\\d)|(1[0-2]))(([0|1|2]\\d)|3[0-1])\\d{2}[0-9Xx]$)|(^[1-9]\\d{5}[1-9]\\d{3}((0\\d)|(1[0-2]))(([0|1|2]\\d)|3[0-1])\\d{3}[0-9Xx]$)");
+
+    static {
+        register("mobile", MOBILE);
+        register("email", EMAIL);
+        register("ipv4", IPV4);
+        register("hex", HEX);
+        register("idCard", ID_CARD);
+    }
+
+    /**
+     * 注册命名正则，同名覆盖
+     *
+     * @param name    名称
+     * @param pattern 正则
+     */
+    public static void register(String name, Pattern pattern) {
+        Assert.hasText(name, "Pattern name must not be empty");
+        Assert.notNull(pattern, "Pattern must not be null");
+        REGISTRY.put(name, pattern);
+    }
+
+    /**
+     * 注册命名正则，同名覆盖
+     *
+     * @param name  名称
+     * @param regex 正则表达式
+     * @return 编译后的正则
+     */
+    public static Pattern register(String name, String regex) {
+        Pattern pattern = compile(regex);
+        register(name, pattern);
+        return pattern;
+    }
+
+    /**
+     * 获取命名正则
+     *
+     * @param name 名称
+     * @return 正则，未注册时为 null
+     */
+    @Nullable
+    public static Pattern get(String name) {
+        return REGISTRY.get(name);
+    }
+
+    /**
+     * 移除命名正则
+     *
+     * @param name 名称
+     * @return 被移除的正则
+     */
+    @Nullable
+    public static Pattern remove(String name) {
+        return REGISTRY.remove(name);
+    }
+
+    /**
+     * 编译正则(带缓存)
+     *
+     * @param regex 正则表达式
+     * @return Pattern
+     */
+    public static Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * 编译正则(带缓存)，缓存满时淘汰最久未使用的编译结果
+     *
+     * @param regex 正则表达式
+     * @param flags 匹配标识，如 {@link Pattern#CASE_INSENSITIVE}
+     * @return Pattern
+     */
+    public static Pattern compile(String regex, int flags) {
+        Assert.notNull(regex, "Regex must not be null");
+        return CACHE.get(new PatternKey(regex, flags));
+    }
+
+    private record PatternKey(String regex, int flags) {
+    }
 }
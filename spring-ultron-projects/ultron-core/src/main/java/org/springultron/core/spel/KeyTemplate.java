@@ -0,0 +1,161 @@
+package org.springultron.core.spel;
+
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.lang.Nullable;
+import org.springultron.core.utils.BeanProperty;
+import org.springultron.core.utils.ReflectMetadata;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * #arg、#arg.prop.prop 形式的简单 spEl 模板，直接读取方法参数及 getter，不创建 EvaluationContext
+ * <p>
+ * 参数名解析规则与 {@link org.springframework.context.expression.MethodBasedEvaluationContext} 一致：
+ * 参数名优先，其次为 a0/p0 形式的下标；每一级属性缓存上次命中的类及 getter，类型不变时不再查表
+ *
+ * @author brucewuu
+ * @date 2026/10/18 19:00
+ */
+final class KeyTemplate {
+
+    /**
+     * 非简单模板，需完整求值
+     */
+    static final KeyTemplate NONE = new KeyTemplate(-1, -1, new String[0]);
+
+    /**
+     * 无法快速解析(参数个数不符、中间值为 null、属性不存在或不可读)，需完整求值
+     */
+    static final Object UNRESOLVED = new Object();
+
+    private final int index;
+
+    private final int paramCount;
+
+    private final String[] path;
+
+    /**
+     * 每一级属性的内联缓存
+     */
+    private final Accessor[] accessors;
+
+    private KeyTemplate(int index, int paramCount, String[] path) {
+        this.index = index;
+        this.paramCount = paramCount;
+        this.path = path;
+        this.accessors = new Accessor[path.length];
+    }
+
+    /**
+     * 解析模板
+     *
+     * @param expression 表达式
+     * @param method     目标方法
+     * @param discoverer 参数名解析
+     * @return KeyTemplate，非简单模板时为 {@link #NONE}
+     */
+    static KeyTemplate parse(String expression, Method method, ParameterNameDiscoverer discoverer) {
+        final String text = expression.trim();
+        if (text.length() < 2 || text.charAt(0) != '#') {
+            return NONE;
+        }
+        final String[] parts = text.substring(1).split("\\.", -1);
+        // #root、#this 为 spEl 保留变量
+        if ("root".equals(parts[0]) || "this".equals(parts[0])) {
+            return NONE;
+        }
+        for (String part : parts) {
+            if (!isIdentifier(part)) {
+                return NONE;
+            }
+        }
+        final int paramCount = method.getParameterCount();
+        final int index = indexOf(parts[0], method, discoverer);
+        // 可变参数由 MethodBasedEvaluationContext 特殊处理，不走快速路径
+        if (index < 0 || index >= paramCount || (method.isVarArgs() && index == paramCount - 1)) {
+            return NONE;
+        }
+        final String[] path = new String[parts.length - 1];
+        System.arraycopy(parts, 1, path, 0, path.length);
+        return new KeyTemplate(index, paramCount, path);
+    }
+
+    /**
+     * 求值
+     *
+     * @param args 方法参数
+     * @return 结果，无法快速解析时为 {@link #UNRESOLVED}
+     */
+    @Nullable
+    Object resolve(@Nullable Object[] args) {
+        if (args == null || args.length != paramCount) {
+            return UNRESOLVED;
+        }
+        Object value = args[index];
+        for (int i = 0; i < path.length; i++) {
+            if (value == null) {
+                return UNRESOLVED;
+            }
+            final Function<Object, Object> getter = getter(i, value.getClass());
+            if (getter == null) {
+                return UNRESOLVED;
+            }
+            value = getter.apply(value);
+        }
+        return value;
+    }
+
+    @Nullable
+    private Function<Object, Object> getter(int i, Class<?> type) {
+        Accessor accessor = accessors[i];
+        if (accessor == null || accessor.type != type) {
+            final BeanProperty property = ReflectMetadata.of(type).getProperty(path[i]);
+            // 并发写入只会覆盖为等价的值
+            accessor = new Accessor(type, property == null ? null : property.getGetter());
+            accessors[i] = accessor;
+        }
+        return accessor.getter;
+    }
+
+    private static int indexOf(String name, Method method, ParameterNameDiscoverer discoverer) {
+        final String[] names = discoverer.getParameterNames(method);
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (name.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        if (name.length() > 1 && (name.charAt(0) == 'a' || name.charAt(0) == 'p')) {
+            int index = 0;
+            for (int i = 1; i < name.length(); i++) {
+                final char c = name.charAt(i);
+                if (c < '0' || c > '9' || index > 1000) {
+                    return -1;
+                }
+                index = index * 10 + (c - '0');
+            }
+            return index;
+        }
+        return -1;
+    }
+
+    private static boolean isIdentifier(String part) {
+        if (part.isEmpty() || !Character.isJavaIdentifierStart(part.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < part.length(); i++) {
+            if (!Character.isJavaIdentifierPart(part.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 类及其 getter，不可变，getter 为 null 表示属性不存在或不可读
+     */
+    private record Accessor(Class<?> type, @Nullable Function<Object, Object> getter) {
+    }
+}
@@ -6,9 +6,16 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -16,13 +23,45 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 缓存 spEl 提高性能
+ * <p>
+ * 1、可指定 {@link SpelCompilerMode}，缓存的表达式编译为字节码执行
+ * 2、{@link #eval(String, Method, Object[], Object, Class, BeanFactory, Class)} 对 #arg、#arg.prop.prop 形式的简单模板
+ * 直接读取方法参数及属性，不创建 {@link EvaluationContext}，无法快速解析时(如中间值为 null)回退为完整求值
  *
  * @author brucewuu
  * @date 2020/4/28 10:43
  */
 public class UltronExpressionEvaluator extends CachedExpressionEvaluator {
+    /**
+     * 简单模板缓存容量
+     */
+    private static final int TEMPLATE_CACHE_CAPACITY = 1024;
+
     private final Map<ExpressionKey, Expression> expressionCache = new ConcurrentHashMap<>(64);
     private final Map<AnnotatedElementKey, Method> methodCache = new ConcurrentHashMap<>(64);
+    private final ConcurrentLruCache<TemplateKey, KeyTemplate> templateCache = new ConcurrentLruCache<>(TEMPLATE_CACHE_CAPACITY, this::parseTemplate);
+    private final Map<BeanFactory, BeanResolver> beanResolverCache = new ConcurrentReferenceHashMap<>(4, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+    public UltronExpressionEvaluator() {
+        super();
+    }
+
+    /**
+     * 编译生成的类由编译时线程上下文 ClassLoader 加载，可访问应用(含 Spring Boot fat jar、热部署)中的类型
+     *
+     * @param compilerMode spEl 编译模式，IMMEDIATE：首次求值后编译；MIXED：多次求值后编译，编译后执行失败时回退为解释执行
+     */
+    public UltronExpressionEvaluator(SpelCompilerMode compilerMode) {
+        this(compilerMode, null);
+    }
+
+    /**
+     * @param compilerMode        spEl 编译模式，IMMEDIATE：首次求值后编译；MIXED：多次求值后编译，编译后执行失败时回退为解释执行
+     * @param compilerClassLoader 加载编译生成类的 ClassLoader，为 null 时使用编译时线程上下文 ClassLoader
+     */
+    public UltronExpressionEvaluator(SpelCompilerMode compilerMode, @Nullable ClassLoader compilerClassLoader) {
+        super(new SpelExpressionParser(new SpelParserConfiguration(compilerMode, compilerClassLoader)));
+    }
 
     /**
      * Create an {@link EvaluationContext}.
@@ -38,7 +77,7 @@ public class UltronExpressionEvaluator extends CachedExpressionEvaluator {
         UltronExpressionRootObject rootObject = new UltronExpressionRootObject(method, args, target, targetClass, targetMethod);
         MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(rootObject, targetMethod, args, getParameterNameDiscoverer());
         if (beanFactory != null) {
-            evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
+            evaluationContext.setBeanResolver(getBeanResolver(beanFactory));
         }
         return evaluationContext;
     }
@@ -56,7 +95,7 @@ public class UltronExpressionEvaluator extends CachedExpressionEvaluator {
         Method targetMethod = getTargetMethod(targetClass, method);
         MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(rootObject, targetMethod, args, getParameterNameDiscoverer());
         if (beanFactory != null) {
-            evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
+            evaluationContext.setBeanResolver(getBeanResolver(beanFactory));
         }
         return evaluationContext;
     }
@@ -80,6 +119,73 @@ public class UltronExpressionEvaluator extends CachedExpressionEvaluator {
         return Boolean.TRUE.equals(eval(expression, methodKey, evalContext, Boolean.class));
     }
 
+    /**
+     * 基于方法调用求值，#arg、#arg.prop 形式的简单模板不创建 {@link EvaluationContext}
+     *
+     * @param expression  表达式
+     * @param method      the method
+     * @param args        the method arguments
+     * @param target      the target object
+     * @param targetClass the target class
+     * @param beanFactory BeanFactory，用于 @bean 引用
+     * @param valueType   结果类型
+     * @return 结果
+     */
+    @Nullable
+    public <T> T eval(String expression, Method method, Object[] args, Object target, Class<?> targetClass,
+                      @Nullable BeanFactory beanFactory, @Nullable Class<T> valueType) {
+        AnnotatedElementKey methodKey = new AnnotatedElementKey(method, targetClass);
+        // 先解析目标方法，模板解析时从 methodCache 读取
+        getTargetMethod(targetClass, method);
+        KeyTemplate template = templateCache.get(new TemplateKey(methodKey, expression));
+        if (template != KeyTemplate.NONE) {
+            Object value = template.resolve(args);
+            if (value != KeyTemplate.UNRESOLVED) {
+                return convert(value, valueType);
+            }
+        }
+        EvaluationContext evalContext = createContext(method, args, target, targetClass, beanFactory);
+        return eval(expression, methodKey, evalContext, valueType);
+    }
+
+    /**
+     * 基于方法调用求值为文本，#arg、#arg.prop 形式的简单模板不创建 {@link EvaluationContext}
+     *
+     * @param expression  表达式
+     * @param method      the method
+     * @param args        the method arguments
+     * @param target      the target object
+     * @param targetClass the target class
+     * @param beanFactory BeanFactory，用于 @bean 引用
+     * @return 结果
+     */
+    @Nullable
+    public String evalAsText(String expression, Method method, Object[] args, Object target, Class<?> targetClass, @Nullable BeanFactory beanFactory) {
+        return eval(expression, method, args, target, targetClass, beanFactory, String.class);
+    }
+
+    /**
+     * 与 {@link org.springframework.expression.spel.support.StandardTypeConverter} 默认的转换一致
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> T convert(@Nullable Object value, @Nullable Class<T> valueType) {
+        if (value == null || valueType == null || valueType.isInstance(value)) {
+            return (T) value;
+        }
+        return DefaultConversionService.getSharedInstance().convert(value, valueType);
+    }
+
+    private BeanResolver getBeanResolver(BeanFactory beanFactory) {
+        return beanResolverCache.computeIfAbsent(beanFactory, BeanFactoryResolver::new);
+    }
+
+    private KeyTemplate parseTemplate(TemplateKey key) {
+        Method targetMethod = methodCache.get(key.element());
+        // 并发 clear() 时目标方法可能已被移除，按非简单模板处理
+        return targetMethod != null ? KeyTemplate.parse(key.expression(), targetMethod, getParameterNameDiscoverer()) : KeyTemplate.NONE;
+    }
+
     private Method getTargetMethod(Class<?> targetClass, Method method) {
         AnnotatedElementKey methodKey = new AnnotatedElementKey(method, targetClass);
         return methodCache.computeIfAbsent(methodKey, (key) -> AopUtils.getMostSpecificMethod(method, targetClass));
@@ -91,5 +197,10 @@ public class UltronExpressionEvaluator extends CachedExpressionEvaluator {
     public void clear() {
         this.expressionCache.clear();
         this.methodCache.clear();
+        this.templateCache.clear();
+        this.beanResolverCache.clear();
+    }
+
+    private record TemplateKey(AnnotatedElementKey element, String expression) {
     }
 }
@@ -3,9 +3,12 @@ package org.springultron.core.utils;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Objects;
 
 /**
  * Base64 工具，默认UTF-8编码
+ * 字节数组编解码直接使用 {@link Base64}(HotSpot 对其提供 SIMD intrinsic)，
+ * 字符串编解码不再经过字符集转换，另提供写入调用方数组的 encodeTo/decodeTo 方法
  *
  * @author brucewuu
  * @date 2019-06-10 16:10
@@ -14,6 +17,102 @@ public class Base64Utils {
 
     private Base64Utils() {}
 
+    private static final char[] ALPHABET = {
+            'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M',
+            'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z',
+            'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm',
+            'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '+', '/'
+    };
+
+    private static final char PAD = '=';
+
+    /**
+     * 计算编码后长度(含填充)
+     *
+     * @param srcLength 源数据长度
+     * @return 编码后长度
+     */
+    public static int encodedLength(int srcLength) {
+        return (srcLength + 2) / 3 * 4;
+    }
+
+    /**
+     * 编码写入指定数组，不创建新数组
+     *
+     * @param src 源数据
+     * @param dst 输出数组，剩余长度不小于 {@link #encodedLength(int)}
+     * @param off 输出起始位置
+     * @return 输出结束位置
+     */
+    public static int encodeTo(byte[] src, byte[] dst, int off) {
+        final int len = encodedLength(src.length);
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (off == 0) {
+            // 从头写入时直接使用 JDK 实现，可命中 intrinsic
+            return Base64.getEncoder().encode(src, dst);
+        }
+        int j = off;
+        final int end = src.length - src.length % 3;
+        for (int i = 0; i < end; i += 3) {
+            final int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[j++] = (byte) ALPHABET[bits >>> 18];
+            dst[j++] = (byte) ALPHABET[(bits >>> 12) & 0x3F];
+            dst[j++] = (byte) ALPHABET[(bits >>> 6) & 0x3F];
+            dst[j++] = (byte) ALPHABET[bits & 0x3F];
+        }
+        final int remaining = src.length - end;
+        if (remaining > 0) {
+            final int bits = (src[end] & 0xFF) << 16 | (remaining == 2 ? (src[end + 1] & 0xFF) << 8 : 0);
+            dst[j++] = (byte) ALPHABET[bits >>> 18];
+            dst[j++] = (byte) ALPHABET[(bits >>> 12) & 0x3F];
+            dst[j++] = (byte) (remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : PAD);
+            dst[j++] = (byte) PAD;
+        }
+        return j;
+    }
+
+    /**
+     * 编码写入指定字符数组，不创建新数组
+     *
+     * @param src 源数据
+     * @param dst 输出数组，剩余长度不小于 {@link #encodedLength(int)}
+     * @param off 输出起始位置
+     * @return 输出结束位置
+     */
+    public static int encodeTo(byte[] src, char[] dst, int off) {
+        Objects.checkFromIndexSize(off, encodedLength(src.length), dst.length);
+        int j = off;
+        final int end = src.length - src.length % 3;
+        for (int i = 0; i < end; i += 3) {
+            final int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[j++] = ALPHABET[bits >>> 18];
+            dst[j++] = ALPHABET[(bits >>> 12) & 0x3F];
+            dst[j++] = ALPHABET[(bits >>> 6) & 0x3F];
+            dst[j++] = ALPHABET[bits & 0x3F];
+        }
+        final int remaining = src.length - end;
+        if (remaining > 0) {
+            final int bits = (src[end] & 0xFF) << 16 | (remaining == 2 ? (src[end + 1] & 0xFF) << 8 : 0);
+            dst[j++] = ALPHABET[bits >>> 18];
+            dst[j++] = ALPHABET[(bits >>> 12) & 0x3F];
+            dst[j++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : PAD;
+            dst[j++] = PAD;
+        }
+        return j;
+    }
+
+    /**
+     * 解码写入指定数组，不创建新数组
+     *
+     * @param src 编码数据
+     * @param dst 输出数组，长度不小于解码后长度
+     * @return 解码后长度
+     */
+    public static int decodeTo(byte[] src, byte[] dst) {
+        return src.length == 0 ? 0 : Base64.getDecoder().decode(src, dst);
+    }
+
     public static byte[] encode(byte[] src) {
         return src.length == 0 ? src : Base64.getEncoder().encode(src);
     }
@@ -51,7 +150,7 @@ public class Base64Utils {
     }
 
     public static String encode(String src, Charset charset) {
-        return null == src ? null : new String(encode(src.getBytes(charset)), charset);
+        return null == src ? null : encodeToString(src.getBytes(charset));
     }
 
     public static String decode(String src) {
@@ -59,7 +158,7 @@ public class Base64Utils {
     }
 
     public static String decode(String src, Charset charset) {
-        return null == src ? null : new String(decode(src.getBytes(charset)), charset);
+        return null == src ? null : new String(decodeFromString(src), charset);
     }
 
     public static String encodeUrlSafe(String src) {
@@ -67,7 +166,7 @@ public class Base64Utils {
     }
 
     public static String encodeUrlSafe(String src, Charset charset) {
-        return null == src ? null : new String(encodeUrlSafe(src.getBytes(charset)), charset);
+        return null == src ? null : encodeToUrlSafeString(src.getBytes(charset));
     }
 
     public static String decodeUrlSafe(String src) {
@@ -75,6 +174,6 @@ public class Base64Utils {
     }
 
     public static String decodeUrlSafe(String src, Charset charset) {
-        return null == src ? null : new String(decodeUrlSafe(src.getBytes(charset)), charset);
+        return null == src ? null : new String(decodeFromUrlSafeString(src), charset);
     }
 }
@@ -0,0 +1,181 @@
+package org.springultron.core.utils;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean 属性拷贝器
+ * <p>
+ * 按 (源类型, 目标类型, 是否类型转换) 生成并缓存拷贝器，属性匹配及类型判断只在生成时执行一次，
+ * 拷贝时直接调用 {@link java.lang.invoke.LambdaMetafactory} 生成的 getter/setter，无反射开销
+ * <p>
+ * 1、类型兼容(含泛型)的同名属性直接拷贝
+ * 2、类型不兼容的同名属性：开启类型转换时通过 {@link TypeConverterUtils} 转换，否则跳过
+ * 3、源属性值为 null 且目标属性为基本类型时跳过
+ *
+ * @author brucewuu
+ * @date 2026/10/18 13:00
+ */
+public final class BeanCopier {
+
+    private static final Map<CopierKey, BeanCopier> CACHE = new ConcurrentReferenceHashMap<>(64);
+
+    private final Class<?> sourceClass;
+
+    private final Class<?> targetClass;
+
+    private final PropertyCopier[] copiers;
+
+    private BeanCopier(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        Map<String, BeanProperty> sourceProperties = ReflectMetadata.of(sourceClass).getProperties();
+        List<PropertyCopier> list = new ArrayList<>();
+        for (BeanProperty targetProperty : ReflectMetadata.of(targetClass).getProperties().values()) {
+            if (!targetProperty.isWritable()) {
+                continue;
+            }
+            BeanProperty sourceProperty = sourceProperties.get(targetProperty.getName());
+            if (sourceProperty == null || !sourceProperty.isReadable()) {
+                continue;
+            }
+            Method readMethod = sourceProperty.getDescriptor().getReadMethod();
+            Method writeMethod = targetProperty.getDescriptor().getWriteMethod();
+            if (isAssignable(readMethod, writeMethod)) {
+                list.add(new PropertyCopier(sourceProperty.getGetter(), targetProperty.getSetter(), targetProperty.getType(), null));
+            } else if (useConverter) {
+                TypeDescriptor typeDescriptor = ReflectUtils.getTypeDescriptor(targetClass, targetProperty.getDescriptor(), targetProperty.getName());
+                list.add(new PropertyCopier(sourceProperty.getGetter(), targetProperty.getSetter(), targetProperty.getType(), typeDescriptor));
+            }
+        }
+        this.copiers = list.toArray(new PropertyCopier[0]);
+    }
+
+    /**
+     * 获取拷贝器(不进行类型转换)
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return BeanCopier
+     */
+    public static BeanCopier create(Class<?> sourceClass, Class<?> targetClass) {
+        return create(sourceClass, targetClass, false);
+    }
+
+    /**
+     * 获取拷贝器
+     *
+     * @param sourceClass  源类型
+     * @param targetClass  目标类型
+     * @param useConverter 类型不兼容时是否通过 {@link TypeConverterUtils} 转换
+     * @return BeanCopier
+     */
+    public static BeanCopier create(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+        Assert.notNull(sourceClass, "Source class must not be null");
+        Assert.notNull(targetClass, "Target class must not be null");
+        return CACHE.computeIfAbsent(new CopierKey(sourceClass, targetClass, useConverter),
+                key -> new BeanCopier(key.sourceClass(), key.targetClass(), key.useConverter()));
+    }
+
+    /**
+     * 拷贝属性(包括 null 值)
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public void copy(Object source, Object target) {
+        copy(source, target, false);
+    }
+
+    /**
+     * 拷贝属性
+     *
+     * @param source     源对象
+     * @param target     目标对象
+     * @param ignoreNull 是否忽略 null 值
+     */
+    public void copy(Object source, Object target, boolean ignoreNull) {
+        Assert.isInstanceOf(sourceClass, source, "Source");
+        Assert.isInstanceOf(targetClass, target, "Target");
+        for (PropertyCopier copier : copiers) {
+            copier.copy(source, target, ignoreNull);
+        }
+    }
+
+    /**
+     * 创建目标对象并拷贝属性
+     *
+     * @param source 源对象
+     * @param <T>    泛型标记
+     * @return 目标对象
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(Object source) {
+        T target = (T) BeanUtils.instantiateClass(targetClass);
+        copy(source, target, false);
+        return target;
+    }
+
+    /**
+     * 是否为该源类型生成的拷贝器
+     */
+    boolean supports(Class<?> sourceClass) {
+        return this.sourceClass == sourceClass;
+    }
+
+    private static boolean isAssignable(Method readMethod, Method writeMethod) {
+        ResolvableType sourceType = ResolvableType.forMethodReturnType(readMethod);
+        ResolvableType targetType = ResolvableType.forMethodParameter(writeMethod, 0);
+        if (sourceType.hasUnresolvableGenerics() || targetType.hasUnresolvableGenerics()) {
+            return ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType());
+        }
+        return targetType.isAssignableFrom(sourceType);
+    }
+
+    private record CopierKey(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+    }
+
+    private static final class PropertyCopier {
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        private final Class<?> targetType;
+        private final boolean primitive;
+        /**
+         * 非 null 时需要类型转换
+         */
+        @Nullable
+        private final TypeDescriptor typeDescriptor;
+
+        private PropertyCopier(Function<Object, Object> getter, BiConsumer<Object, Object> setter, Class<?> targetType, @Nullable TypeDescriptor typeDescriptor) {
+            this.getter = getter;
+            this.setter = setter;
+            this.targetType = targetType;
+            this.primitive = targetType.isPrimitive();
+            this.typeDescriptor = typeDescriptor;
+        }
+
+        private void copy(Object source, Object target, boolean ignoreNull) {
+            Object value = getter.apply(source);
+            if (value == null) {
+                if (!ignoreNull && !primitive) {
+                    setter.accept(target, null);
+                }
+                return;
+            }
+            if (typeDescriptor != null) {
+                value = TypeConverterUtils.convertIfNecessary(value, targetType, typeDescriptor);
+            }
+            setter.accept(target, value);
+        }
+    }
+}
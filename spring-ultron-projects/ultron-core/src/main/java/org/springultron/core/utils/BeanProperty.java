@@ -0,0 +1,189 @@
+package org.springultron.core.utils;
+
+import org.springframework.lang.Nullable;
+import org.springultron.core.exception.Exceptions;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean 属性访问器，通过 {@link ReflectMetadata#getProperty(String)} 获取
+ * getter/setter 通过 {@link LambdaMetafactory} 生成为 {@link Function}/{@link BiConsumer}，调用开销接近直接方法调用
+ *
+ * @author brucewuu
+ * @date 2026/10/18 13:00
+ */
+public final class BeanProperty {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final String name;
+
+    private final PropertyDescriptor descriptor;
+
+    @Nullable
+    private final Function<Object, Object> getter;
+
+    @Nullable
+    private final BiConsumer<Object, Object> setter;
+
+    @Nullable
+    private volatile MethodHandle readHandle;
+
+    @Nullable
+    private volatile MethodHandle writeHandle;
+
+    BeanProperty(PropertyDescriptor descriptor) {
+        this.name = descriptor.getName();
+        this.descriptor = descriptor;
+        this.getter = descriptor.getReadMethod() == null ? null : createGetter(descriptor.getReadMethod());
+        this.setter = descriptor.getWriteMethod() == null ? null : createSetter(descriptor.getWriteMethod());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PropertyDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    public Class<?> getType() {
+        return descriptor.getPropertyType();
+    }
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param bean 对象
+     * @return 属性值
+     */
+    @Nullable
+    public Object get(Object bean) {
+        if (getter == null) {
+            throw new IllegalStateException("Property '" + name + "' is not readable");
+        }
+        return getter.apply(bean);
+    }
+
+    /**
+     * 设置属性值
+     *
+     * @param bean  对象
+     * @param value 属性值
+     */
+    public void set(Object bean, @Nullable Object value) {
+        if (setter == null) {
+            throw new IllegalStateException("Property '" + name + "' is not writable");
+        }
+        setter.accept(bean, value);
+    }
+
+    /**
+     * 获取 getter 函数
+     *
+     * @return getter，不可读时为 null
+     */
+    @Nullable
+    public Function<Object, Object> getGetter() {
+        return getter;
+    }
+
+    /**
+     * 获取 setter 函数
+     *
+     * @return setter，不可写时为 null
+     */
+    @Nullable
+    public BiConsumer<Object, Object> getSetter() {
+        return setter;
+    }
+
+    /**
+     * 获取 getter 方法句柄，签名为 (Object)Object
+     *
+     * @return MethodHandle，不可读时为 null
+     */
+    @Nullable
+    public MethodHandle getReadHandle() {
+        MethodHandle handle = readHandle;
+        if (handle == null && descriptor.getReadMethod() != null) {
+            handle = unreflect(descriptor.getReadMethod());
+            readHandle = handle;
+        }
+        return handle;
+    }
+
+    /**
+     * 获取 setter 方法句柄，签名为 (Object, Object)void
+     *
+     * @return MethodHandle，不可写时为 null
+     */
+    @Nullable
+    public MethodHandle getWriteHandle() {
+        MethodHandle handle = writeHandle;
+        if (handle == null && descriptor.getWriteMethod() != null) {
+            handle = unreflect(descriptor.getWriteMethod());
+            writeHandle = handle;
+        }
+        return handle;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP).unreflect(method);
+            MethodType type = handle.type().generic();
+            return handle.asType(method.getReturnType() == void.class ? type.changeReturnType(void.class) : type);
+        } catch (IllegalAccessException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Method method) {
+        try {
+            Class<?> owner = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, LOOKUP);
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(method.getReturnType()), owner));
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            // 无法生成 lambda 时(如模块访问限制)退化为反射调用
+            ReflectUtils.makeAccessible(method);
+            return bean -> ReflectUtils.invokeMethod(method, bean);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(Method method) {
+        try {
+            Class<?> owner = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, LOOKUP);
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, owner, ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            ReflectUtils.makeAccessible(method);
+            return (bean, value) -> ReflectUtils.invokeMethod(method, bean, value);
+        }
+    }
+}
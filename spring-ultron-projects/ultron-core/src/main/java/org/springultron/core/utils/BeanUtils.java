@@ -1,9 +1,11 @@
 package org.springultron.core.utils;
 
 import org.springframework.beans.BeansException;
-import org.springframework.cglib.beans.BeanMap;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springultron.core.convert.ConverterRegistry;
 
-import java.util.Map;
+import java.util.*;
 
 /**
  * 实体工具
@@ -52,24 +54,82 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
      * @return 目标对象
      */
     public static <T> T copyProperties(Object source, Class<T> target) throws BeansException {
-        T bean = BeanUtils.instantiateClass(target);
-        BeanUtils.copyProperties(source, bean);
-        return bean;
+        Assert.notNull(source, "Source must not be null");
+        return BeanCopier.create(source.getClass(), target).copy(source);
+    }
+
+    /**
+     * 将一个对象的属性copy给另外一个对象（使用缓存的 {@link BeanCopier}，替代 Spring 基于反射的实现）
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public static void copyProperties(Object source, Object target) throws BeansException {
+        Assert.notNull(source, "Source must not be null");
+        Assert.notNull(target, "Target must not be null");
+        BeanCopier.create(source.getClass(), target.getClass()).copy(source, target);
     }
 
     /**
-     * 对象转 Map（性能不佳，慎用！）
+     * 将一个对象中不为 null 的属性copy给另外一个对象
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public static void copyNonNullProperties(Object source, Object target) {
+        Assert.notNull(source, "Source must not be null");
+        Assert.notNull(target, "Target must not be null");
+        BeanCopier.create(source.getClass(), target.getClass()).copy(source, target, true);
+    }
+
+    /**
+     * 批量copy对象属性
+     *
+     * @param sources 源对象集合
+     * @param target  目标对象类
+     * @param <T>     泛型标记
+     * @return 目标对象集合
+     */
+    public static <T> List<T> copyList(@Nullable Collection<?> sources, Class<T> target) {
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        List<T> list = new ArrayList<>(sources.size());
+        BeanCopier copier = null;
+        for (Object source : sources) {
+            if (source == null) {
+                list.add(null);
+                continue;
+            }
+            if (copier == null || !copier.supports(source.getClass())) {
+                copier = BeanCopier.create(source.getClass(), target);
+            }
+            list.add(copier.copy(source));
+        }
+        return list;
+    }
+
+    /**
+     * 对象转 Map（属性快照，修改 Map 不影响原对象）
      *
      * @param bean 对象
      * @return Map
      */
-    @SuppressWarnings("unchecked")
     public static Map<String, Object> toMap(Object bean) {
-        return BeanMap.create(bean);
+        Assert.notNull(bean, "Bean must not be null");
+        Collection<BeanProperty> properties = ReflectMetadata.of(bean.getClass()).getProperties().values();
+        Map<String, Object> map = new LinkedHashMap<>(Math.max((int) (properties.size() / 0.75F) + 1, 16));
+        for (BeanProperty property : properties) {
+            if (property.isReadable()) {
+                map.put(property.getName(), property.get(bean));
+            }
+        }
+        return map;
     }
 
     /**
      * Map 转对象（不支持bean的链式调用）
+     * 值类型与属性类型不一致时通过 {@link ConverterRegistry} 转换
      *
      * @param map   源数据
      * @param clazz 目标对象类
@@ -78,7 +138,25 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
      */
     public static <T> T toBean(Map<String, Object> map, Class<T> clazz) {
         T bean = BeanUtils.instantiateClass(clazz);
-        BeanMap.create(bean).putAll(map);
+        Map<String, BeanProperty> properties = ReflectMetadata.of(clazz).getProperties();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            BeanProperty property = properties.get(entry.getKey());
+            if (property == null || !property.isWritable()) {
+                continue;
+            }
+            Object value = entry.getValue();
+            Class<?> type = property.getType();
+            if (value == null) {
+                if (!type.isPrimitive()) {
+                    property.set(bean, null);
+                }
+                continue;
+            }
+            if (!ClassUtils.isAssignableValue(type, value)) {
+                value = ConverterRegistry.getConverter(value.getClass(), type, null).apply(value);
+            }
+            property.set(bean, value);
+        }
         return bean;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,266 @@
+package org.springultron.core.utils;
+
+import org.springframework.lang.Nullable;
+
+import java.net.InetAddress;
+import java.util.*;
+
+/**
+ * 不可变的 CIDR 网段匹配器，可作为常量在多线程间共享，用于黑白名单、可信代理等
+ * <p>
+ * 网段编译为 IPv4/IPv6 两棵二叉前缀树，匹配时按地址位逐层查找，
+ * 复杂度为 O(前缀长度)，与网段数量无关；IPv4 地址匹配不创建任何对象，不进行 DNS 解析
+ * <pre>
+ * private static final CidrMatcher TRUSTED_PROXIES = CidrMatcher.of("10.0.0.0/8", "192.168.1.1", "fd00::/8");
+ *
+ * TRUSTED_PROXIES.contains("10.1.2.3");   // true
+ * </pre>
+ * IPv4 映射的 IPv6 地址(::ffff:a.b.c.d)按 IPv4 地址匹配，与 {@link InetAddress} 一致
+ *
+ * @author brucewuu
+ * @date 2026/10/18 18:30
+ */
+public final class CidrMatcher {
+
+    private static final CidrMatcher EMPTY = new CidrMatcher(Collections.emptyList(), new Trie.Builder().build(), new Trie.Builder().build());
+
+    private final List<String> cidrs;
+
+    private final Trie ipv4;
+
+    private final Trie ipv6;
+
+    private CidrMatcher(List<String> cidrs, Trie ipv4, Trie ipv6) {
+        this.cidrs = cidrs;
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    /**
+     * 创建匹配器
+     *
+     * @param cidrs 网段，如 10.0.0.0/8、fd00::/8，不带前缀长度时表示单个地址
+     * @return CidrMatcher
+     * @throws IllegalArgumentException 网段格式不正确
+     */
+    public static CidrMatcher of(String... cidrs) {
+        return of(Arrays.asList(cidrs));
+    }
+
+    /**
+     * 创建匹配器，忽略空白项
+     *
+     * @param cidrs 网段，如 10.0.0.0/8、fd00::/8，不带前缀长度时表示单个地址
+     * @return CidrMatcher
+     * @throws IllegalArgumentException 网段格式不正确
+     */
+    public static CidrMatcher of(@Nullable Collection<String> cidrs) {
+        if (cidrs == null || cidrs.isEmpty()) {
+            return EMPTY;
+        }
+        final Trie.Builder ipv4 = new Trie.Builder();
+        final Trie.Builder ipv6 = new Trie.Builder();
+        final List<String> accepted = new ArrayList<>(cidrs.size());
+        final byte[] address = new byte[IpUtils.IPV6_LENGTH];
+        for (String cidr : cidrs) {
+            if (StringUtils.isBlank(cidr)) {
+                continue;
+            }
+            final String value = cidr.trim();
+            final int slash = value.indexOf('/');
+            final int end = slash < 0 ? value.length() : slash;
+            final int length = IpUtils.parseAddress(value, 0, end, address);
+            if (length < 0) {
+                throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+            }
+            int prefix = length << 3;
+            if (slash >= 0) {
+                try {
+                    prefix = Integer.parseInt(value, slash + 1, value.length(), 10);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr, e);
+                }
+                if (prefix < 0 || prefix > length << 3) {
+                    throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr);
+                }
+            }
+            if (length == IpUtils.IPV4_LENGTH) {
+                ipv4.add(toLong(address, 0, IpUtils.IPV4_LENGTH) << 32, 0L, prefix);
+            } else if (IpUtils.isIpv4Mapped(address) && prefix >= 96) {
+                ipv4.add(toLong(address, 12, IpUtils.IPV4_LENGTH) << 32, 0L, prefix - 96);
+            } else {
+                ipv6.add(toLong(address, 0, 8), toLong(address, 8, 8), prefix);
+            }
+            accepted.add(value);
+        }
+        return new CidrMatcher(Collections.unmodifiableList(accepted), ipv4.build(), ipv6.build());
+    }
+
+    /**
+     * 是否没有任何网段
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return cidrs.isEmpty();
+    }
+
+    /**
+     * IP 是否在网段内，非 IP 字面量返回 false
+     *
+     * @param ip IP 地址
+     * @return boolean
+     */
+    public boolean contains(@Nullable CharSequence ip) {
+        return ip != null && contains(ip, 0, ip.length());
+    }
+
+    /**
+     * 字符序列指定区间内的 IP 是否在网段内，不创建子串，非 IP 字面量返回 false
+     *
+     * @param ip    字符序列
+     * @param start 起始位置(含)
+     * @param end   结束位置(不含)
+     * @return boolean
+     */
+    public boolean contains(CharSequence ip, int start, int end) {
+        if (isEmpty()) {
+            return false;
+        }
+        final long ipv4 = ValidateUtils.parseIpv4(ip, start, end);
+        if (ipv4 >= 0) {
+            return this.ipv4.matches(ipv4 << 32, 0L, 32);
+        }
+        final byte[] address = new byte[IpUtils.IPV6_LENGTH];
+        return IpUtils.parseAddress(ip, start, end, address) == IpUtils.IPV6_LENGTH && contains(address);
+    }
+
+    /**
+     * 地址是否在网段内
+     *
+     * @param address 4 或 16 字节的地址
+     * @return boolean
+     */
+    public boolean contains(byte[] address) {
+        if (address.length == IpUtils.IPV4_LENGTH) {
+            return ipv4.matches(toLong(address, 0, IpUtils.IPV4_LENGTH) << 32, 0L, 32);
+        }
+        if (address.length != IpUtils.IPV6_LENGTH) {
+            return false;
+        }
+        if (IpUtils.isIpv4Mapped(address)) {
+            return ipv4.matches(toLong(address, 12, IpUtils.IPV4_LENGTH) << 32, 0L, 32);
+        }
+        return ipv6.matches(toLong(address, 0, 8), toLong(address, 8, 8), 128);
+    }
+
+    /**
+     * 地址是否在网段内
+     *
+     * @param address InetAddress
+     * @return boolean
+     */
+    public boolean contains(InetAddress address) {
+        return contains(address.getAddress());
+    }
+
+    private static long toLong(byte[] bytes, int offset, int length) {
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "CidrMatcher" + cidrs;
+    }
+
+    /**
+     * 二叉前缀树，节点以数组存储，0 号为根节点，子节点下标为 0 表示不存在
+     */
+    private static final class Trie {
+
+        private final int[] zero;
+
+        private final int[] one;
+
+        private final boolean[] terminal;
+
+        private Trie(int[] zero, int[] one, boolean[] terminal) {
+            this.zero = zero;
+            this.one = one;
+            this.terminal = terminal;
+        }
+
+        /**
+         * 地址(高位对齐到 high 的最高位)是否命中任一前缀
+         */
+        private boolean matches(long high, long low, int bits) {
+            int node = 0;
+            for (int i = 0; i < bits; i++) {
+                if (terminal[node]) {
+                    return true;
+                }
+                node = bit(high, low, i) == 0 ? zero[node] : one[node];
+                if (node == 0) {
+                    return false;
+                }
+            }
+            return terminal[node];
+        }
+
+        private static int bit(long high, long low, int index) {
+            return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+        }
+
+        private static final class Builder {
+
+            private int[] zero = new int[16];
+
+            private int[] one = new int[16];
+
+            private boolean[] terminal = new boolean[16];
+
+            private int size = 1;
+
+            private void add(long high, long low, int prefix) {
+                int node = 0;
+                for (int i = 0; i < prefix; i++) {
+                    if (terminal[node]) {
+                        // 已被更短的前缀覆盖
+                        return;
+                    }
+                    final boolean isZero = bit(high, low, i) == 0;
+                    int child = isZero ? zero[node] : one[node];
+                    if (child == 0) {
+                        // newNode 可能扩容，之后再取数组
+                        child = newNode();
+                        if (isZero) {
+                            zero[node] = child;
+                        } else {
+                            one[node] = child;
+                        }
+                    }
+                    node = child;
+                }
+                terminal[node] = true;
+            }
+
+            private int newNode() {
+                if (size == terminal.length) {
+                    final int capacity = size << 1;
+                    zero = Arrays.copyOf(zero, capacity);
+                    one = Arrays.copyOf(one, capacity);
+                    terminal = Arrays.copyOf(terminal, capacity);
+                }
+                return size++;
+            }
+
+            private Trie build() {
+                return new Trie(Arrays.copyOf(zero, size), Arrays.copyOf(one, size), Arrays.copyOf(terminal, size));
+            }
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package org.springultron.core.utils;
 
+import org.springframework.util.ConcurrentLruCache;
+import org.springultron.core.exception.Exceptions;
+
+import java.io.IOException;
+import java.io.Writer;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -10,6 +15,10 @@ import java.util.Date;
 
 /**
  * Java8时间日期转换工具
+ * <p>
+ * 1、yyyy-MM-dd HH:mm:ss、yyyy-MM-dd、HH:mm:ss 三种固定格式使用手写的格式化及解析，不经过 {@link DateTimeFormatter}，
+ * 年份超出 1~9999 或日期需要 SMART 模式修正(如 02-30)时回退为 {@link DateTimeFormatter}，结果与之一致
+ * 2、其余格式的 {@link DateTimeFormatter} 通过有界并发 LRU 缓存复用，见 {@link #getFormatter(String)}
  *
  * @author brucewuu
  * @date @date 2019-06-10 16:30
@@ -27,6 +36,37 @@ public class DateUtils {
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(PATTERN_DATE);
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(PATTERN_TIME);
 
+    /**
+     * 格式化器缓存容量
+     */
+    public static final int FORMATTER_CACHE_CAPACITY = 256;
+
+    private static final ConcurrentLruCache<String, DateTimeFormatter> FORMATTER_CACHE =
+            new ConcurrentLruCache<>(FORMATTER_CACHE_CAPACITY, DateTimeFormatter::ofPattern);
+
+    private static final int DATE_LENGTH = PATTERN_DATE.length();
+    private static final int TIME_LENGTH = PATTERN_TIME.length();
+    private static final int DATE_TIME_LENGTH = PATTERN_DATE_TIME.length();
+
+    /**
+     * 获取格式化器，结果已缓存
+     *
+     * @param pattern 格式化参数
+     * @return DateTimeFormatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        if (PATTERN_DATE_TIME.equals(pattern)) {
+            return DATE_TIME_FORMATTER;
+        }
+        if (PATTERN_DATE.equals(pattern)) {
+            return DATE_FORMATTER;
+        }
+        if (PATTERN_TIME.equals(pattern)) {
+            return TIME_FORMATTER;
+        }
+        return FORMATTER_CACHE.get(pattern);
+    }
+
     /**
      * 格式化日期时间
      *
@@ -34,7 +74,12 @@ public class DateUtils {
      * @return yyyy-MM-dd HH:mm:ss
      */
     public static String formatDateTime(LocalDateTime dateTime) {
-        return DATE_TIME_FORMATTER.format(dateTime);
+        if (!isFastYear(dateTime.getYear())) {
+            return DATE_TIME_FORMATTER.format(dateTime);
+        }
+        final char[] buf = new char[DATE_TIME_LENGTH];
+        writeDateTime(dateTime, buf);
+        return new String(buf);
     }
 
     /**
@@ -45,7 +90,26 @@ public class DateUtils {
      * @return 日期时间字符串
      */
     public static String formatDateTime(LocalDateTime dateTime, String pattern) {
-        return DateTimeFormatter.ofPattern(pattern).format(dateTime);
+        if (PATTERN_DATE_TIME.equals(pattern)) {
+            return formatDateTime(dateTime);
+        }
+        return getFormatter(pattern).format(dateTime);
+    }
+
+    /**
+     * 格式化日期时间并写入 out，不创建中间字符串
+     *
+     * @param dateTime 日期时间
+     * @param out      StringBuilder、Writer 等
+     */
+    public static void formatTo(LocalDateTime dateTime, Appendable out) {
+        if (!isFastYear(dateTime.getYear())) {
+            DATE_TIME_FORMATTER.formatTo(dateTime, out);
+            return;
+        }
+        final char[] buf = new char[DATE_TIME_LENGTH];
+        writeDateTime(dateTime, buf);
+        append(buf, out);
     }
 
     /**
@@ -58,7 +122,8 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateTime)) {
             return null;
         }
-        return LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
+        final LocalDateTime value = fastParseDateTime(dateTime);
+        return value != null ? value : LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
     }
 
     /**
@@ -72,7 +137,10 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateTime)) {
             return null;
         }
-        return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern(pattern));
+        if (PATTERN_DATE_TIME.equals(pattern)) {
+            return parseDateTime(dateTime);
+        }
+        return LocalDateTime.parse(dateTime, getFormatter(pattern));
     }
 
     /**
@@ -81,7 +149,7 @@ public class DateUtils {
      * @return yyyy-MM-dd HH:mm:ss
      */
     public static String getNowDateTime() {
-        return DATE_TIME_FORMATTER.format(LocalDateTime.now());
+        return formatDateTime(LocalDateTime.now());
     }
 
     /**
@@ -91,7 +159,12 @@ public class DateUtils {
      * @return yyyy-MM-dd
      */
     public static String formatDate(LocalDate localDate) {
-        return DATE_FORMATTER.format(localDate);
+        if (!isFastYear(localDate.getYear())) {
+            return DATE_FORMATTER.format(localDate);
+        }
+        final char[] buf = new char[DATE_LENGTH];
+        writeDate(localDate, buf, 0);
+        return new String(buf);
     }
 
     /**
@@ -102,7 +175,26 @@ public class DateUtils {
      * @return 日期字符串
      */
     public static String formatDate(LocalDate localDate, String pattern) {
-        return DateTimeFormatter.ofPattern(pattern).format(localDate);
+        if (PATTERN_DATE.equals(pattern)) {
+            return formatDate(localDate);
+        }
+        return getFormatter(pattern).format(localDate);
+    }
+
+    /**
+     * 格式化日期并写入 out，不创建中间字符串
+     *
+     * @param localDate 日期
+     * @param out       StringBuilder、Writer 等
+     */
+    public static void formatTo(LocalDate localDate, Appendable out) {
+        if (!isFastYear(localDate.getYear())) {
+            DATE_FORMATTER.formatTo(localDate, out);
+            return;
+        }
+        final char[] buf = new char[DATE_LENGTH];
+        writeDate(localDate, buf, 0);
+        append(buf, out);
     }
 
     /**
@@ -115,7 +207,8 @@ public class DateUtils {
         if (StringUtils.isEmpty(date)) {
             return null;
         }
-        return LocalDate.parse(date, DATE_FORMATTER);
+        final LocalDate value = date.length() == DATE_LENGTH ? fastParseDate(date, 0) : null;
+        return value != null ? value : LocalDate.parse(date, DATE_FORMATTER);
     }
 
     /**
@@ -129,7 +222,10 @@ public class DateUtils {
         if (StringUtils.isEmpty(date)) {
             return null;
         }
-        return LocalDate.parse(date, DateTimeFormatter.ofPattern(pattern));
+        if (PATTERN_DATE.equals(pattern)) {
+            return parseDate(date);
+        }
+        return LocalDate.parse(date, getFormatter(pattern));
     }
 
     /**
@@ -139,7 +235,9 @@ public class DateUtils {
      * @return HH:mm:ss
      */
     public static String formatTime(LocalTime localTime) {
-        return TIME_FORMATTER.format(localTime);
+        final char[] buf = new char[TIME_LENGTH];
+        writeTime(localTime, buf, 0);
+        return new String(buf);
     }
 
     /**
@@ -150,7 +248,22 @@ public class DateUtils {
      * @return 时间字符串
      */
     public static String formatTime(LocalTime localTime, String pattern) {
-        return DateTimeFormatter.ofPattern(pattern).format(localTime);
+        if (PATTERN_TIME.equals(pattern)) {
+            return formatTime(localTime);
+        }
+        return getFormatter(pattern).format(localTime);
+    }
+
+    /**
+     * 格式化时间并写入 out，不创建中间字符串
+     *
+     * @param localTime 时间
+     * @param out       StringBuilder、Writer 等
+     */
+    public static void formatTo(LocalTime localTime, Appendable out) {
+        final char[] buf = new char[TIME_LENGTH];
+        writeTime(localTime, buf, 0);
+        append(buf, out);
     }
 
     /**
@@ -160,7 +273,8 @@ public class DateUtils {
      * @return LocalTime
      */
     public static LocalTime parseTime(String time) {
-        return LocalTime.parse(time, TIME_FORMATTER);
+        final LocalTime value = time != null && time.length() == TIME_LENGTH ? fastParseTime(time, 0) : null;
+        return value != null ? value : LocalTime.parse(time, TIME_FORMATTER);
     }
 
     /**
@@ -174,7 +288,10 @@ public class DateUtils {
         if (StringUtils.isEmpty(time)) {
             return null;
         }
-        return LocalTime.parse(time, DateTimeFormatter.ofPattern(pattern));
+        if (PATTERN_TIME.equals(pattern)) {
+            return parseTime(time);
+        }
+        return LocalTime.parse(time, getFormatter(pattern));
     }
 
     /**
@@ -188,7 +305,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateStr)) {
             return null;
         }
-        return DateTimeFormatter.ofPattern(pattern).parse(dateStr, query);
+        return getFormatter(pattern).parse(dateStr, query);
     }
 
     /**
@@ -344,4 +461,117 @@ public class DateUtils {
         return (StringUtils.isEmpty(prefix) ? "星期" : prefix) + weekStr;
     }
 
+    /**
+     * yyyy 为纪年年份，1~9999 之外(含公元前)的格式化结果与固定 4 位不同
+     */
+    private static boolean isFastYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    private static void writeDateTime(LocalDateTime dateTime, char[] buf) {
+        writeDate(dateTime.toLocalDate(), buf, 0);
+        buf[DATE_LENGTH] = ' ';
+        writeTime(dateTime.toLocalTime(), buf, DATE_LENGTH + 1);
+    }
+
+    private static void writeDate(LocalDate date, char[] buf, int offset) {
+        final int year = date.getYear();
+        writeTwoDigits(year / 100, buf, offset);
+        writeTwoDigits(year % 100, buf, offset + 2);
+        buf[offset + 4] = '-';
+        writeTwoDigits(date.getMonthValue(), buf, offset + 5);
+        buf[offset + 7] = '-';
+        writeTwoDigits(date.getDayOfMonth(), buf, offset + 8);
+    }
+
+    private static void writeTime(LocalTime time, char[] buf, int offset) {
+        writeTwoDigits(time.getHour(), buf, offset);
+        buf[offset + 2] = ':';
+        writeTwoDigits(time.getMinute(), buf, offset + 3);
+        buf[offset + 5] = ':';
+        writeTwoDigits(time.getSecond(), buf, offset + 6);
+    }
+
+    private static void writeTwoDigits(int value, char[] buf, int offset) {
+        buf[offset] = (char) ('0' + value / 10);
+        buf[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void append(char[] buf, Appendable out) {
+        try {
+            if (out instanceof StringBuilder sb) {
+                sb.append(buf);
+            } else if (out instanceof Writer writer) {
+                writer.write(buf);
+            } else {
+                for (char c : buf) {
+                    out.append(c);
+                }
+            }
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 解析 yyyy-MM-dd HH:mm:ss，格式不符或需要 SMART 模式修正时返回 null
+     */
+    private static LocalDateTime fastParseDateTime(String text) {
+        if (text.length() != DATE_TIME_LENGTH || text.charAt(DATE_LENGTH) != ' ') {
+            return null;
+        }
+        final LocalDate date = fastParseDate(text, 0);
+        if (date == null) {
+            return null;
+        }
+        final LocalTime time = fastParseTime(text, DATE_LENGTH + 1);
+        return time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    /**
+     * 解析 yyyy-MM-dd，格式不符或需要 SMART 模式修正时返回 null
+     */
+    private static LocalDate fastParseDate(String text, int offset) {
+        if (text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+            return null;
+        }
+        final int year = digits(text, offset, 4);
+        final int month = digits(text, offset + 5, 2);
+        final int day = digits(text, offset + 8, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 解析 HH:mm:ss，格式不符或需要 SMART 模式修正(如 24:00:00)时返回 null
+     */
+    private static LocalTime fastParseTime(String text, int offset) {
+        if (text.charAt(offset + 2) != ':' || text.charAt(offset + 5) != ':') {
+            return null;
+        }
+        final int hour = digits(text, offset, 2);
+        final int minute = digits(text, offset + 3, 2);
+        final int second = digits(text, offset + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    /**
+     * 解析定长 ASCII 数字，含非数字字符时返回 -1
+     */
+    private static int digits(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
 }
@@ -0,0 +1,229 @@
+package org.springultron.core.utils;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springultron.core.exception.CryptoException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link MessageDigest}/{@link Mac} 对象池
+ * <p>
+ * 1、按算法(及密钥)分组复用实例，Mac 在入池时已完成 init，复用时无需重新创建 {@link SecretKeySpec}
+ * 2、实例在使用期间由调用方独占，归还时 reset，不与线程绑定，适用于虚拟线程
+ * 3、分组数不超过 {@link #MAX_KEYS}，每组空闲实例不超过 {@link #MAX_IDLE}，超出时创建的实例用后直接丢弃；
+ * Mac 分组为 LRU，按(算法, 密钥)索引，长时间不用的密钥会被淘汰
+ * <p>
+ * 使用方式：
+ * <pre>
+ * try (DigestPool.PooledMac pooled = DigestPool.mac("HmacSHA256", key)) {
+ *     return pooled.mac().doFinal(data);
+ * }
+ * </pre>
+ *
+ * @author brucewuu
+ * @date 2026/10/18 15:00
+ */
+final class DigestPool {
+
+    private DigestPool() {
+    }
+
+    /**
+     * 分组数上限
+     */
+    static final int MAX_KEYS = 256;
+
+    /**
+     * 每组空闲实例上限
+     */
+    static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final ConcurrentMap<String, Pool<PooledDigest>> DIGESTS = new ConcurrentHashMap<>();
+
+    /**
+     * (算法, 密钥) -> 对象池，LRU 淘汰
+     */
+    private static final ConcurrentLruCache<MacKey, Pool<PooledMac>> MACS = new ConcurrentLruCache<>(MAX_KEYS, key -> new Pool<>());
+
+    /**
+     * 借出 MessageDigest，使用完毕后必须 close 归还
+     *
+     * @param algorithm 算法
+     * @return PooledDigest
+     */
+    static PooledDigest digest(String algorithm) {
+        Pool<PooledDigest> pool = DIGESTS.get(algorithm);
+        if (pool == null) {
+            // 先创建实例以校验算法，避免无效算法占用分组
+            MessageDigest digest = newDigest(algorithm);
+            if (DIGESTS.size() >= MAX_KEYS) {
+                return new PooledDigest(digest, null);
+            }
+            pool = DIGESTS.computeIfAbsent(algorithm, key -> new Pool<>());
+            return new PooledDigest(digest, pool);
+        }
+        PooledDigest pooled = pool.poll();
+        return pooled != null ? pooled : new PooledDigest(newDigest(algorithm), pool);
+    }
+
+    /**
+     * 借出已初始化的 Mac，使用完毕后必须 close 归还
+     *
+     * @param algorithm 算法
+     * @param key       密钥
+     * @return PooledMac
+     */
+    static PooledMac mac(String algorithm, String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null key");
+        }
+        Pool<PooledMac> pool = MACS.get(new MacKey(algorithm, key));
+        PooledMac pooled = pool.poll();
+        return pooled != null ? pooled : new PooledMac(newMac(algorithm, key.getBytes(StandardCharsets.UTF_8)), pool);
+    }
+
+    /**
+     * 清空对象池
+     */
+    static void clear() {
+        DIGESTS.clear();
+        MACS.clear();
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new CryptoException("Could not find MessageDigest with algorithm \"" + algorithm + "\"", e);
+        }
+    }
+
+    private static Mac newMac(String algorithm, byte[] keyBytes) {
+        try {
+            final Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(keyBytes, algorithm));
+            return mac;
+        } catch (final NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Mac 分组键
+     */
+    private record MacKey(String algorithm, String key) {
+    }
+
+    /**
+     * 无锁的有界空闲队列
+     */
+    private static final class Pool<T> {
+
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private T poll() {
+            T value = idle.poll();
+            if (value != null) {
+                size.decrementAndGet();
+            }
+            return value;
+        }
+
+        private void offer(T value) {
+            if (size.incrementAndGet() <= MAX_IDLE) {
+                idle.offer(value);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 借出的 MessageDigest，附带一个长度为摘要长度的暂存区
+     */
+    static final class PooledDigest implements AutoCloseable {
+
+        private final MessageDigest digest;
+
+        private final byte[] buffer;
+
+        @Nullable
+        private final Pool<PooledDigest> owner;
+
+        private PooledDigest(MessageDigest digest, @Nullable Pool<PooledDigest> owner) {
+            this.digest = digest;
+            this.buffer = new byte[digest.getDigestLength()];
+            this.owner = owner;
+        }
+
+        MessageDigest digest() {
+            return digest;
+        }
+
+        /**
+         * 暂存区，长度为摘要长度(provider 不支持时长度为 0)
+         */
+        byte[] buffer() {
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            digest.reset();
+            if (owner != null) {
+                owner.offer(this);
+            }
+        }
+    }
+
+    /**
+     * 借出的 Mac，附带一个长度为 MAC 长度的暂存区
+     */
+    static final class PooledMac implements AutoCloseable {
+
+        private final Mac mac;
+
+        private final byte[] buffer;
+
+        @Nullable
+        private final Pool<PooledMac> owner;
+
+        private PooledMac(Mac mac, @Nullable Pool<PooledMac> owner) {
+            this.mac = mac;
+            this.buffer = new byte[mac.getMacLength()];
+            this.owner = owner;
+        }
+
+        Mac mac() {
+            return mac;
+        }
+
+        /**
+         * 暂存区，长度为 MAC 长度
+         */
+        byte[] buffer() {
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            mac.reset();
+            if (owner != null) {
+                owner.offer(this);
+            }
+        }
+    }
+}
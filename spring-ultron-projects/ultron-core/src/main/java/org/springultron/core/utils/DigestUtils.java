@@ -3,16 +3,19 @@ package org.springultron.core.utils;
 import org.springultron.core.exception.CryptoException;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
  * 摘要算法工具类
+ * 摘要及 HMAC 计算通过 {@link DigestPool} 复用 {@link MessageDigest}/{@link Mac} 实例
  *
  * @author brucewuu
  * @date 2019-06-06 10:44
@@ -43,8 +46,7 @@ public class DigestUtils {
      * @return MD5 digest as a hex string
      */
     public static String md5Hex(final String valueToDigest) {
-        byte[] bytes = md5(valueToDigest);
-        return Hex.encodeHexString(bytes);
+        return hashHex("MD5", valueToDigest);
     }
 
     public static String sha1Hex(final String valueToDigest) {
@@ -71,8 +73,18 @@ public class DigestUtils {
      * @return digest as a hex string
      */
     public static String hashHex(final String algorithm, final String valueToDigest) {
-        byte[] bytes = digest(algorithm, valueToDigest.getBytes(StandardCharsets.UTF_8));
-        return Hex.encodeHexString(bytes);
+        try (DigestPool.PooledDigest pooled = DigestPool.digest(algorithm)) {
+            final MessageDigest messageDigest = pooled.digest();
+            messageDigest.update(valueToDigest.getBytes(StandardCharsets.UTF_8));
+            final byte[] buffer = pooled.buffer();
+            if (buffer.length == 0) {
+                return Hex.encodeHexString(messageDigest.digest());
+            }
+            messageDigest.digest(buffer, 0, buffer.length);
+            return Hex.encodeHexString(buffer, 0, buffer.length);
+        } catch (final DigestException e) {
+            throw new CryptoException(e);
+        }
     }
 
     /**
@@ -83,7 +95,28 @@ public class DigestUtils {
      * @return digest as byte array
      */
     public static byte[] digest(final String algorithm, final byte[] valueToDigest) {
-        return getDigest(algorithm).digest(valueToDigest);
+        try (DigestPool.PooledDigest pooled = DigestPool.digest(algorithm)) {
+            return pooled.digest().digest(valueToDigest);
+        }
+    }
+
+    /**
+     * 摘要算法，结果写入指定数组，不创建新数组
+     *
+     * @param algorithm     算法
+     * @param valueToDigest data
+     * @param out           输出数组，剩余长度不小于摘要长度
+     * @param offset        输出起始位置
+     * @return 摘要长度
+     */
+    public static int digestInto(final String algorithm, final byte[] valueToDigest, final byte[] out, final int offset) {
+        try (DigestPool.PooledDigest pooled = DigestPool.digest(algorithm)) {
+            final MessageDigest messageDigest = pooled.digest();
+            messageDigest.update(valueToDigest);
+            return messageDigest.digest(out, offset, out.length - offset);
+        } catch (final DigestException e) {
+            throw new CryptoException(e);
+        }
     }
 
     /**
@@ -94,10 +127,10 @@ public class DigestUtils {
      * @return digest as byte array
      */
     public static byte[] digest(final String algorithm, final InputStream valueToDigest) {
-        MessageDigest messageDigest = getDigest(algorithm);
         final byte[] buffer = new byte[STREAM_BUFFER_LENGTH];
         int read;
-        try {
+        try (DigestPool.PooledDigest pooled = DigestPool.digest(algorithm)) {
+            final MessageDigest messageDigest = pooled.digest();
             while ((read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH)) > -1) {
                 messageDigest.update(buffer, 0, read);
             }
@@ -107,6 +140,12 @@ public class DigestUtils {
         }
     }
 
+    /**
+     * 创建新的 MessageDigest 实例，由调用方独占使用
+     *
+     * @param algorithm 算法
+     * @return MessageDigest
+     */
     public static MessageDigest getDigest(final String algorithm) {
         try {
             return MessageDigest.getInstance(algorithm);
@@ -196,29 +235,121 @@ public class DigestUtils {
     }
 
     public static byte[] hmac(final String algorithm, final byte[] valueToDigest, final String key) {
-        return getInitializedMac(algorithm, key).doFinal(valueToDigest);
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            return pooled.mac().doFinal(valueToDigest);
+        }
     }
 
     public static String hmacHex(final String algorithm, final byte[] valueToDigest, final String key) {
-        return Hex.encodeHexString(hmac(algorithm, valueToDigest, key));
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final byte[] buffer = doFinal(pooled, valueToDigest);
+            return Hex.encodeHexString(buffer, 0, buffer.length);
+        }
     }
 
     public static byte[] hmac(final String algorithm, final String valueToDigest, final String key) {
-        return getInitializedMac(algorithm, key).doFinal(valueToDigest.getBytes(StandardCharsets.UTF_8));
+        return hmac(algorithm, valueToDigest.getBytes(StandardCharsets.UTF_8), key);
     }
 
     public static String hmacHex(final String algorithm, final String valueToDigest, final String key) {
-        return Hex.encodeHexString(hmac(algorithm, valueToDigest, key));
+        return hmacHex(algorithm, valueToDigest.getBytes(StandardCharsets.UTF_8), key);
+    }
+
+    /**
+     * HMAC 摘要，十六进制结果追加到 StringBuilder
+     *
+     * @param algorithm     算法
+     * @param valueToDigest data
+     * @param key           密钥
+     * @param sb            StringBuilder
+     * @return sb
+     */
+    public static StringBuilder hmacHex(final String algorithm, final byte[] valueToDigest, final String key, final StringBuilder sb) {
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final byte[] buffer = doFinal(pooled, valueToDigest);
+            return Hex.appendHex(buffer, 0, buffer.length, sb, true);
+        }
+    }
+
+    /**
+     * HMAC 摘要，十六进制结果写入指定数组，不创建新数组
+     *
+     * @param algorithm     算法
+     * @param valueToDigest data
+     * @param key           密钥
+     * @param out           输出数组，剩余长度不小于 MAC 长度 * 2
+     * @param offset        输出起始位置
+     * @return 输出结束位置
+     */
+    public static int hmacHex(final String algorithm, final byte[] valueToDigest, final String key, final char[] out, final int offset) {
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final byte[] buffer = doFinal(pooled, valueToDigest);
+            return Hex.encodeHex(buffer, 0, buffer.length, out, offset, true);
+        }
+    }
+
+    /**
+     * HMAC 摘要，结果写入指定数组，不创建新数组
+     *
+     * @param algorithm     算法
+     * @param valueToDigest data
+     * @param key           密钥
+     * @param out           输出数组，剩余长度不小于 MAC 长度
+     * @param offset        输出起始位置
+     * @return MAC 长度
+     */
+    public static int hmacInto(final String algorithm, final byte[] valueToDigest, final String key, final byte[] out, final int offset) {
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final Mac mac = pooled.mac();
+            mac.update(valueToDigest);
+            mac.doFinal(out, offset);
+            return mac.getMacLength();
+        } catch (final ShortBufferException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * HMAC 摘要，读取 input 剩余字节，结果写入 out 当前位置(支持堆外 ByteBuffer，不创建新数组)
+     *
+     * @param algorithm     算法
+     * @param valueToDigest data，读取后 position 移至 limit
+     * @param key           密钥
+     * @param out           输出缓冲区，剩余空间不小于 MAC 长度，写入后 position 后移
+     * @return MAC 长度
+     */
+    public static int hmacInto(final String algorithm, final ByteBuffer valueToDigest, final String key, final ByteBuffer out) {
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final Mac mac = pooled.mac();
+            final int length = mac.getMacLength();
+            if (out.remaining() < length) {
+                throw new CryptoException("Output buffer too short, need " + length + " bytes");
+            }
+            mac.update(valueToDigest);
+            if (out.hasArray()) {
+                mac.doFinal(out.array(), out.arrayOffset() + out.position());
+                out.position(out.position() + length);
+            } else {
+                final byte[] buffer = pooled.buffer();
+                mac.doFinal(buffer, 0);
+                out.put(buffer, 0, length);
+            }
+            return length;
+        } catch (final ShortBufferException e) {
+            throw new CryptoException(e);
+        }
     }
 
     public static byte[] hmac(final String algorithm, final InputStream valueToDigest, final String key) throws IOException {
-        final Mac mac = getInitializedMac(algorithm, key);
         final byte[] buffer = new byte[STREAM_BUFFER_LENGTH];
         int read;
-        while ((read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH)) > -1) {
-            mac.update(buffer, 0, read);
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final Mac mac = pooled.mac();
+            while ((read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH)) > -1) {
+                mac.update(buffer, 0, read);
+            }
+            return mac.doFinal();
         }
-        return mac.doFinal();
     }
 
     public static String hmacHex(final String algorithm, final InputStream valueToDigest, final String key) throws IOException {
@@ -226,9 +357,11 @@ public class DigestUtils {
     }
 
     public static byte[] hmac(final String algorithm, final ByteBuffer valueToDigest, final String key) {
-        final Mac mac = getInitializedMac(algorithm, key);
-        mac.update(valueToDigest);
-        return mac.doFinal();
+        try (DigestPool.PooledMac pooled = DigestPool.mac(algorithm, key)) {
+            final Mac mac = pooled.mac();
+            mac.update(valueToDigest);
+            return mac.doFinal();
+        }
     }
 
     public static String hmacHex(final String algorithm, final ByteBuffer valueToDigest, final String key) {
@@ -247,6 +380,28 @@ public class DigestUtils {
         }
     }
 
+    /**
+     * 计算 HMAC 并写入借出实例的暂存区
+     */
+    private static byte[] doFinal(final DigestPool.PooledMac pooled, final byte[] valueToDigest) {
+        final Mac mac = pooled.mac();
+        final byte[] buffer = pooled.buffer();
+        mac.update(valueToDigest);
+        try {
+            mac.doFinal(buffer, 0);
+        } catch (final ShortBufferException e) {
+            throw new CryptoException(e);
+        }
+        return buffer;
+    }
+
+    /**
+     * 创建新的已初始化 Mac 实例，由调用方独占使用
+     *
+     * @param algorithm 算法
+     * @param key       密钥
+     * @return Mac
+     */
     public static Mac getInitializedMac(final String algorithm, final byte[] key) {
         if (key == null) {
             throw new IllegalArgumentException("Null key");
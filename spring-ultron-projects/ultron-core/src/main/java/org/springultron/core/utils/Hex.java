@@ -1,10 +1,14 @@
 package org.springultron.core.utils;
 
-import org.springultron.core.pool.PatternPool;
-
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
+ * Hex（16进制）编解码
+ * 编码按字节查表(每个字节直接映射为两个字符)，解码按 ASCII 查表，避免逐位计算及 {@link Character#digit(char, int)} 调用
+ *
  * @author brucewuu
  * @date 2019-06-06 11:58
  */
@@ -16,13 +20,47 @@ public class Hex {
     private static final char[] DIGITS_LOWER;
     private static final char[] DIGITS_UPPER;
 
+    /**
+     * 字节 -> 两位十六进制字符，下标为 (b & 0xFF) * 2
+     */
+    private static final char[] PAIRS_LOWER = new char[512];
+    private static final char[] PAIRS_UPPER = new char[512];
+    private static final byte[] PAIR_BYTES_LOWER = new byte[512];
+    private static final byte[] PAIR_BYTES_UPPER = new byte[512];
+
+    /**
+     * ASCII 字符 -> 数值，非十六进制字符为 -1
+     */
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
     static {
         DIGITS_LOWER = new char[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
         DIGITS_UPPER = new char[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+        for (int i = 0; i < 256; i++) {
+            PAIRS_LOWER[i << 1] = DIGITS_LOWER[i >>> 4];
+            PAIRS_LOWER[(i << 1) + 1] = DIGITS_LOWER[i & 0x0F];
+            PAIRS_UPPER[i << 1] = DIGITS_UPPER[i >>> 4];
+            PAIRS_UPPER[(i << 1) + 1] = DIGITS_UPPER[i & 0x0F];
+            PAIR_BYTES_LOWER[i << 1] = (byte) DIGITS_LOWER[i >>> 4];
+            PAIR_BYTES_LOWER[(i << 1) + 1] = (byte) DIGITS_LOWER[i & 0x0F];
+            PAIR_BYTES_UPPER[i << 1] = (byte) DIGITS_UPPER[i >>> 4];
+            PAIR_BYTES_UPPER[(i << 1) + 1] = (byte) DIGITS_UPPER[i & 0x0F];
+        }
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            DIGIT_VALUES[DIGITS_LOWER[i]] = (byte) i;
+            DIGIT_VALUES[DIGITS_UPPER[i]] = (byte) i;
+        }
     }
 
     public static byte[] decodeHex(final String data) {
-        return decodeHex(data.toCharArray());
+        final int len = data.length();
+        if ((len & 0x01) != 0) {
+            throw new IllegalArgumentException("Odd number of characters.");
+        }
+        final byte[] out = new byte[len >> 1];
+        decodeTo(data, out, 0);
+        return out;
     }
 
     public static byte[] decodeHex(final char[] data) {
@@ -35,23 +73,40 @@ public class Hex {
         final byte[] out = new byte[len >> 1];
 
         // two characters form the hex value.
-        for (int i = 0, j = 0; j < len; i++) {
-            int f = toDigit(data[j], j) << 4;
-            j++;
-            f = f | toDigit(data[j], j);
-            j++;
-            out[i] = (byte) (f & 0xFF);
+        for (int i = 0, j = 0; j < len; i++, j += 2) {
+            out[i] = (byte) (toDigit(data[j], j) << 4 | toDigit(data[j + 1], j + 1));
         }
 
         return out;
     }
 
+    /**
+     * 解码十六进制字符串写入指定数组，不创建新数组
+     *
+     * @param data 十六进制字符串，长度为偶数
+     * @param out  输出数组，剩余长度不小于 data.length() / 2
+     * @param off  输出起始位置
+     * @return 输出结束位置
+     */
+    public static int decodeTo(final CharSequence data, final byte[] out, final int off) {
+        final int len = data.length();
+        if ((len & 0x01) != 0) {
+            throw new IllegalArgumentException("Odd number of characters.");
+        }
+        Objects.checkFromIndexSize(off, len >> 1, out.length);
+        int i = off;
+        for (int j = 0; j < len; j += 2) {
+            out[i++] = (byte) (toDigit(data.charAt(j), j) << 4 | toDigit(data.charAt(j + 1), j + 1));
+        }
+        return i;
+    }
+
     public static String encodeHexString(byte[] data) {
-        return new String(encodeHex(data));
+        return encodeHexString(data, true);
     }
 
     public static String encodeHexString(byte[] data, boolean toLowerCase) {
-        return new String(encodeHex(data, toLowerCase));
+        return encodeHexString(data, 0, data.length, toLowerCase);
     }
 
     public static char[] encodeHex(byte[] data) {
@@ -59,7 +114,153 @@ public class Hex {
     }
 
     public static char[] encodeHex(byte[] data, boolean toLowerCase) {
-        return encodeHex(data, toLowerCase ? DIGITS_LOWER : DIGITS_UPPER);
+        final char[] out = new char[data.length << 1];
+        encodeHex(data, 0, data.length, out, 0, toLowerCase);
+        return out;
+    }
+
+    /**
+     * 将字节数组的指定区间转换为十六进制字符串
+     *
+     * @param data   byte[]
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 十六进制字符串(小写)
+     */
+    public static String encodeHexString(byte[] data, int offset, int length) {
+        return encodeHexString(data, offset, length, true);
+    }
+
+    /**
+     * 将字节数组的指定区间转换为十六进制字符串
+     * 先编码为 ASCII 字节再构造 Latin1 字符串，省去 char[] 到 byte[] 的压缩
+     *
+     * @param data        byte[]
+     * @param offset      起始位置
+     * @param length      长度
+     * @param toLowerCase 是否小写
+     * @return 十六进制字符串
+     */
+    public static String encodeHexString(byte[] data, int offset, int length, boolean toLowerCase) {
+        final byte[] out = new byte[length << 1];
+        encodeHex(data, offset, length, out, 0, toLowerCase);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 将字节数组转换为十六进制字符写入指定数组，不创建新数组
+     *
+     * @param src 源数据
+     * @param dst 输出数组，剩余长度不小于 src.length * 2
+     * @param off 输出起始位置
+     * @return 输出结束位置
+     */
+    public static int encodeTo(byte[] src, char[] dst, int off) {
+        return encodeHex(src, 0, src.length, dst, off, true);
+    }
+
+    /**
+     * 将字节数组转换为十六进制 ASCII 字节写入指定数组，不创建新数组
+     *
+     * @param src 源数据
+     * @param dst 输出数组，剩余长度不小于 src.length * 2
+     * @param off 输出起始位置
+     * @return 输出结束位置
+     */
+    public static int encodeTo(byte[] src, byte[] dst, int off) {
+        return encodeHex(src, 0, src.length, dst, off, true);
+    }
+
+    /**
+     * 将字节数组转换为十六进制字符写入指定数组，不创建新数组
+     *
+     * @param data      byte[]
+     * @param out       输出数组，剩余长度不小于 data.length * 2
+     * @param outOffset 输出起始位置
+     * @return 输出结束位置
+     */
+    public static int encodeHex(byte[] data, char[] out, int outOffset) {
+        return encodeHex(data, 0, data.length, out, outOffset, true);
+    }
+
+    /**
+     * 将字节数组的指定区间转换为十六进制字符写入指定数组，不创建新数组
+     *
+     * @param data        byte[]
+     * @param offset      起始位置
+     * @param length      长度
+     * @param out         输出数组，剩余长度不小于 length * 2
+     * @param outOffset   输出起始位置
+     * @param toLowerCase 是否小写
+     * @return 输出结束位置
+     */
+    public static int encodeHex(byte[] data, int offset, int length, char[] out, int outOffset, boolean toLowerCase) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        Objects.checkFromIndexSize(outOffset, length << 1, out.length);
+        final char[] pairs = toLowerCase ? PAIRS_LOWER : PAIRS_UPPER;
+        int j = outOffset;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int p = (data[i] & 0xFF) << 1;
+            out[j++] = pairs[p];
+            out[j++] = pairs[p + 1];
+        }
+        return j;
+    }
+
+    /**
+     * 将字节数组的指定区间转换为十六进制 ASCII 字节写入指定数组，不创建新数组
+     *
+     * @param data        byte[]
+     * @param offset      起始位置
+     * @param length      长度
+     * @param out         输出数组，剩余长度不小于 length * 2
+     * @param outOffset   输出起始位置
+     * @param toLowerCase 是否小写
+     * @return 输出结束位置
+     */
+    public static int encodeHex(byte[] data, int offset, int length, byte[] out, int outOffset, boolean toLowerCase) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        Objects.checkFromIndexSize(outOffset, length << 1, out.length);
+        final byte[] pairs = toLowerCase ? PAIR_BYTES_LOWER : PAIR_BYTES_UPPER;
+        int j = outOffset;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int p = (data[i] & 0xFF) << 1;
+            out[j++] = pairs[p];
+            out[j++] = pairs[p + 1];
+        }
+        return j;
+    }
+
+    /**
+     * 将字节数组转换为十六进制字符追加到 StringBuilder
+     *
+     * @param data byte[]
+     * @param sb   StringBuilder
+     * @return sb
+     */
+    public static StringBuilder appendHex(byte[] data, StringBuilder sb) {
+        return appendHex(data, 0, data.length, sb, true);
+    }
+
+    /**
+     * 将字节数组的指定区间转换为十六进制字符追加到 StringBuilder
+     *
+     * @param data        byte[]
+     * @param offset      起始位置
+     * @param length      长度
+     * @param sb          StringBuilder
+     * @param toLowerCase 是否小写
+     * @return sb
+     */
+    public static StringBuilder appendHex(byte[] data, int offset, int length, StringBuilder sb, boolean toLowerCase) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        final char[] pairs = toLowerCase ? PAIRS_LOWER : PAIRS_UPPER;
+        sb.ensureCapacity(sb.length() + (length << 1));
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int p = (data[i] & 0xFF) << 1;
+            sb.append(pairs[p]).append(pairs[p + 1]);
+        }
+        return sb;
     }
 
     /**
@@ -76,23 +277,6 @@ public class Hex {
         return new BigInteger(hexStr, 16);
     }
 
-    /**
-     * 将字节数组转换为十六进制字符数组
-     *
-     * @param data     byte[]
-     * @param toDigits 用于控制输出的char[]
-     * @return 十六进制char[]
-     */
-    private static char[] encodeHex(byte[] data, char[] toDigits) {
-        final int len = data.length;
-        final char[] out = new char[len << 1]; // len*2
-        for (int i = 0, j = 0; i < len; i++) {
-            out[j++] = toDigits[(0xF0 & data[i]) >>> 4]; // 高位
-            out[j++] = toDigits[0x0F & data[i]]; // 低位
-        }
-        return out;
-    }
-
     /**
      * 验证是否为Hex（16进制）字符串
      *
@@ -100,7 +284,16 @@ public class Hex {
      * @return 是否为Hex（16进制）字符串
      */
     public static boolean isHex(CharSequence value) {
-        return RegexUtils.isMatch(value, PatternPool.HEX);
+        if (value == null || value.length() == 0) {
+            return false;
+        }
+        for (int i = 0, len = value.length(); i < len; i++) {
+            final char ch = value.charAt(i);
+            if (ch >= 128 || DIGIT_VALUES[ch] < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -112,7 +305,7 @@ public class Hex {
      * @throws IllegalArgumentException 当ch不是一个合法的十六进制字符时，抛出运行时异常
      */
     private static int toDigit(final char ch, final int index) {
-        final int digit = Character.digit(ch, 16);
+        final int digit = ch < 128 ? DIGIT_VALUES[ch] : -1;
         if (digit == -1) {
             throw new IllegalArgumentException("Illegal hexadecimal character " + ch + " at index " + index);
         }
@@ -1,8 +1,14 @@
 package org.springultron.core.utils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Enumeration;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -15,6 +21,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public final class IdUtils {
 
+    private static final Logger log = LoggerFactory.getLogger(IdUtils.class);
+
     private IdUtils() {
         throw new UnsupportedOperationException("u can't instantiate me...");
     }
@@ -34,16 +42,158 @@ public final class IdUtils {
     private static final AtomicInteger SEQ = new AtomicInteger(1000);
 
     /**
-     * 生成订单号
-     * 支持分布式订单号不重复
+     * 生成订单号：时间(精确到10毫秒) + IP最后两位 + 进程内 4 位循环序列号
+     * <p>
+     * 多节点部署时存在重复风险：
+     * 1、节点部分只取 IP 最后一段的后两位，如 10.0.1.12 与 10.0.2.112、同一宿主机上的多个进程/容器会得到相同的节点部分
+     * 2、序列号在 1000~9999 间循环，同一节点 10 毫秒内超过 9000 次调用会与本时间段内已生成的订单号重复
+     * 分布式场景请使用 {@link #nextIdStr()}
      *
      * @return 20位订单号
      */
+    @Deprecated
     public static String genOrderNo() {
-        if (SEQ.intValue() > 9990) {
-            SEQ.getAndSet(1000);
+        final int seq = SEQ.getAndUpdate(prev -> prev >= 9999 ? 1000 : prev + 1);
+        return DT_FORMATTER.format(LocalDateTime.now()) + getLocalIpSuffix() + seq;
+    }
+
+    /**
+     * 机器ID配置项，支持系统属性或环境变量(ULTRON_ID_WORKER_ID)
+     */
+    public static final String WORKER_ID_PROPERTY = "ultron.id.worker-id";
+    /**
+     * 数据中心ID配置项，支持系统属性或环境变量(ULTRON_ID_DATACENTER_ID)
+     */
+    public static final String DATACENTER_ID_PROPERTY = "ultron.id.datacenter-id";
+
+    /**
+     * 生成分布式唯一ID(Snowflake)，趋势递增
+     * 集群部署时请通过 {@value #WORKER_ID_PROPERTY}、{@value #DATACENTER_ID_PROPERTY} 为每个节点指定唯一的机器ID/数据中心ID，
+     * 未配置时由网卡 MAC、全部 IP、主机名及进程号散列出 10 位节点标识拆分为两者，并输出告警：
+     * 10 位仅 1024 个取值，节点数较多时仍可能重复
+     *
+     * @return ID
+     */
+    public static long nextId() {
+        return SnowflakeHolder.INSTANCE.nextId();
+    }
+
+    /**
+     * 生成分布式唯一ID(Snowflake)字符串，可用于替代 {@link #genOrderNo()}
+     *
+     * @return ID
+     */
+    public static String nextIdStr() {
+        return SnowflakeHolder.INSTANCE.nextIdStr();
+    }
+
+    /**
+     * 批量生成分布式唯一ID(Snowflake)
+     *
+     * @param n 数量
+     * @return 单调递增的ID数组
+     */
+    public static long[] nextIds(int n) {
+        return SnowflakeHolder.INSTANCE.nextIds(n);
+    }
+
+    /**
+     * 获取默认的 Snowflake ID 生成器
+     *
+     * @return Snowflake
+     */
+    public static Snowflake getSnowflake() {
+        return SnowflakeHolder.INSTANCE;
+    }
+
+    private static class SnowflakeHolder {
+        private static final Snowflake INSTANCE = createSnowflake();
+    }
+
+    private static Snowflake createSnowflake() {
+        Long workerId = getNodeId(WORKER_ID_PROPERTY, Snowflake.MAX_WORKER_ID);
+        Long datacenterId = getNodeId(DATACENTER_ID_PROPERTY, Snowflake.MAX_DATACENTER_ID);
+        if (workerId == null || datacenterId == null) {
+            final long nodeHash = getLocalNodeHash();
+            if (workerId == null) {
+                workerId = nodeHash & Snowflake.MAX_WORKER_ID;
+            }
+            if (datacenterId == null) {
+                datacenterId = (nodeHash >>> Long.bitCount(Snowflake.MAX_WORKER_ID)) & Snowflake.MAX_DATACENTER_ID;
+            }
+            log.warn("Snowflake node id is not configured, derived workerId={} datacenterId={} from the local host; "
+                            + "configure {} and {} with unique values per node to avoid duplicate ids",
+                    workerId, datacenterId, WORKER_ID_PROPERTY, DATACENTER_ID_PROPERTY);
+        }
+        return new Snowflake(workerId, datacenterId);
+    }
+
+    private static Long getNodeId(String property, long maxId) {
+        String value = System.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            value = System.getenv(property.replace('.', '_').replace('-', '_').toUpperCase());
+        }
+        if (StringUtils.isNotBlank(value)) {
+            long id = Long.parseLong(value.trim());
+            if (id < 0 || id > maxId) {
+                throw new IllegalArgumentException(String.format("%s can't be greater than %d or less than 0", property, maxId));
+            }
+            return id;
+        }
+        return null;
+    }
+
+    /**
+     * 本机节点散列：网卡 MAC、全部 IP、主机名与进程号，容器内进程号相同时依靠 MAC/IP/主机名区分
+     */
+    private static long getLocalNodeHash() {
+        long hash = 0xcbf29ce484222325L;
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface ni = interfaces.nextElement();
+                if (ni.isLoopback() || !ni.isUp()) {
+                    continue;
+                }
+                hash = fnv1a(hash, ni.getHardwareAddress());
+                Enumeration<InetAddress> addresses = ni.getInetAddresses();
+                while (addresses.hasMoreElements()) {
+                    hash = fnv1a(hash, addresses.nextElement().getAddress());
+                }
+            }
+        } catch (Exception e) {
+            hash = fnv1a(hash, longToBytes(ThreadLocalRandom.current().nextLong()));
+        }
+        try {
+            hash = fnv1a(hash, InetAddress.getLocalHost().getHostName().getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            hash = fnv1a(hash, longToBytes(ThreadLocalRandom.current().nextLong()));
+        }
+        hash = fnv1a(hash, longToBytes(ProcessHandle.current().pid()));
+        // 末轮混合，使低 10 位充分依赖全部输入
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long fnv1a(long hash, byte[] bytes) {
+        if (bytes != null) {
+            for (byte b : bytes) {
+                hash ^= b & 0xFF;
+                hash *= 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    private static byte[] longToBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
         }
-        return DT_FORMATTER.format(LocalDateTime.now()) + getLocalIpSuffix() + SEQ.getAndIncrement();
+        return bytes;
     }
 
     private volatile static String IP_SUFFIX = null;
@@ -1,11 +1,12 @@
 package org.springultron.core.utils;
 
+import org.springframework.lang.Nullable;
 import org.springultron.core.exception.Exceptions;
-import org.springultron.core.pool.PatternPool;
 
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.UnknownHostException;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 /**
@@ -21,6 +22,23 @@ public class IpUtils {
 
     public static final String LOCAL_HOST = "127.0.0.1";
 
+    /**
+     * IPv4 地址字节数
+     */
+    public static final int IPV4_LENGTH = 4;
+
+    /**
+     * IPv6 地址字节数
+     */
+    public static final int IPV6_LENGTH = 16;
+
+    /**
+     * 内网地址：与 {@link #isLocalIp(InetAddress)} 及 {@link #isInternalIp(byte[])} 的判断范围一致
+     */
+    private static final CidrMatcher INTERNAL = CidrMatcher.of(
+            "0.0.0.0/32", "127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16",
+            "::/128", "::1/128", "fec0::/10");
+
     /**
      * 获取服务器 Host Name
      *
@@ -76,13 +94,13 @@ public class IpUtils {
     }
 
     /**
-     * 判断是否内网 ip
+     * 判断是否内网 ip，只解析 IP 字面量，不进行 DNS 解析，非 IP 字面量(如主机名)返回 false
      *
      * @param ip ip
      * @return boolean
      */
-    public static boolean isInternalIp(String ip) {
-        return isInternalIp(getInetAddress(ip));
+    public static boolean isInternalIp(@Nullable String ip) {
+        return INTERNAL.contains(ip);
     }
 
     /**
@@ -132,13 +150,9 @@ public class IpUtils {
             case section1:
                 return true;
             case section2:
-                if (b1 >= section3 && b1 <= section4) {
-                    return true;
-                }
+                return b1 >= section3 && b1 <= section4;
             case section5:
-                if (b1 == section6) {
-                    return true;
-                }
+                return b1 == section6;
             default:
                 return false;
         }
@@ -169,20 +183,195 @@ public class IpUtils {
      * @return long值
      */
     public static long ipv4ToLong(String ipStr) {
-        if (RegexUtils.isMatch(ipStr, PatternPool.IPV4)) {
-            long[] ip = new long[4];
-            // 先找到IP地址字符串中.的位置
-            int position1 = ipStr.indexOf(".");
-            int position2 = ipStr.indexOf(".", position1 + 1);
-            int position3 = ipStr.indexOf(".", position2 + 1);
-            // 将每个.之间的字符串转换成整型
-            ip[0] = Long.parseLong(ipStr.substring(0, position1));
-            ip[1] = Long.parseLong(ipStr.substring(position1 + 1, position2));
-            ip[2] = Long.parseLong(ipStr.substring(position2 + 1, position3));
-            ip[3] = Long.parseLong(ipStr.substring(position3 + 1));
-            return (ip[0] << 24) + (ip[1] << 16) + (ip[2] << 8) + ip[3];
-        }
-        return 0;
+        // 单次遍历完成校验及解析，不经过正则及 substring
+        long ip = ValidateUtils.parseIpv4(ipStr);
+        return ip < 0 ? 0 : ip;
+    }
+
+    /**
+     * 是否为 IPv4 地址
+     *
+     * @param ipStr IP 地址
+     * @return boolean
+     */
+    public static boolean isIpv4(String ipStr) {
+        return ValidateUtils.isIpv4(ipStr);
+    }
+
+    /**
+     * 是否为 IPv6 地址
+     *
+     * @param ipStr IP 地址
+     * @return boolean
+     */
+    public static boolean isIpv6(@Nullable String ipStr) {
+        return ipStr != null && parseIpv6(ipStr, 0, ipStr.length(), new byte[IPV6_LENGTH]) == IPV6_LENGTH;
+    }
+
+    /**
+     * 将 IP 字面量(IPv4 或 IPv6)解析为字节数组，不进行 DNS 解析
+     *
+     * @param ip IP 地址
+     * @return 4 或 16 字节的数组，格式不正确时返回 null
+     */
+    @Nullable
+    public static byte[] toBytes(@Nullable String ip) {
+        if (ip == null) {
+            return null;
+        }
+        final byte[] dest = new byte[IPV6_LENGTH];
+        final int length = parseAddress(ip, 0, ip.length(), dest);
+        if (length < 0) {
+            return null;
+        }
+        return length == IPV4_LENGTH ? Arrays.copyOf(dest, IPV4_LENGTH) : dest;
+    }
+
+    /**
+     * 解析 IP 字面量到目标数组，不进行 DNS 解析，不创建对象
+     * <p>
+     * 支持点分十进制 IPv4；IPv6 支持 :: 压缩、内嵌 IPv4(如 ::ffff:1.2.3.4)，忽略 % 后的 zone id
+     *
+     * @param ip    字符序列
+     * @param start 起始位置(含)
+     * @param end   结束位置(不含)
+     * @param dest  目标数组，长度不小于 16
+     * @return 写入的字节数 4 或 16，格式不正确时返回 -1
+     */
+    public static int parseAddress(CharSequence ip, int start, int end, byte[] dest) {
+        for (int i = start; i < end; i++) {
+            final char ch = ip.charAt(i);
+            if (ch == ':') {
+                return parseIpv6(ip, start, end, dest);
+            }
+            if (ch == '.') {
+                break;
+            }
+        }
+        final long ipv4 = ValidateUtils.parseIpv4(ip, start, end);
+        if (ipv4 < 0) {
+            return -1;
+        }
+        writeIpv4(ipv4, dest, 0);
+        return IPV4_LENGTH;
+    }
+
+    /**
+     * 是否为 IPv4 映射的 IPv6 地址(::ffff:a.b.c.d)，{@link InetAddress} 会将其视为 IPv4 地址
+     *
+     * @param addr 16 字节地址
+     * @return boolean
+     */
+    static boolean isIpv4Mapped(byte[] addr) {
+        for (int i = 0; i < 10; i++) {
+            if (addr[i] != 0) {
+                return false;
+            }
+        }
+        return addr[10] == (byte) 0xFF && addr[11] == (byte) 0xFF;
+    }
+
+    private static int parseIpv6(CharSequence ip, int start, int end, byte[] dest) {
+        // 忽略 zone id
+        for (int i = start; i < end; i++) {
+            if (ip.charAt(i) == '%') {
+                end = i;
+                break;
+            }
+        }
+        if (end - start < 2) {
+            return -1;
+        }
+        int groups = 0;
+        // :: 所在的组序号，-1 表示没有压缩
+        int compressAt = -1;
+        int i = start;
+        if (ip.charAt(i) == ':') {
+            if (ip.charAt(i + 1) != ':') {
+                return -1;
+            }
+            compressAt = 0;
+            i += 2;
+        }
+        while (i < end) {
+            if (groups == 8) {
+                return -1;
+            }
+            final int groupStart = i;
+            int value = 0;
+            while (i < end && i - groupStart < 5) {
+                final int digit = hexDigit(ip.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                value = value << 4 | digit;
+                i++;
+            }
+            if (i < end && ip.charAt(i) == '.') {
+                // 内嵌 IPv4，占两组且必须位于末尾
+                if (groups > 6) {
+                    return -1;
+                }
+                final long ipv4 = ValidateUtils.parseIpv4(ip, groupStart, end);
+                if (ipv4 < 0) {
+                    return -1;
+                }
+                writeIpv4(ipv4, dest, groups << 1);
+                groups += 2;
+                break;
+            }
+            final int digits = i - groupStart;
+            if (digits == 0 || digits > 4) {
+                return -1;
+            }
+            dest[groups << 1] = (byte) (value >> 8);
+            dest[(groups << 1) + 1] = (byte) value;
+            groups++;
+            if (i == end) {
+                break;
+            }
+            if (ip.charAt(i) != ':' || ++i == end) {
+                return -1;
+            }
+            if (ip.charAt(i) == ':') {
+                if (compressAt >= 0) {
+                    return -1;
+                }
+                compressAt = groups;
+                i++;
+            }
+        }
+        if (compressAt < 0) {
+            return groups == 8 ? IPV6_LENGTH : -1;
+        }
+        if (groups == 8) {
+            return -1;
+        }
+        // 将 :: 之后的组移到末尾，中间补 0
+        final int tail = (groups - compressAt) << 1;
+        System.arraycopy(dest, compressAt << 1, dest, IPV6_LENGTH - tail, tail);
+        Arrays.fill(dest, compressAt << 1, IPV6_LENGTH - tail, (byte) 0);
+        return IPV6_LENGTH;
+    }
+
+    private static int hexDigit(char ch) {
+        if (ch >= '0' && ch <= '9') {
+            return ch - '0';
+        }
+        if (ch >= 'a' && ch <= 'f') {
+            return ch - 'a' + 10;
+        }
+        if (ch >= 'A' && ch <= 'F') {
+            return ch - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static void writeIpv4(long ipv4, byte[] dest, int offset) {
+        dest[offset] = (byte) (ipv4 >>> 24);
+        dest[offset + 1] = (byte) (ipv4 >>> 16);
+        dest[offset + 2] = (byte) (ipv4 >>> 8);
+        dest[offset + 3] = (byte) ipv4;
     }
 
     private static InetAddress getLocalHostLanAddress() throws UnknownHostException {
@@ -0,0 +1,382 @@
+package org.springultron.core.utils;
+
+import org.springframework.lang.Nullable;
+import org.springultron.core.exception.Exceptions;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * 类反射元数据
+ * <p>
+ * 每个类只解析一次，缓存属性(getter/setter)、字段及方法句柄：
+ * 1、通过 {@link ClassValue} 与类关联，类卸载时随之回收，不会造成类加载器泄漏
+ * 2、属性及字段列表在首次访问时一次性解析，之后只读
+ * 3、字段读写基于 {@link MethodHandle}/{@link VarHandle}，方法调用句柄按需生成，每个类最多缓存 {@link #MAX_METHOD_HANDLES} 个
+ *
+ * @author brucewuu
+ * @date 2026/10/18 14:00
+ */
+public final class ReflectMetadata {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 每个类缓存的方法句柄上限，超出后不再缓存，直接反射调用
+     */
+    private static final int MAX_METHOD_HANDLES = 256;
+
+    private static final ClassValue<ReflectMetadata> REGISTRY = new ClassValue<>() {
+        @Override
+        protected ReflectMetadata computeValue(Class<?> type) {
+            return new ReflectMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    /**
+     * 属性表，首次访问时解析
+     */
+    @Nullable
+    private volatile PropertyTable propertyTable;
+
+    /**
+     * 字段表，首次访问时解析
+     */
+    @Nullable
+    private volatile Map<String, FieldAccessor> fields;
+
+    /**
+     * 方法调用句柄，值引用会在内存紧张时回收
+     */
+    @Nullable
+    private volatile Map<Method, MethodHandle> methodHandles;
+
+    private ReflectMetadata(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * 获取类的反射元数据
+     *
+     * @param type 类
+     * @return ReflectMetadata
+     */
+    public static ReflectMetadata of(Class<?> type) {
+        return REGISTRY.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 获取全部 PropertyDescriptor(含 class)，返回数组为共享实例，请勿修改
+     */
+    PropertyDescriptor[] getPropertyDescriptors() {
+        return propertyTable().all();
+    }
+
+    /**
+     * 获取可读的 PropertyDescriptor，返回数组为共享实例，请勿修改
+     */
+    PropertyDescriptor[] getReadablePropertyDescriptors() {
+        return propertyTable().readable();
+    }
+
+    /**
+     * 获取可写的 PropertyDescriptor，返回数组为共享实例，请勿修改
+     */
+    PropertyDescriptor[] getWritablePropertyDescriptors() {
+        return propertyTable().writable();
+    }
+
+    /**
+     * 获取全部属性(不含 class)，按名称索引
+     *
+     * @return 不可变 Map
+     */
+    public Map<String, BeanProperty> getProperties() {
+        return propertyTable().properties();
+    }
+
+    /**
+     * 获取属性
+     *
+     * @param name 属性名
+     * @return BeanProperty，不存在时为 null
+     */
+    @Nullable
+    public BeanProperty getProperty(String name) {
+        return propertyTable().properties().get(name);
+    }
+
+    /**
+     * 获取全部字段(含父类，子类字段优先)，按名称索引
+     *
+     * @return 不可变 Map
+     */
+    public Map<String, FieldAccessor> getFields() {
+        Map<String, FieldAccessor> map = fields;
+        if (map == null) {
+            // 解析结果不可变，并发时重复解析无副作用
+            map = Collections.unmodifiableMap(resolveFields(type));
+            fields = map;
+        }
+        return map;
+    }
+
+    /**
+     * 获取字段
+     *
+     * @param name 字段名
+     * @return FieldAccessor，不存在时为 null
+     */
+    @Nullable
+    public FieldAccessor getField(String name) {
+        return getFields().get(name);
+    }
+
+    /**
+     * 调用方法
+     *
+     * @param method 方法
+     * @param target 目标对象，静态方法为 null
+     * @param args   参数
+     * @return 返回值
+     */
+    @Nullable
+    public Object invoke(Method method, @Nullable Object target, @Nullable Object... args) {
+        MethodHandle handle = getMethodHandle(method);
+        Object[] arguments = args == null ? new Object[0] : args;
+        try {
+            if (handle == null) {
+                ReflectionUtils.makeAccessible(method);
+                return method.invoke(target, arguments);
+            }
+            if (Modifier.isStatic(method.getModifiers())) {
+                return handle.invokeExact(arguments);
+            }
+            if (target == null) {
+                throw new IllegalArgumentException("Target must not be null for non-static method: " + method);
+            }
+            return handle.invokeExact(target, arguments);
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.handleInvocationTargetException(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            ReflectionUtils.rethrowRuntimeException(e);
+        }
+        throw new IllegalStateException("Should never get here");
+    }
+
+    @Nullable
+    private MethodHandle getMethodHandle(Method method) {
+        Map<Method, MethodHandle> handles = methodHandles;
+        if (handles == null) {
+            synchronized (this) {
+                handles = methodHandles;
+                if (handles == null) {
+                    handles = new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.SOFT);
+                    methodHandles = handles;
+                }
+            }
+        }
+        MethodHandle handle = handles.get(method);
+        if (handle == null && handles.size() < MAX_METHOD_HANDLES) {
+            handle = createMethodHandle(method);
+            if (handle != null) {
+                handles.putIfAbsent(method, handle);
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * 生成统一签名的调用句柄：静态方法 (Object[])Object，实例方法 (Object, Object[])Object
+     */
+    @Nullable
+    private static MethodHandle createMethodHandle(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+            MethodHandle handle = lookup.unreflect(method);
+            handle = handle.asFixedArity();
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount());
+            MethodType type = Modifier.isStatic(method.getModifiers())
+                    ? MethodType.methodType(Object.class, Object[].class)
+                    : MethodType.methodType(Object.class, Object.class, Object[].class);
+            return handle.asType(type);
+        } catch (Throwable e) {
+            // 无访问权限(如未开放的模块)时退化为反射调用
+            return null;
+        }
+    }
+
+    private PropertyTable propertyTable() {
+        PropertyTable table = propertyTable;
+        if (table == null) {
+            table = PropertyTable.resolve(type);
+            propertyTable = table;
+        }
+        return table;
+    }
+
+    private static Map<String, FieldAccessor> resolveFields(Class<?> type) {
+        Map<String, FieldAccessor> map = new LinkedHashMap<>();
+        Class<?> searchType = type;
+        while (searchType != null && searchType != Object.class) {
+            for (Field field : searchType.getDeclaredFields()) {
+                map.putIfAbsent(field.getName(), new FieldAccessor(field));
+            }
+            searchType = searchType.getSuperclass();
+        }
+        return map;
+    }
+
+    private record PropertyTable(PropertyDescriptor[] all, PropertyDescriptor[] readable, PropertyDescriptor[] writable,
+                                 Map<String, BeanProperty> properties) {
+
+        private static PropertyTable resolve(Class<?> type) {
+            PropertyDescriptor[] all = BeanUtils.getPropertyDescriptors(type);
+            List<PropertyDescriptor> readable = new ArrayList<>(all.length);
+            List<PropertyDescriptor> writable = new ArrayList<>(all.length);
+            Map<String, BeanProperty> properties = new LinkedHashMap<>(all.length);
+            for (PropertyDescriptor pd : all) {
+                if (pd.getReadMethod() != null) {
+                    readable.add(pd);
+                }
+                if (pd.getWriteMethod() != null) {
+                    writable.add(pd);
+                }
+                if (!"class".equals(pd.getName())) {
+                    properties.put(pd.getName(), new BeanProperty(pd));
+                }
+            }
+            return new PropertyTable(all, readable.toArray(new PropertyDescriptor[0]), writable.toArray(new PropertyDescriptor[0]),
+                    Collections.unmodifiableMap(properties));
+        }
+    }
+
+    /**
+     * 字段访问器
+     */
+    public static final class FieldAccessor {
+
+        private final Field field;
+
+        private final boolean isStatic;
+
+        @Nullable
+        private final MethodHandle getter;
+
+        @Nullable
+        private final MethodHandle setter;
+
+        @Nullable
+        private final VarHandle varHandle;
+
+        private FieldAccessor(Field field) {
+            this.field = field;
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+            MethodHandle get = null;
+            MethodHandle set = null;
+            VarHandle var = null;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP);
+                get = lookup.unreflectGetter(field);
+                get = get.asType(get.type().generic());
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    set = lookup.unreflectSetter(field);
+                    set = set.asType(set.type().generic().changeReturnType(void.class));
+                }
+                var = lookup.unreflectVarHandle(field);
+            } catch (Throwable e) {
+                // 无访问权限时退化为反射读写
+            }
+            this.getter = get;
+            this.setter = set;
+            this.varHandle = var;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getName() {
+            return field.getName();
+        }
+
+        public Class<?> getType() {
+            return field.getType();
+        }
+
+        /**
+         * 获取字段的 VarHandle，可用于 volatile/CAS 等访问模式
+         *
+         * @return VarHandle，无访问权限时为 null
+         */
+        @Nullable
+        public VarHandle getVarHandle() {
+            return varHandle;
+        }
+
+        /**
+         * 读取字段值
+         *
+         * @param target 目标对象，静态字段为 null
+         * @return 字段值
+         */
+        @Nullable
+        public Object get(@Nullable Object target) {
+            if (getter == null) {
+                ReflectionUtils.makeAccessible(field);
+                return ReflectionUtils.getField(field, target);
+            }
+            try {
+                return isStatic ? getter.invokeExact() : getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw Exceptions.unchecked(e);
+            }
+        }
+
+        /**
+         * 设置字段值(final 字段通过反射设置)
+         *
+         * @param target 目标对象，静态字段为 null
+         * @param value  字段值
+         */
+        public void set(@Nullable Object target, @Nullable Object value) {
+            if (setter == null) {
+                ReflectionUtils.makeAccessible(field);
+                ReflectionUtils.setField(field, target, value);
+                return;
+            }
+            try {
+                if (isStatic) {
+                    setter.invokeExact(value);
+                } else {
+                    setter.invokeExact(target, value);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw Exceptions.unchecked(e);
+            }
+        }
+    }
+}
@@ -11,11 +11,10 @@ import org.springframework.util.ReflectionUtils;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * 反射工具类
+ * 属性、字段及方法调用均通过 {@link ReflectMetadata} 缓存的元数据及方法句柄完成
  *
  * @author brucewuu
  * @date 2021/4/17 上午11:21
@@ -52,20 +51,15 @@ public class ReflectUtils extends ReflectionUtils {
      */
     public static PropertyDescriptor[] getPropertyDescriptors(Class<?> type, boolean read, boolean write) {
         try {
-            PropertyDescriptor[] all = BeanUtils.getPropertyDescriptors(type);
+            ReflectMetadata metadata = ReflectMetadata.of(type);
             if (read && write) {
-                return all;
-            } else {
-                List<PropertyDescriptor> properties = new ArrayList<>(all.length);
-                for (PropertyDescriptor pd : all) {
-                    if (read && pd.getReadMethod() != null) {
-                        properties.add(pd);
-                    } else if (write && pd.getWriteMethod() != null) {
-                        properties.add(pd);
-                    }
-                }
-                return properties.toArray(new PropertyDescriptor[0]);
+                return metadata.getPropertyDescriptors().clone();
+            } else if (read) {
+                return metadata.getReadablePropertyDescriptors().clone();
+            } else if (write) {
+                return metadata.getWritablePropertyDescriptors().clone();
             }
+            return new PropertyDescriptor[0];
         } catch (BeansException ex) {
             throw new CodeGenerationException(ex);
         }
@@ -80,11 +74,11 @@ public class ReflectUtils extends ReflectionUtils {
      */
     @Nullable
     public static Property getProperty(Class<?> propertyType, String propertyName) {
-        PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(propertyType, propertyName);
-        if (propertyDescriptor == null) {
+        BeanProperty beanProperty = ReflectMetadata.of(propertyType).getProperty(propertyName);
+        if (beanProperty == null) {
             return null;
         }
-        return ReflectUtils.getProperty(propertyType, propertyDescriptor, propertyName);
+        return ReflectUtils.getProperty(propertyType, beanProperty.getDescriptor(), propertyName);
     }
 
     /**
@@ -139,15 +133,10 @@ public class ReflectUtils extends ReflectionUtils {
      * @param fieldName 属性名
      * @return Field
      */
+    @Nullable
     public static Field getField(Class<?> clazz, String fieldName) {
-        while (clazz != Object.class) {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            }
-        }
-        return null;
+        ReflectMetadata.FieldAccessor accessor = ReflectMetadata.of(clazz).getField(fieldName);
+        return accessor == null ? null : accessor.getField();
     }
 
     /**
@@ -158,8 +147,13 @@ public class ReflectUtils extends ReflectionUtils {
      * @param value  value
      */
     public static void setField(@NonNull Field field, @Nullable Object target, @Nullable Object value) {
-        makeAccessible(field);
-        ReflectionUtils.setField(field, target, value);
+        ReflectMetadata.FieldAccessor accessor = getFieldAccessor(field);
+        if (accessor == null) {
+            makeAccessible(field);
+            ReflectionUtils.setField(field, target, value);
+        } else {
+            accessor.set(target, value);
+        }
     }
 
     /**
@@ -171,8 +165,12 @@ public class ReflectUtils extends ReflectionUtils {
      */
     @Nullable
     public static Object getField(@NonNull Field field, @Nullable Object target) {
-        makeAccessible(field);
-        return ReflectionUtils.getField(field, target);
+        ReflectMetadata.FieldAccessor accessor = getFieldAccessor(field);
+        if (accessor == null) {
+            makeAccessible(field);
+            return ReflectionUtils.getField(field, target);
+        }
+        return accessor.get(target);
     }
 
     /**
@@ -188,11 +186,11 @@ public class ReflectUtils extends ReflectionUtils {
             return null;
         }
         Class<?> targetClass = target.getClass();
-        Field field = ReflectUtils.getField(targetClass, fieldName);
-        if (field == null) {
+        ReflectMetadata.FieldAccessor accessor = ReflectMetadata.of(targetClass).getField(fieldName);
+        if (accessor == null) {
             throw new IllegalArgumentException(fieldName + " not in" + targetClass);
         }
-        return ReflectUtils.getField(field, target);
+        return accessor.get(target);
     }
 
     /**
@@ -217,7 +215,12 @@ public class ReflectUtils extends ReflectionUtils {
      */
     @Nullable
     public static Object invokeMethod(Method method, @Nullable Object target, @Nullable Object... args) {
-        makeAccessible(method);
-        return ReflectionUtils.invokeMethod(method, target, args);
+        return ReflectMetadata.of(method.getDeclaringClass()).invoke(method, target, args);
+    }
+
+    @Nullable
+    private static ReflectMetadata.FieldAccessor getFieldAccessor(Field field) {
+        ReflectMetadata.FieldAccessor accessor = ReflectMetadata.of(field.getDeclaringClass()).getField(field.getName());
+        return accessor != null && accessor.getField().equals(field) ? accessor : null;
     }
 }
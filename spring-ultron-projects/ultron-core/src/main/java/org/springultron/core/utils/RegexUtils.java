@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 /**
  * 正则表达式工具
+ * 字符串形式的正则通过 {@link PatternPool#compile(String, int)} 缓存编译结果
  *
  * @author brucewuu
  * @date 2019-06-06 18:06
@@ -23,7 +24,7 @@ public class RegexUtils {
      * @return {boolean}
      */
     public static boolean matchPhone(String phone) {
-        return isMatch(phone, PatternPool.MOBILE);
+        return ValidateUtils.isMobile(phone);
     }
 
     /**
@@ -94,7 +95,7 @@ public class RegexUtils {
      * @return {boolean}
      */
     public static boolean isMatch(CharSequence content, String regex) {
-        Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+        Pattern pattern = PatternPool.compile(regex, Pattern.CASE_INSENSITIVE);
         Matcher matcher = pattern.matcher(content);
         return matcher.matches();
     }
@@ -107,7 +108,7 @@ public class RegexUtils {
      * @return {boolean}
      */
     public static boolean find(String text, String regex) {
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.compile(regex);
         Matcher matcher = pattern.matcher(text);
         return matcher.find();
     }
@@ -121,7 +122,7 @@ public class RegexUtils {
      * @return {boolean}
      */
     public static String findResult(String text, String regex) {
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.compile(regex);
         Matcher matcher = pattern.matcher(text);
         if (matcher.find()) {
             return matcher.group();
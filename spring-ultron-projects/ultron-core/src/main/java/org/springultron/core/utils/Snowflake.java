@@ -0,0 +1,221 @@
+package org.springultron.core.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 分布式唯一ID生成器(Twitter Snowflake 算法)
+ * <p>
+ * 64位ID结构：1位符号位(恒为0) | 41位毫秒时间戳(相对{@link #DEFAULT_EPOCH}) | 5位数据中心ID | 5位机器ID | 12位毫秒内序列号
+ * <p>
+ * 1、无锁：时间戳与序列号合并存放于一个 {@link AtomicLong}，通过 CAS 分配，多线程下不阻塞
+ * 2、时钟回拨：回拨幅度在容忍范围内时沿用上次时间戳继续分配，序列号耗尽则等待时钟追上；超出容忍范围抛出异常
+ * 3、序列号溢出：同一毫秒内序列号用尽时自旋等待下一毫秒
+ * 4、同一实例生成的ID严格单调递增
+ *
+ * @author brucewuu
+ * @date 2026/10/18 10:30
+ */
+public final class Snowflake {
+    /**
+     * 默认起始时间戳 2020-01-01 00:00:00 UTC+8
+     */
+    public static final long DEFAULT_EPOCH = 1577808000000L;
+    /**
+     * 默认时钟回拨容忍时间(毫秒)
+     */
+    public static final long DEFAULT_MAX_BACKWARD_MILLIS = 5L;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int WORKER_ID_BITS = 5;
+    private static final int DATACENTER_ID_BITS = 5;
+
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    public static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
+    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+
+    private static final int WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private static final int DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
+
+    private final long epoch;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+    /**
+     * 节点标识(数据中心ID与机器ID)，已移位
+     */
+    private final long nodeBits;
+    /**
+     * 上次分配的 (时间戳 << SEQUENCE_BITS | 序列号)
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param workerId     机器ID [0, 31]
+     * @param datacenterId 数据中心ID [0, 31]
+     */
+    public Snowflake(long workerId, long datacenterId) {
+        this(workerId, datacenterId, DEFAULT_EPOCH, DEFAULT_MAX_BACKWARD_MILLIS);
+    }
+
+    /**
+     * @param workerId          机器ID [0, 31]
+     * @param datacenterId      数据中心ID [0, 31]
+     * @param epoch             起始时间戳(毫秒)，一经使用不可修改
+     * @param maxBackwardMillis 时钟回拨容忍时间(毫秒)
+     */
+    public Snowflake(long workerId, long datacenterId, long epoch, long maxBackwardMillis) {
+        this(workerId, datacenterId, epoch, maxBackwardMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * @param workerId          机器ID [0, 31]
+     * @param datacenterId      数据中心ID [0, 31]
+     * @param epoch             起始时间戳(毫秒)
+     * @param maxBackwardMillis 时钟回拨容忍时间(毫秒)
+     * @param clock             毫秒时钟，测试时用于模拟时钟回拨
+     */
+    Snowflake(long workerId, long datacenterId, long epoch, long maxBackwardMillis, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(String.format("worker Id can't be greater than %d or less than 0", MAX_WORKER_ID));
+        }
+        if (datacenterId < 0 || datacenterId > MAX_DATACENTER_ID) {
+            throw new IllegalArgumentException(String.format("datacenter Id can't be greater than %d or less than 0", MAX_DATACENTER_ID));
+        }
+        if (epoch < 0 || epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("epoch must be in the past");
+        }
+        if (maxBackwardMillis < 0) {
+            throw new IllegalArgumentException("maxBackwardMillis can't be less than 0");
+        }
+        this.epoch = epoch;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+        this.nodeBits = (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
+    }
+
+    /**
+     * 生成下一个ID
+     *
+     * @return ID
+     */
+    public long nextId() {
+        for (; ; ) {
+            final long current = state.get();
+            final long start = nextSlot(current);
+            if (start >= 0 && state.compareAndSet(current, start)) {
+                return toId(start);
+            }
+        }
+    }
+
+    /**
+     * 生成下一个ID（字符串）
+     *
+     * @return ID
+     */
+    public String nextIdStr() {
+        return Long.toString(nextId());
+    }
+
+    /**
+     * 批量生成ID，每毫秒内只需一次 CAS 即可分配一段连续序列号
+     *
+     * @param n 数量
+     * @return 单调递增的ID数组
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n can't be less than 0");
+        }
+        final long[] ids = new long[n];
+        int i = 0;
+        while (i < n) {
+            final long current = state.get();
+            final long start = nextSlot(current);
+            if (start < 0) {
+                continue;
+            }
+            // 单次最多分配到当前毫秒的最后一个序列号
+            final long end = Math.min(start + (n - i) - 1, start | SEQUENCE_MASK);
+            if (state.compareAndSet(current, end)) {
+                for (long slot = start; slot <= end; slot++) {
+                    ids[i++] = toId(slot);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 从ID中解析生成时间戳
+     *
+     * @param id ID
+     * @return 毫秒时间戳
+     */
+    public long getTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epoch;
+    }
+
+    /**
+     * 从ID中解析机器ID
+     *
+     * @param id ID
+     * @return 机器ID
+     */
+    public static long getWorkerId(long id) {
+        return (id >>> WORKER_ID_SHIFT) & MAX_WORKER_ID;
+    }
+
+    /**
+     * 从ID中解析数据中心ID
+     *
+     * @param id ID
+     * @return 数据中心ID
+     */
+    public static long getDatacenterId(long id) {
+        return (id >>> DATACENTER_ID_SHIFT) & MAX_DATACENTER_ID;
+    }
+
+    private long toId(long slot) {
+        return ((slot >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (slot & SEQUENCE_MASK);
+    }
+
+    /**
+     * 计算下一个可分配的 (时间戳 << SEQUENCE_BITS | 序列号)
+     *
+     * @param current 上次分配的值
+     * @return 下一个可分配的值，需要重试时返回 -1
+     */
+    private long nextSlot(long current) {
+        final long lastTimestamp = current >>> SEQUENCE_BITS;
+        final long timestamp = clock.getAsLong() - epoch;
+        if (timestamp > lastTimestamp) {
+            return timestamp << SEQUENCE_BITS;
+        }
+        final long backward = lastTimestamp - timestamp;
+        if (backward > maxBackwardMillis) {
+            throw new IllegalStateException(String.format("Clock moved backwards. Refusing to generate id for %d milliseconds", backward));
+        }
+        if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+            // 当前毫秒序列号已用尽，等待时钟前进
+            waitUntilAfter(lastTimestamp);
+            return -1;
+        }
+        return current + 1;
+    }
+
+    private void waitUntilAfter(long lastTimestamp) {
+        long timestamp = clock.getAsLong() - epoch;
+        while (timestamp <= lastTimestamp) {
+            if (lastTimestamp - timestamp > 1) {
+                // 时钟回拨等待，避免空转
+                LockSupport.parkNanos((lastTimestamp - timestamp) * 1_000_000L);
+            } else {
+                Thread.onSpinWait();
+            }
+            timestamp = clock.getAsLong() - epoch;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package org.springultron.core.utils;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 预编译的字符串分割器，不可变，线程安全，可作为常量复用
+ * <p>
+ * 分隔符集合在创建时编译为单字符比较、ASCII 位图或有序数组二分查找，分割时：
+ * 1、{@link #forEachToken(CharSequence, TokenHandler)} 只回调 token 的起止位置，不创建任何对象
+ * 2、{@link #forEachToken(CharSequence, Consumer)} 回调复用的 {@link CharSequence} 视图，不创建子串
+ * 3、{@link #split(CharSequence)} 先计数再填充，不创建中间集合
+ * <p>
+ * 默认语义与 {@link StringUtils#split(String, String)} 一致：相邻分隔符视为一个；
+ * {@link #preserveAllTokens()} 后与 {@link StringUtils#splitPreserveAllTokens(String, String)} 一致
+ * <pre>
+ * private static final Splitter COMMA = Splitter.on(',').trimResults();
+ *
+ * COMMA.forEachToken("a, b,,c", token -> ...);   // "a" "b" "c"
+ * </pre>
+ *
+ * @author brucewuu
+ * @date 2026/10/18 16:30
+ */
+public final class Splitter {
+
+    private static final int MODE_SINGLE = 0;
+    private static final int MODE_ASCII = 1;
+    private static final int MODE_SET = 2;
+    private static final int MODE_WHITESPACE = 3;
+
+    private static final Splitter WHITESPACE = new Splitter(MODE_WHITESPACE, '\0', 0L, 0L, null, false, false, 0);
+
+    private final int mode;
+
+    /**
+     * 单字符分隔符
+     */
+    private final char single;
+
+    /**
+     * ASCII 分隔符位图，低 64 位及高 64 位
+     */
+    private final long lowMask;
+    private final long highMask;
+
+    /**
+     * 含非 ASCII 字符时的有序分隔符集合
+     */
+    @Nullable
+    private final char[] sortedChars;
+
+    private final boolean preserveAllTokens;
+
+    private final boolean trimResults;
+
+    private final int limit;
+
+    private Splitter(int mode, char single, long lowMask, long highMask, @Nullable char[] sortedChars,
+                     boolean preserveAllTokens, boolean trimResults, int limit) {
+        this.mode = mode;
+        this.single = single;
+        this.lowMask = lowMask;
+        this.highMask = highMask;
+        this.sortedChars = sortedChars;
+        this.preserveAllTokens = preserveAllTokens;
+        this.trimResults = trimResults;
+        this.limit = limit;
+    }
+
+    /**
+     * 按单个字符分割
+     *
+     * @param separator 分隔符
+     * @return Splitter
+     */
+    public static Splitter on(char separator) {
+        return new Splitter(MODE_SINGLE, separator, 0L, 0L, null, false, false, 0);
+    }
+
+    /**
+     * 按字符集合分割，任一字符均视为分隔符
+     *
+     * @param separatorChars 分隔符集合，为 null 或空时按空白字符分割
+     * @return Splitter
+     */
+    public static Splitter on(@Nullable String separatorChars) {
+        if (separatorChars == null || separatorChars.isEmpty()) {
+            return WHITESPACE;
+        }
+        if (separatorChars.length() == 1) {
+            return on(separatorChars.charAt(0));
+        }
+        long low = 0L;
+        long high = 0L;
+        boolean ascii = true;
+        for (int i = 0; i < separatorChars.length(); i++) {
+            final char ch = separatorChars.charAt(i);
+            if (ch < 64) {
+                low |= 1L << ch;
+            } else if (ch < 128) {
+                high |= 1L << (ch - 64);
+            } else {
+                ascii = false;
+            }
+        }
+        if (ascii) {
+            return new Splitter(MODE_ASCII, '\0', low, high, null, false, false, 0);
+        }
+        final char[] sorted = separatorChars.toCharArray();
+        Arrays.sort(sorted);
+        return new Splitter(MODE_SET, '\0', 0L, 0L, sorted, false, false, 0);
+    }
+
+    /**
+     * 按空白字符({@link Character#isWhitespace(char)})分割
+     *
+     * @return Splitter
+     */
+    public static Splitter onWhitespace() {
+        return WHITESPACE;
+    }
+
+    /**
+     * 保留相邻分隔符之间及首尾的空 token
+     *
+     * @return 新的 Splitter
+     */
+    public Splitter preserveAllTokens() {
+        return new Splitter(mode, single, lowMask, highMask, sortedChars, true, trimResults, limit);
+    }
+
+    /**
+     * 去除 token 首尾空白，未保留空 token 时去除后为空的 token 被忽略
+     *
+     * @return 新的 Splitter
+     */
+    public Splitter trimResults() {
+        return new Splitter(mode, single, lowMask, highMask, sortedChars, preserveAllTokens, true, limit);
+    }
+
+    /**
+     * 限制 token 数量，最后一个 token 包含剩余全部字符(含分隔符)
+     *
+     * @param max 最大数量，小于等于 0 表示不限制
+     * @return 新的 Splitter
+     */
+    public Splitter limit(int max) {
+        return new Splitter(mode, single, lowMask, highMask, sortedChars, preserveAllTokens, trimResults, Math.max(max, 0));
+    }
+
+    /**
+     * 是否为分隔符
+     *
+     * @param ch 字符
+     * @return 是否为分隔符
+     */
+    public boolean isSeparator(char ch) {
+        return switch (mode) {
+            case MODE_SINGLE -> ch == single;
+            case MODE_ASCII -> ch < 64 ? (lowMask & (1L << ch)) != 0 : ch < 128 && (highMask & (1L << (ch - 64))) != 0;
+            case MODE_SET -> Arrays.binarySearch(sortedChars, ch) >= 0;
+            default -> Character.isWhitespace(ch);
+        };
+    }
+
+    /**
+     * token 位置回调
+     */
+    @FunctionalInterface
+    public interface TokenHandler {
+        /**
+         * @param source 源字符序列
+         * @param start  token 起始位置(含)
+         * @param end    token 结束位置(不含)
+         */
+        void accept(CharSequence source, int start, int end);
+    }
+
+    /**
+     * 遍历 token 位置，不创建任何对象
+     *
+     * @param input   源字符序列，为 null 时不回调
+     * @param handler 回调
+     */
+    public void forEachToken(@Nullable CharSequence input, TokenHandler handler) {
+        if (input == null) {
+            return;
+        }
+        final int len = input.length();
+        int count = 0;
+        int start = 0;
+        boolean match = false;
+        boolean lastMatch = false;
+        int i = 0;
+        while (i < len) {
+            if (isSeparator(input.charAt(i))) {
+                if (match || preserveAllTokens) {
+                    if (limit > 0 && ++count == limit) {
+                        // 达到数量限制，剩余部分作为最后一个 token
+                        emit(input, start, len, handler);
+                        return;
+                    }
+                    emit(input, start, i, handler);
+                    match = false;
+                    lastMatch = true;
+                }
+                start = ++i;
+                continue;
+            }
+            lastMatch = false;
+            match = true;
+            i++;
+        }
+        if (match || preserveAllTokens && lastMatch) {
+            emit(input, start, len, handler);
+        }
+    }
+
+    /**
+     * 遍历 token，回调参数为复用的字符序列视图，仅在回调内有效，需保留时请调用 toString()
+     *
+     * @param input    源字符序列，为 null 时不回调
+     * @param consumer 回调
+     */
+    public void forEachToken(@Nullable CharSequence input, Consumer<CharSequence> consumer) {
+        if (input == null) {
+            return;
+        }
+        final TokenView view = new TokenView(input);
+        forEachToken(input, (source, start, end) -> consumer.accept(view.reset(start, end)));
+    }
+
+    /**
+     * 统计 token 数量
+     *
+     * @param input 源字符序列
+     * @return token 数量
+     */
+    public int countTokens(@Nullable CharSequence input) {
+        final int[] count = new int[1];
+        forEachToken(input, (source, start, end) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 分割为数组
+     *
+     * @param input 源字符序列
+     * @return token 数组，input 为 null 时返回 null
+     */
+    @Nullable
+    public String[] split(@Nullable CharSequence input) {
+        if (input == null) {
+            return null;
+        }
+        final int count = countTokens(input);
+        if (count == 0) {
+            return new String[0];
+        }
+        final String[] result = new String[count];
+        final int[] index = new int[1];
+        forEachToken(input, (source, start, end) -> result[index[0]++] = source.subSequence(start, end).toString());
+        return result;
+    }
+
+    /**
+     * 分割为 List
+     *
+     * @param input 源字符序列
+     * @return 不可变 List，input 为 null 时返回空 List
+     */
+    public List<String> splitToList(@Nullable CharSequence input) {
+        final String[] tokens = split(input);
+        return tokens == null || tokens.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(tokens));
+    }
+
+    /**
+     * 分割为可变 List
+     *
+     * @param input 源字符序列
+     * @return ArrayList
+     */
+    public List<String> splitToMutableList(@Nullable CharSequence input) {
+        final List<String> list = new ArrayList<>();
+        forEachToken(input, (source, start, end) -> list.add(source.subSequence(start, end).toString()));
+        return list;
+    }
+
+    private void emit(CharSequence input, int start, int end, TokenHandler handler) {
+        if (trimResults) {
+            while (start < end && Character.isWhitespace(input.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+                end--;
+            }
+            if (start == end && !preserveAllTokens) {
+                return;
+            }
+        }
+        handler.accept(input, start, end);
+    }
+
+    /**
+     * 源字符序列的可复用区间视图
+     */
+    private static final class TokenView implements CharSequence {
+
+        private final CharSequence source;
+
+        private int start;
+
+        private int end;
+
+        private TokenView(CharSequence source) {
+            this.source = source;
+        }
+
+        private TokenView reset(int start, int end) {
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > end - start || from > to) {
+                throw new StringIndexOutOfBoundsException("begin " + from + ", end " + to + ", length " + (end - start));
+            }
+            return source.subSequence(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
@@ -190,16 +190,22 @@ public class StringUtils extends org.springframework.util.StringUtils {
             return str;
         }
         final int sz = str.length();
+        int first = 0;
+        while (first < sz && !Character.isWhitespace(str.charAt(first))) {
+            first++;
+        }
+        if (first == sz) {
+            // 不含空白字符时直接返回原字符串，不复制
+            return str;
+        }
         final char[] chs = new char[sz];
-        int count = 0;
-        for (int i = 0; i < sz; i++) {
+        str.getChars(0, first, chs, 0);
+        int count = first;
+        for (int i = first + 1; i < sz; i++) {
             if (!Character.isWhitespace(str.charAt(i))) {
                 chs[count++] = str.charAt(i);
             }
         }
-        if (count == sz) {
-            return str;
-        }
         return new String(chs, 0, count);
     }
 
@@ -1,28 +1,100 @@
 package org.springultron.core.utils;
 
-import java.sql.Timestamp;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * 时钟工具
  * 高并发场景下System.currentTimeMillis()的性能问题的优化
+ * <p>
+ * 通过系统属性配置默认时钟：
+ * 1、ultron.clock.tick-millis 刷新周期(毫秒)，可选 1/5/10，默认 1
+ * 2、ultron.clock.mode 运行模式，{@link Mode#PAUSE_ON_IDLE}(默认，空闲时暂停刷新线程) 或 {@link Mode#ALWAYS_ON}
+ * 配置值无效时输出告警并使用默认值
  *
  * @author brucewuu
  * @date 2022/3/13 上午10:48
  */
 public final class SystemClock {
+
+    private static final Logger log = LoggerFactory.getLogger(SystemClock.class);
+
+    public static final String TICK_MILLIS_PROPERTY = "ultron.clock.tick-millis";
+
+    public static final String MODE_PROPERTY = "ultron.clock.mode";
+
+    /**
+     * 连续无读取超过该时长(毫秒)后暂停刷新线程
+     */
+    private static final long IDLE_MILLIS = 1000L;
+
+    /**
+     * 默认时钟可选的刷新周期(毫秒)
+     */
+    private static final long[] SUPPORTED_TICK_MILLIS = {1L, 5L, 10L};
+
+    private static final long DEFAULT_TICK_MILLIS = 1L;
+
+    /**
+     * 系统时间回拨超过该时长(毫秒)时视为时钟调整，缓存值随之回拨
+     */
+    private static final long MAX_BACKWARD_MILLIS = IDLE_MILLIS;
+
+    private static final AtomicLongFieldUpdater<SystemClock> MILLIS = AtomicLongFieldUpdater.newUpdater(SystemClock.class, "millis");
+
+    private static final AtomicLongFieldUpdater<SystemClock> NANOS = AtomicLongFieldUpdater.newUpdater(SystemClock.class, "nanos");
+
+    /**
+     * 时钟运行模式
+     */
+    public enum Mode {
+        /**
+         * 刷新线程常驻
+         */
+        ALWAYS_ON,
+        /**
+         * 空闲时暂停刷新线程，暂停期间直接读取系统时间，下一次读取时唤醒
+         */
+        PAUSE_ON_IDLE
+    }
+
     /**
      * 设置周期
      */
     private final long period;
 
+    private final Mode mode;
+
     /**
-     * 用来作为时间戳存储的容器
+     * 毫秒时间戳
      */
-    private final AtomicLong now;
+    private volatile long millis;
+
+    /**
+     * 单调递增的纳秒时间
+     */
+    private volatile long nanos;
+
+    /**
+     * 上一个刷新周期内是否有读取
+     */
+    private volatile boolean accessed;
+
+    /**
+     * 刷新线程是否已暂停
+     */
+    private volatile boolean sleeping;
+
+    private volatile boolean running = true;
+
+    private final Thread ticker;
 
     /**
      * 获取毫秒时间戳 替换System.currentTimeMillis()
@@ -31,31 +103,29 @@ public final class SystemClock {
         return getInstance().now();
     }
 
+    /**
+     * 获取单调递增的纳秒时间(精度为刷新周期) 替换System.nanoTime()
+     */
+    public static long nanoTime() {
+        return getInstance().monotonicNanos();
+    }
+
     /**
      * 获取当前日期字符串
+     * 同一毫秒内复用上次结果，同一秒内只拼接毫秒部分
      * Returns: a String object in yyyy-MM-dd HH:mm:ss.SSS format
      */
     public static String currentTimeToString(long milliseconds) {
-        String timestamp = new Timestamp(milliseconds).toString();
-        if (timestamp.length() == 23) {
-            return timestamp;
-        }
-        if (timestamp.length() == 22) {
-            return timestamp + "0";
-        }
-        if (timestamp.length() == 21) {
-            return timestamp + "00";
-        }
-        if (timestamp.length() == 19) {
-            return timestamp + ".000";
-        }
-        if (timestamp.length() < 19) {
-            return DateUtils.formatDateTime(DateUtils.toDateTime(milliseconds)) + ".000";
-        }
-        if (timestamp.length() > 23) {
-            return timestamp.substring(0, 23);
+        CachedText cached = cachedText;
+        if (cached.millis == milliseconds) {
+            return cached.text;
         }
-        return timestamp;
+        final long second = Math.floorDiv(milliseconds, 1000L);
+        String secondText = cached.second == second ? cached.secondText : formatSecond(milliseconds);
+        final int millisOfSecond = (int) Math.floorMod(milliseconds, 1000L);
+        String text = secondText + (char) ('0' + millisOfSecond / 100) + (char) ('0' + millisOfSecond / 10 % 10) + (char) ('0' + millisOfSecond % 10);
+        cachedText = new CachedText(milliseconds, second, secondText, text);
+        return text;
     }
 
     /**
@@ -66,36 +136,214 @@ public final class SystemClock {
         return currentTimeToString(getInstance().now());
     }
 
+    /**
+     * 最近一次格式化结果，不可变对象整体替换，无需加锁
+     */
+    private static volatile CachedText cachedText = new CachedText(Long.MIN_VALUE, Long.MIN_VALUE, null, null);
+
+    private record CachedText(long millis, long second, String secondText, String text) {
+    }
+
+    /**
+     * 格式化到秒：yyyy-MM-dd HH:mm:ss.
+     */
+    private static String formatSecond(long milliseconds) {
+        LocalDateTime dt = LocalDateTime.ofInstant(Instant.ofEpochMilli(milliseconds), ZoneId.systemDefault());
+        char[] buf = new char[20];
+        int year = dt.getYear();
+        if (year < 0 || year > 9999) {
+            return DateUtils.formatDateTime(dt) + '.';
+        }
+        write4(buf, 0, year);
+        buf[4] = '-';
+        write2(buf, 5, dt.getMonthValue());
+        buf[7] = '-';
+        write2(buf, 8, dt.getDayOfMonth());
+        buf[10] = ' ';
+        write2(buf, 11, dt.getHour());
+        buf[13] = ':';
+        write2(buf, 14, dt.getMinute());
+        buf[16] = ':';
+        write2(buf, 17, dt.getSecond());
+        buf[19] = '.';
+        return new String(buf);
+    }
+
+    private static void write2(char[] buf, int off, int value) {
+        buf[off] = (char) ('0' + value / 10);
+        buf[off + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] buf, int off, int value) {
+        write2(buf, off, value / 100);
+        write2(buf, off + 2, value % 100);
+    }
+
     public SystemClock(long period) {
+        this(period, Mode.PAUSE_ON_IDLE);
+    }
+
+    public SystemClock(long period, Mode mode) {
+        if (period < 1 || period > 1000) {
+            throw new IllegalArgumentException("period must be between 1 and 1000 milliseconds");
+        }
         this.period = period;
-        this.now = new AtomicLong(System.currentTimeMillis());
-        this.scheduleClockUpdating();
+        this.mode = mode == null ? Mode.PAUSE_ON_IDLE : mode;
+        this.millis = System.currentTimeMillis();
+        this.nanos = System.nanoTime();
+        this.ticker = this.scheduleClockUpdating();
     }
 
     private static SystemClock getInstance() {
         return InstanceHolder.INSTANCE;
     }
 
-    private long now() {
-        return now.get();
+    /**
+     * 获取毫秒时间戳
+     * 暂停期间直接读取的值同样发布到缓存，唤醒前后读取的时间不回退
+     */
+    public long now() {
+        if (sleeping) {
+            wakeUp();
+            return publishMillis(System.currentTimeMillis(), Long.MAX_VALUE);
+        }
+        if (!accessed) {
+            accessed = true;
+        }
+        return millis;
+    }
+
+    /**
+     * 获取单调递增的纳秒时间(精度为刷新周期)
+     */
+    public long monotonicNanos() {
+        if (sleeping) {
+            wakeUp();
+            return publishNanos(System.nanoTime());
+        }
+        if (!accessed) {
+            accessed = true;
+        }
+        return nanos;
+    }
+
+    /**
+     * 停止刷新线程，停止后读取的时间不再更新
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+
+    private void wakeUp() {
+        LockSupport.unpark(ticker);
+    }
+
+    /**
+     * 以 CAS 取最大值的方式发布毫秒时间戳，回拨超过 maxBackward 时视为时钟调整，直接采用新值
+     *
+     * @return 发布后的缓存值
+     */
+    private long publishMillis(long value, long maxBackward) {
+        long current;
+        do {
+            current = millis;
+            if (value <= current && current - value <= maxBackward) {
+                return current;
+            }
+        } while (!MILLIS.compareAndSet(this, current, value));
+        return value;
+    }
+
+    /**
+     * 以 CAS 取最大值的方式发布纳秒时间
+     *
+     * @return 发布后的缓存值
+     */
+    private long publishNanos(long value) {
+        long current;
+        do {
+            current = nanos;
+            if (value - current <= 0) {
+                return current;
+            }
+        } while (!NANOS.compareAndSet(this, current, value));
+        return value;
     }
 
     private static class InstanceHolder {
-        // 设置1ms更新一次时间
-        private static final SystemClock INSTANCE = new SystemClock(1);
+        private static final SystemClock INSTANCE = new SystemClock(resolveTickMillis(), resolveMode());
+    }
+
+    private static long resolveTickMillis() {
+        final String value = System.getProperty(TICK_MILLIS_PROPERTY);
+        if (value == null) {
+            return DEFAULT_TICK_MILLIS;
+        }
+        try {
+            final long tickMillis = Long.parseLong(value.trim());
+            for (long supported : SUPPORTED_TICK_MILLIS) {
+                if (tickMillis == supported) {
+                    return tickMillis;
+                }
+            }
+        } catch (NumberFormatException ignored) {
+            // 按无效值处理
+        }
+        log.warn("Invalid {}: '{}', expected one of 1, 5, 10; falling back to {}", TICK_MILLIS_PROPERTY, value, DEFAULT_TICK_MILLIS);
+        return DEFAULT_TICK_MILLIS;
+    }
+
+    private static Mode resolveMode() {
+        final String value = System.getProperty(MODE_PROPERTY);
+        if (value == null) {
+            return Mode.PAUSE_ON_IDLE;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid {}: '{}', expected ALWAYS_ON or PAUSE_ON_IDLE; falling back to {}", MODE_PROPERTY, value, Mode.PAUSE_ON_IDLE);
+            return Mode.PAUSE_ON_IDLE;
+        }
     }
 
     /**
-     * 初始化定时器
+     * 初始化刷新线程
      */
-    private void scheduleClockUpdating() {
-        ScheduledExecutorService singleScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
-            Thread thread = new Thread(runnable, "System Clock");
-            //设置为守护线程
-            thread.setDaemon(true);
-            return thread;
-        });
-        singleScheduler.scheduleAtFixedRate(() -> now.set(System.currentTimeMillis()), period, period, TimeUnit.MILLISECONDS);
+    private Thread scheduleClockUpdating() {
+        Thread thread = new Thread(this::tick, "System Clock");
+        //设置为守护线程
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void tick() {
+        final long periodNanos = TimeUnit.MILLISECONDS.toNanos(period);
+        final long idleTicks = Math.max(1L, IDLE_MILLIS / period);
+        long idle = 0;
+        while (running) {
+            publishMillis(System.currentTimeMillis(), MAX_BACKWARD_MILLIS);
+            publishNanos(System.nanoTime());
+            if (mode == Mode.PAUSE_ON_IDLE) {
+                if (accessed) {
+                    accessed = false;
+                    idle = 0;
+                } else if (++idle >= idleTicks) {
+                    sleeping = true;
+                    // 设置暂停标识后再次确认，避免丢失唤醒
+                    if (!accessed && running) {
+                        LockSupport.park(this);
+                    }
+                    // 先刷新时间再恢复读取缓存值
+                    publishMillis(System.currentTimeMillis(), MAX_BACKWARD_MILLIS);
+                    publishNanos(System.nanoTime());
+                    sleeping = false;
+                    idle = 0;
+                }
+            }
+            LockSupport.parkNanos(this, periodNanos);
+        }
     }
 
 }
@@ -1,22 +1,19 @@
 package org.springultron.core.utils;
 
-import org.springframework.beans.SimpleTypeConverter;
-import org.springframework.beans.TypeConverter;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
+import org.springultron.core.convert.ConverterRegistry;
 
 import java.lang.reflect.Field;
 
 /**
- * 对象类型转换
+ * 对象类型转换，转换函数由 {@link ConverterRegistry} 按类型缓存
  *
  * @author brucewuu
  * @date 2021/4/17 上午11:54
  */
 public class TypeConverterUtils {
-    private static final TypeConverter TYPE_CONVERTER = new SimpleTypeConverter();
-
     /**
      * 对象值转换
      *
@@ -26,7 +23,7 @@ public class TypeConverterUtils {
      */
     @Nullable
     public static <T> T convertIfNecessary(@Nullable Object value, @Nullable Class<T> requiredType) {
-        return TYPE_CONVERTER.convertIfNecessary(value, requiredType);
+        return convertIfNecessary(value, requiredType, (TypeDescriptor) null);
     }
 
     /**
@@ -38,7 +35,7 @@ public class TypeConverterUtils {
      */
     @Nullable
     public static <T> T convertIfNecessary(@Nullable Object value, @Nullable Class<T> requiredType, @Nullable MethodParameter methodParameter) {
-        return TYPE_CONVERTER.convertIfNecessary(value, requiredType, methodParameter);
+        return convertIfNecessary(value, requiredType, methodParameter != null ? new TypeDescriptor(methodParameter) : null);
     }
 
     /**
@@ -50,7 +47,7 @@ public class TypeConverterUtils {
      */
     @Nullable
     public static <T> T convertIfNecessary(@Nullable Object value, @Nullable Class<T> requiredType, @Nullable Field field) {
-        return TYPE_CONVERTER.convertIfNecessary(value, requiredType, field);
+        return convertIfNecessary(value, requiredType, field != null ? new TypeDescriptor(field) : null);
     }
 
     /**
@@ -61,7 +58,15 @@ public class TypeConverterUtils {
      * @param typeDescriptor TypeDescriptor
      * @param <T>            泛型
      */
+    @Nullable
+    @SuppressWarnings("unchecked")
     public static <T> T convertIfNecessary(@Nullable Object value, @Nullable Class<T> requiredType, @Nullable TypeDescriptor typeDescriptor) {
-        return TYPE_CONVERTER.convertIfNecessary(value, requiredType, typeDescriptor);
+        if (requiredType == null) {
+            if (typeDescriptor == null) {
+                return (T) value;
+            }
+            requiredType = (Class<T>) typeDescriptor.getType();
+        }
+        return ConverterRegistry.convert(value, requiredType, typeDescriptor);
     }
 }
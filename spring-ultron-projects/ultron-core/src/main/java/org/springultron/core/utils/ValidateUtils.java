@@ -0,0 +1,170 @@
+package org.springultron.core.utils;
+
+import org.springultron.core.pool.PatternPool;
+
+/**
+ * 常用格式校验(非正则实现)
+ * <p>
+ * 逐字符校验，不创建 Matcher 等对象，用于请求级别的高频校验，
+ * 校验规则与 {@link PatternPool} 中对应正则一致
+ *
+ * @author brucewuu
+ * @date 2026/10/18 17:00
+ */
+public class ValidateUtils {
+
+    private ValidateUtils() {
+    }
+
+    /**
+     * 校验手机号码，等价于 {@link PatternPool#MOBILE}：可选前缀 0、86、+86，11位号码以 1 开头、第二位为 2-9
+     *
+     * @param value 手机号码
+     * @return {boolean}
+     */
+    public static boolean isMobile(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        final int len = value.length();
+        final int offset;
+        if (len == 11) {
+            offset = 0;
+        } else if (len == 12 && value.charAt(0) == '0') {
+            offset = 1;
+        } else if (len == 13 && value.charAt(0) == '8' && value.charAt(1) == '6') {
+            offset = 2;
+        } else if (len == 14 && value.charAt(0) == '+' && value.charAt(1) == '8' && value.charAt(2) == '6') {
+            offset = 3;
+        } else {
+            return false;
+        }
+        if (value.charAt(offset) != '1') {
+            return false;
+        }
+        final char second = value.charAt(offset + 1);
+        if (second < '2' || second > '9') {
+            return false;
+        }
+        return isDigits(value, offset + 2, len);
+    }
+
+    /**
+     * 校验身份证号码格式(15位或18位)，等价于 {@link PatternPool#ID_CARD}
+     * 只校验格式：首位 1-9，月份 00-12，日期 00-31，末位可为 X/x，不校验地区码及 18 位校验码
+     *
+     * @param value 身份证号码
+     * @return {boolean}
+     */
+    public static boolean isIdCard(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        final int len = value.length();
+        final int dateOffset;
+        if (len == 15) {
+            // [1-9]\d{7} 月 日 \d{2}[0-9Xx]
+            dateOffset = 8;
+        } else if (len == 18) {
+            // [1-9]\d{5}[1-9]\d{3} 月 日 \d{3}[0-9Xx]
+            final char yearFirst = value.charAt(6);
+            if (yearFirst < '1' || yearFirst > '9') {
+                return false;
+            }
+            dateOffset = 10;
+        } else {
+            return false;
+        }
+        final char first = value.charAt(0);
+        if (first < '1' || first > '9') {
+            return false;
+        }
+        if (!isDigits(value, 1, dateOffset + 4) || !isDigits(value, dateOffset + 4, len - 1)) {
+            return false;
+        }
+        final int month = (value.charAt(dateOffset) - '0') * 10 + (value.charAt(dateOffset + 1) - '0');
+        final int day = (value.charAt(dateOffset + 2) - '0') * 10 + (value.charAt(dateOffset + 3) - '0');
+        if (month > 12 || day > 31) {
+            return false;
+        }
+        final char last = value.charAt(len - 1);
+        return (last >= '0' && last <= '9') || last == 'X' || last == 'x';
+    }
+
+    /**
+     * 校验 IPv4 地址，等价于 {@link PatternPool#IPV4}：
+     * 每段为 1-2 位数字(允许前导 0)或 100-255 的 3 位数字
+     *
+     * @param value IPv4 地址
+     * @return {boolean}
+     */
+    public static boolean isIpv4(CharSequence value) {
+        return parseIpv4(value) >= 0;
+    }
+
+    /**
+     * 解析 IPv4 地址为 long
+     *
+     * @param value IPv4 地址
+     * @return long 值，格式不正确时返回 -1
+     */
+    public static long parseIpv4(CharSequence value) {
+        if (value == null) {
+            return -1L;
+        }
+        return parseIpv4(value, 0, value.length());
+    }
+
+    /**
+     * 解析字符序列指定区间内的 IPv4 地址为 long，不创建子串
+     *
+     * @param value 字符序列
+     * @param from  起始位置(含)
+     * @param to    结束位置(不含)
+     * @return long 值，格式不正确时返回 -1
+     */
+    public static long parseIpv4(CharSequence value, int from, int to) {
+        if (to - from < 7 || to - from > 15) {
+            return -1L;
+        }
+        long result = 0L;
+        int segments = 0;
+        int i = from;
+        while (i <= to) {
+            final int begin = i;
+            int octet = 0;
+            while (i < to) {
+                final char ch = value.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                octet = octet * 10 + (ch - '0');
+                i++;
+            }
+            final int digits = i - begin;
+            if (digits == 0 || digits > 3 || (digits == 3 && (octet < 100 || octet > 255))) {
+                return -1L;
+            }
+            result = result << 8 | octet;
+            segments++;
+            if (i == to) {
+                break;
+            }
+            if (value.charAt(i) != '.' || segments == 4) {
+                return -1L;
+            }
+            i++;
+        }
+        return segments == 4 ? result : -1L;
+    }
+
+    private static boolean isDigits(CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
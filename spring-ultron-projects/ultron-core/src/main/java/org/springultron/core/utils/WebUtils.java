@@ -2,16 +2,18 @@ package org.springultron.core.utils;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import org.springultron.core.io.FastStringWriter;
-import org.springultron.core.io.IOUtils;
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.core.jackson.Jackson;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
@@ -26,6 +28,8 @@ import java.util.function.Predicate;
  */
 public class WebUtils extends org.springframework.web.util.WebUtils {
 
+    private static final Logger log = LoggerFactory.getLogger(WebUtils.class);
+
     private WebUtils() {
     }
 
@@ -59,8 +63,8 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
      * 读取request data
      */
     public static String readData(HttpServletRequest request) throws IOException {
-        try (final FastStringWriter sw = new FastStringWriter()) {
-            IOUtils.copy(request.getReader(), sw);
+        try (final ChunkedWriter sw = new ChunkedWriter()) {
+            sw.readFrom(request.getReader());
             return sw.toString();
         }
     }
@@ -73,9 +77,20 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
      */
     public static void renderJson(HttpServletResponse response, Object jsonObject) {
         if (jsonObject == null) {
-            renderJson(response, null);
-        } else {
-            renderJson(response, Jackson.toJson(jsonObject));
+            renderJson(response, (String) null);
+            return;
+        }
+        // 先序列化到池化缓冲区，序列化失败时响应未提交，避免输出不完整的 json
+        try (ChunkedWriter buffer = new ChunkedWriter()) {
+            Jackson.writeTo(jsonObject, (Writer) buffer);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            try (PrintWriter writer = response.getWriter()) {
+                buffer.writeTo(writer);
+                writer.flush();
+            } catch (IOException e) {
+                log.error("Render json error", e);
+            }
         }
     }
 
@@ -117,7 +132,7 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
                 writer.flush();
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            log.error("Render text error", e);
         }
     }
 
@@ -164,19 +179,91 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
         if (IS_BLANK_IP.test(ip)) {
             ip = request.getRemoteAddr();
         }
-        if ("127.0.0.1".equals(ip) || "0:0:0:0:0:0:0:1".equals(ip)) {
+        if (("127.0.0.1".equals(ip) || "0:0:0:0:0:0:0:1".equals(ip)) && LocalHostHolder.ADDRESS != null) {
+            ip = LocalHostHolder.ADDRESS;
+        }
+        if (ip == null) {
+            return null;
+        }
+        final int comma = ip.indexOf(',');
+        return comma < 0 ? ip : ip.substring(0, comma);
+    }
+
+    /**
+     * 获取远程请求IP地址，只信任来自可信代理的 X-Forwarded-For
+     * <p>
+     * 1、直连地址(request.getRemoteAddr())不是可信代理时，直接返回直连地址，忽略可被客户端伪造的请求头
+     * 2、否则从右向左遍历 X-Forwarded-For，跳过可信代理，第一个非可信代理的地址即为客户端地址
+     * 3、遇到非 IP 字面量(如 unknown)时停止，返回最后一个可信代理地址；全部为可信代理时返回最左侧地址
+     * </p>
+     * 不创建子串(返回值除外)，不进行 DNS 解析
+     *
+     * @param request        HttpServletRequest
+     * @param trustedProxies 可信代理网段，为空时等同于 {@link #getRemoteIP(HttpServletRequest)}
+     * @return ip address
+     */
+    @Nullable
+    public static String getRemoteIP(HttpServletRequest request, CidrMatcher trustedProxies) {
+        if (null == request) {
+            return null;
+        }
+        if (trustedProxies.isEmpty()) {
+            return getRemoteIP(request);
+        }
+        final String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        final String forwarded = request.getHeader("X-Forwarded-For");
+        if (StringUtils.isEmpty(forwarded)) {
+            return remoteAddr;
+        }
+        // 最后一个可信代理(或最左侧地址)所在区间，-1 表示直连地址
+        int candidateStart = -1;
+        int candidateEnd = -1;
+        int end = forwarded.length();
+        while (end >= 0) {
+            final int comma = forwarded.lastIndexOf(',', end - 1);
+            int start = comma + 1;
+            int stop = end;
+            while (start < stop && Character.isWhitespace(forwarded.charAt(start))) {
+                start++;
+            }
+            while (stop > start && Character.isWhitespace(forwarded.charAt(stop - 1))) {
+                stop--;
+            }
+            if (start < stop) {
+                if (!trustedProxies.contains(forwarded, start, stop)) {
+                    if (IpUtils.parseAddress(forwarded, start, stop, new byte[IpUtils.IPV6_LENGTH]) < 0) {
+                        // 非 IP 字面量，代理链不可信
+                        break;
+                    }
+                    return forwarded.substring(start, stop);
+                }
+                candidateStart = start;
+                candidateEnd = stop;
+            }
+            end = comma;
+        }
+        return candidateStart < 0 ? remoteAddr : forwarded.substring(candidateStart, candidateEnd);
+    }
+
+    /**
+     * 本机地址，首次使用时解析
+     */
+    private static final class LocalHostHolder {
+
+        @Nullable
+        private static final String ADDRESS = resolve();
+
+        @Nullable
+        private static String resolve() {
             try {
-                ip = InetAddress.getLocalHost().getHostAddress();
+                return InetAddress.getLocalHost().getHostAddress();
             } catch (final UnknownHostException e) {
                 // 未知主机异常
+                return null;
             }
         }
-        return Optional.ofNullable(ip).map(p -> {
-            if (p.contains(",")) {
-                return p.split(",")[0];
-            } else {
-                return p;
-            }
-        }).orElse(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package org.springultron.core.utils;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author brucewuu
+ * @date 2026/10/18 23:20
+ */
+public class CidrMatcherTests {
+
+    @Test
+    public void ipv4Prefixes() {
+        CidrMatcher matcher = CidrMatcher.of("10.0.0.0/8", "192.168.1.0/24", "172.16.0.1");
+        assertTrue(matcher.contains("10.0.0.0"));
+        assertTrue(matcher.contains("10.255.255.255"));
+        assertFalse(matcher.contains("11.0.0.0"));
+        assertTrue(matcher.contains("192.168.1.200"));
+        assertFalse(matcher.contains("192.168.2.1"));
+        assertTrue(matcher.contains("172.16.0.1"));
+        assertFalse(matcher.contains("172.16.0.2"));
+    }
+
+    @Test
+    public void zeroPrefix() {
+        CidrMatcher ipv4 = CidrMatcher.of("0.0.0.0/0");
+        assertTrue(ipv4.contains("0.0.0.0"));
+        assertTrue(ipv4.contains("255.255.255.255"));
+        assertTrue(ipv4.contains("::ffff:8.8.8.8"));
+        assertFalse(ipv4.contains("2001:db8::1"));
+
+        CidrMatcher ipv6 = CidrMatcher.of("::/0");
+        assertTrue(ipv6.contains("2001:db8::1"));
+        assertTrue(ipv6.contains("::"));
+        assertFalse(ipv6.contains("8.8.8.8"));
+    }
+
+    @Test
+    public void fullLengthPrefix() {
+        CidrMatcher ipv4 = CidrMatcher.of("192.0.2.1/32");
+        assertTrue(ipv4.contains("192.0.2.1"));
+        assertFalse(ipv4.contains("192.0.2.0"));
+        assertFalse(ipv4.contains("192.0.2.2"));
+
+        CidrMatcher ipv6 = CidrMatcher.of("2001:db8::1/128");
+        assertTrue(ipv6.contains("2001:db8::1"));
+        assertTrue(ipv6.contains("2001:0db8:0:0:0:0:0:1"));
+        assertFalse(ipv6.contains("2001:db8::"));
+        assertFalse(ipv6.contains("2001:db8::2"));
+    }
+
+    @Test
+    public void ipv6Prefixes() {
+        CidrMatcher matcher = CidrMatcher.of("fd00::/8", "2001:db8:1::/48", "2001:db8::/127");
+        assertTrue(matcher.contains("fdff:ffff::1"));
+        assertFalse(matcher.contains("fc00::1"));
+        assertTrue(matcher.contains("2001:db8:1:ffff::1"));
+        assertFalse(matcher.contains("2001:db8:2::1"));
+        assertTrue(matcher.contains("2001:db8::1"));
+        assertFalse(matcher.contains("2001:db8::2"));
+        assertTrue(matcher.contains("fd00::1%eth0"));
+    }
+
+    @Test
+    public void ipv4Mapped() throws Exception {
+        CidrMatcher ipv4 = CidrMatcher.of("10.0.0.0/8");
+        assertTrue(ipv4.contains("::ffff:10.1.2.3"));
+        assertTrue(ipv4.contains("::ffff:a01:203"));
+        assertFalse(ipv4.contains("::ffff:11.1.2.3"));
+        // IPv4 兼容地址不是映射地址
+        assertFalse(ipv4.contains("::10.1.2.3"));
+
+        CidrMatcher mapped = CidrMatcher.of("::ffff:10.0.0.0/104");
+        assertTrue(mapped.contains("10.1.2.3"));
+        assertTrue(mapped.contains("::ffff:10.1.2.3"));
+        assertFalse(mapped.contains("11.1.2.3"));
+
+        assertTrue(ipv4.contains(InetAddress.getByName("10.1.2.3")));
+        assertTrue(ipv4.contains(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF, 10, 0, 0, 1}));
+    }
+
+    @Test
+    public void rangeWithoutSubstring() {
+        CidrMatcher matcher = CidrMatcher.of("10.0.0.0/8");
+        final String forwarded = "1.1.1.1, 10.0.0.1";
+        assertFalse(matcher.contains(forwarded, 0, 7));
+        assertTrue(matcher.contains(forwarded, 9, forwarded.length()));
+    }
+
+    @Test
+    public void nonIpAndEmpty() {
+        CidrMatcher matcher = CidrMatcher.of("10.0.0.0/8");
+        assertFalse(matcher.contains((CharSequence) null));
+        assertFalse(matcher.contains("unknown"));
+        assertFalse(matcher.contains(""));
+        assertFalse(matcher.contains(new byte[5]));
+
+        CidrMatcher empty = CidrMatcher.of(" ", "");
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.contains("10.0.0.1"));
+        assertTrue(CidrMatcher.of((java.util.Collection<String>) null).isEmpty());
+    }
+
+    @Test
+    public void invalidCidr() {
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("10.0.0.0/33"));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("::/129"));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("10.0.0.0/-1"));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("10.0.0.0/"));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("10.0.0/8"));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.of("example.com"));
+    }
+}
@@ -0,0 +1,150 @@
+package org.springultron.core.utils;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * 固定格式的手写格式化/解析须与 {@link DateTimeFormatter} 结果一致
+ *
+ * @author brucewuu
+ * @date 2026/10/18 23:40
+ */
+public class DateUtilsTests {
+
+    private static final String[] DATE_TIME_SAMPLES = {
+            "2026-10-18 23:40:05",
+            "0001-01-01 00:00:00",
+            "9999-12-31 23:59:59",
+            "2024-02-29 12:00:00",
+            // SMART 模式修正为 2023-02-28
+            "2023-02-29 12:00:00",
+            "2023-04-31 12:00:00",
+            "2023-02-30 12:00:00",
+            // SMART 模式解析为次日 00:00:00
+            "2023-12-31 24:00:00",
+            "2023-13-01 00:00:00",
+            "2023-00-01 00:00:00",
+            "2023-01-00 00:00:00",
+            "2023-01-32 00:00:00",
+            "2023-01-01 23:60:00",
+            "2023-01-01 23:00:60",
+            "2023-01-01 25:00:00",
+            "0000-01-01 00:00:00",
+            "2023-01-01T00:00:00",
+            "2023/01/01 00:00:00",
+            "2023-01-01 00:00:0a",
+            "2023-1-01 00:00:00",
+            "2023-01-01 00:00:00 ",
+            "+2023-01-01 00:00:0",
+            "２０２３-01-01 00:00:00",
+    };
+
+    @Test
+    public void formatDateTimeMatchesFormatter() {
+        final Random random = new Random(20261018L);
+        for (int i = 0; i < 10000; i++) {
+            final LocalDateTime value = randomDateTime(random);
+            final String expected = DateUtils.DATE_TIME_FORMATTER.format(value);
+            assertEquals(expected, DateUtils.formatDateTime(value));
+            assertEquals(expected, DateUtils.formatDateTime(value, DateUtils.PATTERN_DATE_TIME));
+            assertEquals(DateUtils.DATE_FORMATTER.format(value), DateUtils.formatDate(value.toLocalDate()));
+            assertEquals(DateUtils.TIME_FORMATTER.format(value), DateUtils.formatTime(value.toLocalTime()));
+        }
+    }
+
+    @Test
+    public void formatOutsideFastYears() {
+        final LocalDateTime[] values = {
+                LocalDateTime.of(10000, 1, 1, 0, 0, 0),
+                LocalDateTime.of(0, 6, 15, 8, 30, 0),
+                LocalDateTime.of(-1, 6, 15, 8, 30, 0),
+        };
+        for (LocalDateTime value : values) {
+            assertEquals(DateUtils.DATE_TIME_FORMATTER.format(value), DateUtils.formatDateTime(value));
+            assertEquals(DateUtils.DATE_FORMATTER.format(value), DateUtils.formatDate(value.toLocalDate()));
+        }
+    }
+
+    @Test
+    public void formatTo() {
+        final LocalDateTime value = LocalDateTime.of(2026, 10, 18, 9, 5, 7);
+        final StringBuilder sb = new StringBuilder("at ");
+        DateUtils.formatTo(value, sb);
+        assertEquals("at 2026-10-18 09:05:07", sb.toString());
+
+        final StringWriter writer = new StringWriter();
+        DateUtils.formatTo(value.toLocalDate(), writer);
+        writer.append(' ');
+        DateUtils.formatTo(value.toLocalTime(), writer);
+        assertEquals("2026-10-18 09:05:07", writer.toString());
+    }
+
+    @Test
+    public void parseDateTimeMatchesFormatter() {
+        final Random random = new Random(18L);
+        for (int i = 0; i < 10000; i++) {
+            final String text = DateUtils.DATE_TIME_FORMATTER.format(randomDateTime(random));
+            assertParseSame(text, DateUtils::parseDateTime, LocalDateTime::from, DateUtils.DATE_TIME_FORMATTER);
+        }
+        for (String text : DATE_TIME_SAMPLES) {
+            assertParseSame(text, DateUtils::parseDateTime, LocalDateTime::from, DateUtils.DATE_TIME_FORMATTER);
+            assertParseSame(text, s -> DateUtils.parseDateTime(s, DateUtils.PATTERN_DATE_TIME), LocalDateTime::from, DateUtils.DATE_TIME_FORMATTER);
+        }
+        assertEquals(LocalDateTime.of(2023, 2, 28, 12, 0), DateUtils.parseDateTime("2023-02-29 12:00:00"));
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), DateUtils.parseDateTime("2023-12-31 24:00:00"));
+        assertNull(DateUtils.parseDateTime(""));
+    }
+
+    @Test
+    public void parseDateAndTimeMatchFormatter() {
+        for (String sample : DATE_TIME_SAMPLES) {
+            final String date = sample.length() >= 10 ? sample.substring(0, 10) : sample;
+            final String time = sample.length() >= 19 ? sample.substring(11) : sample;
+            assertParseSame(date, DateUtils::parseDate, LocalDate::from, DateUtils.DATE_FORMATTER);
+            assertParseSame(date, s -> DateUtils.parseDate(s, DateUtils.PATTERN_DATE), LocalDate::from, DateUtils.DATE_FORMATTER);
+            assertParseSame(time, DateUtils::parseTime, LocalTime::from, DateUtils.TIME_FORMATTER);
+            assertParseSame(time, s -> DateUtils.parseTime(s, DateUtils.PATTERN_TIME), LocalTime::from, DateUtils.TIME_FORMATTER);
+        }
+    }
+
+    @Test
+    public void customPatternUsesCachedFormatter() {
+        assertSame(DateUtils.getFormatter("yyyy/MM/dd"), DateUtils.getFormatter("yyyy/MM/dd"));
+        assertSame(DateUtils.DATE_TIME_FORMATTER, DateUtils.getFormatter(DateUtils.PATTERN_DATE_TIME));
+        assertEquals(LocalDate.of(2026, 10, 18), DateUtils.parseDate("2026/10/18", "yyyy/MM/dd"));
+        assertEquals("2026/10/18", DateUtils.formatDate(LocalDate.of(2026, 10, 18), "yyyy/MM/dd"));
+    }
+
+    private static LocalDateTime randomDateTime(Random random) {
+        final int year = 1 + random.nextInt(9999);
+        final LocalDate date = LocalDate.ofYearDay(year, 1 + random.nextInt(LocalDate.of(year, 1, 1).lengthOfYear()));
+        return LocalDateTime.of(date, LocalTime.ofSecondOfDay(random.nextInt(86400)));
+    }
+
+    private static <T> void assertParseSame(String text, Function<String, T> actual, TemporalQuery<T> query, DateTimeFormatter formatter) {
+        Object expected;
+        try {
+            expected = formatter.parse(text, query);
+        } catch (DateTimeParseException e) {
+            expected = DateTimeParseException.class;
+        }
+        Object result;
+        try {
+            result = actual.apply(text);
+        } catch (DateTimeParseException e) {
+            result = DateTimeParseException.class;
+        }
+        assertEquals(text, expected, result);
+    }
+}
@@ -0,0 +1,105 @@
+package org.springultron.core.utils;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author brucewuu
+ * @date 2026/10/18 23:10
+ */
+public class IpUtilsTests {
+
+    @Test
+    public void parseIpv4() {
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, IpUtils.toBytes("1.2.3.4"));
+        assertArrayEquals(new byte[]{(byte) 255, (byte) 255, (byte) 255, (byte) 255}, IpUtils.toBytes("255.255.255.255"));
+        assertNull(IpUtils.toBytes("1.2.3.256"));
+        assertNull(IpUtils.toBytes("1.2.3"));
+        assertNull(IpUtils.toBytes("1.2.3.4.5"));
+        assertNull(IpUtils.toBytes("1..2.3"));
+        assertNull(IpUtils.toBytes(""));
+        assertNull(IpUtils.toBytes("unknown"));
+    }
+
+    @Test
+    public void parseIpv6Compression() throws Exception {
+        assertIpv6("::");
+        assertIpv6("::1");
+        assertIpv6("1::");
+        assertIpv6("1::8");
+        assertIpv6("2001:db8::ff00:42:8329");
+        assertIpv6("2001:0db8:0000:0000:0000:ff00:0042:8329");
+        assertIpv6("1:2:3:4:5:6:7:8");
+        assertIpv6("1:2:3:4:5:6:7::");
+        assertIpv6("::2:3:4:5:6:7:8");
+        assertIpv6("FE80::ABCD");
+    }
+
+    @Test
+    public void parseIpv6ZoneId() throws Exception {
+        assertArrayEquals(InetAddress.getByName("fe80::1").getAddress(), IpUtils.toBytes("fe80::1%eth0"));
+        assertArrayEquals(InetAddress.getByName("fe80::1").getAddress(), IpUtils.toBytes("fe80::1%25"));
+        assertNull(IpUtils.toBytes("%eth0"));
+        assertNull(IpUtils.toBytes(":%eth0"));
+    }
+
+    @Test
+    public void parseIpv6EmbeddedIpv4() {
+        byte[] mapped = IpUtils.toBytes("::ffff:1.2.3.4");
+        assertNotNull(mapped);
+        assertEquals(IpUtils.IPV6_LENGTH, mapped.length);
+        assertTrue(IpUtils.isIpv4Mapped(mapped));
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF, 1, 2, 3, 4}, mapped);
+
+        byte[] compatible = IpUtils.toBytes("::1.2.3.4");
+        assertNotNull(compatible);
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4}, compatible);
+        assertFalse(IpUtils.isIpv4Mapped(compatible));
+
+        assertArrayEquals(new byte[]{0, 1, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 1, 2, 3, 4}, IpUtils.toBytes("1:2:3:4:5:6:1.2.3.4"));
+        // 内嵌 IPv4 占两组，总组数超过 8
+        assertNull(IpUtils.toBytes("1:2:3:4:5:6:7:1.2.3.4"));
+        // 内嵌 IPv4 必须位于末尾
+        assertNull(IpUtils.toBytes("::1.2.3.4:1"));
+        assertNull(IpUtils.toBytes("::ffff:1.2.3"));
+        assertNull(IpUtils.toBytes("::ffff:1.2.3.256"));
+        assertNull(IpUtils.toBytes("::a.b.c.d"));
+    }
+
+    @Test
+    public void parseIpv6Malformed() {
+        assertNull(IpUtils.toBytes(":"));
+        assertNull(IpUtils.toBytes(":::"));
+        assertNull(IpUtils.toBytes(":1"));
+        assertNull(IpUtils.toBytes("1:"));
+        assertNull(IpUtils.toBytes("1::2::3"));
+        assertNull(IpUtils.toBytes("12345::"));
+        assertNull(IpUtils.toBytes("g::1"));
+        assertNull(IpUtils.toBytes("1:2:3:4:5:6:7"));
+        assertNull(IpUtils.toBytes("1:2:3:4:5:6:7:8:9"));
+        assertNull(IpUtils.toBytes("1:2:3:4:5:6:7:8::"));
+        assertNull(IpUtils.toBytes("::1:2:3:4:5:6:7:8"));
+        assertNull(IpUtils.toBytes("1:2:3:4:5:6:7:8 "));
+        assertFalse(IpUtils.isIpv6("1.2.3.4"));
+        assertFalse(IpUtils.isIpv6(null));
+    }
+
+    @Test
+    public void parseAddressRange() {
+        final String forwarded = "203.0.113.9, 2001:db8::1";
+        final byte[] dest = new byte[IpUtils.IPV6_LENGTH];
+        assertEquals(IpUtils.IPV4_LENGTH, IpUtils.parseAddress(forwarded, 0, 11, dest));
+        assertEquals(IpUtils.IPV6_LENGTH, IpUtils.parseAddress(forwarded, 13, forwarded.length(), dest));
+        assertEquals(-1, IpUtils.parseAddress(forwarded, 0, 12, dest));
+    }
+
+    private static void assertIpv6(String ip) throws Exception {
+        final byte[] expected = InetAddress.getByName(ip).getAddress();
+        final byte[] actual = IpUtils.toBytes(ip);
+        assertArrayEquals(ip, expected, actual);
+        assertTrue(ip, IpUtils.isIpv6(ip));
+    }
+}
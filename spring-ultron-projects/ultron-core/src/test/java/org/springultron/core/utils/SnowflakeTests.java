@@ -0,0 +1,164 @@
+package org.springultron.core.utils;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author brucewuu
+ * @date 2026/10/18 23:50
+ */
+public class SnowflakeTests {
+
+    private static final long NOW = Snowflake.DEFAULT_EPOCH + 1_000_000L;
+
+    @Test
+    public void monotonicSingleThread() {
+        Snowflake snowflake = new Snowflake(3, 7);
+        long last = snowflake.nextId();
+        for (int i = 0; i < 200_000; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > last);
+            last = id;
+        }
+        assertEquals(3, Snowflake.getWorkerId(last));
+        assertEquals(7, Snowflake.getDatacenterId(last));
+    }
+
+    @Test
+    public void uniqueAcrossThreads() throws Exception {
+        final Snowflake snowflake = new Snowflake(1, 1);
+        final int threads = 4;
+        final int perThread = 50_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final Set<Long> ids = ConcurrentHashMap.newKeySet();
+            final AtomicInteger outOfOrder = new AtomicInteger();
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long last = -1;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = snowflake.nextId();
+                        if (id <= last) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        last = id;
+                        ids.add(id);
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            assertEquals(threads * perThread, ids.size());
+            assertEquals(0, outOfOrder.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void batchCrossesMillisecond() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final Snowflake snowflake = new Snowflake(0, 0, Snowflake.DEFAULT_EPOCH, Snowflake.DEFAULT_MAX_BACKWARD_MILLIS, clock::get);
+        final long first = snowflake.nextId();
+        // 序列号用尽后等待时钟前进
+        final Thread ticker = new Thread(() -> {
+            sleep(50);
+            clock.addAndGet(1);
+            sleep(50);
+            clock.addAndGet(1);
+        });
+        ticker.start();
+        final long[] ids = snowflake.nextIds(10_000);
+        assertEquals(10_000, ids.length);
+        long last = first;
+        final Set<Long> unique = new HashSet<>();
+        for (long id : ids) {
+            assertTrue(id > last);
+            last = id;
+            unique.add(id);
+        }
+        assertEquals(ids.length, unique.size());
+        assertEquals(NOW + 2, snowflake.getTimestamp(last));
+    }
+
+    @Test
+    public void toleratesSmallClockRollback() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final Snowflake snowflake = new Snowflake(0, 0, Snowflake.DEFAULT_EPOCH, 5L, clock::get);
+        final long before = snowflake.nextId();
+        clock.set(NOW - 5);
+        final long after = snowflake.nextId();
+        assertTrue(after > before);
+        // 回拨期间沿用上次时间戳
+        assertEquals(NOW, snowflake.getTimestamp(after));
+        clock.set(NOW + 1);
+        final long recovered = snowflake.nextId();
+        assertTrue(recovered > after);
+        assertEquals(NOW + 1, snowflake.getTimestamp(recovered));
+    }
+
+    @Test
+    public void sequenceExhaustedDuringRollbackWaitsForClock() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final AtomicInteger reads = new AtomicInteger();
+        // 序列号用尽后时钟持续回拨，读取足够多次后恢复
+        final Snowflake snowflake = new Snowflake(0, 0, Snowflake.DEFAULT_EPOCH, 5L,
+                () -> reads.incrementAndGet() > 4096 + 10 ? NOW + 1 : clock.get());
+        long last = snowflake.nextId();
+        clock.set(NOW - 2);
+        for (int i = 1; i < 4096; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > last);
+            assertEquals(NOW, snowflake.getTimestamp(id));
+            last = id;
+        }
+        final long next = snowflake.nextId();
+        assertTrue(next > last);
+        assertEquals(NOW + 1, snowflake.getTimestamp(next));
+    }
+
+    @Test
+    public void rejectsLargeClockRollback() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final Snowflake snowflake = new Snowflake(0, 0, Snowflake.DEFAULT_EPOCH, 5L, clock::get);
+        snowflake.nextId();
+        clock.set(NOW - 6);
+        assertThrows(IllegalStateException.class, snowflake::nextId);
+        assertThrows(IllegalStateException.class, () -> snowflake.nextIds(2));
+        clock.set(NOW);
+        snowflake.nextId();
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_WORKER_ID + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(0, 0, System.currentTimeMillis() + 60_000L, 5L));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(0, 0, Snowflake.DEFAULT_EPOCH, -1L));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(0, 0).nextIds(-1));
+        assertEquals(0, new Snowflake(0, 0).nextIds(0).length);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
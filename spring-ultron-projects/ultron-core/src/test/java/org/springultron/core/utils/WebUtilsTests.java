@@ -0,0 +1,79 @@
+package org.springultron.core.utils;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author brucewuu
+ * @date 2026/10/18 23:30
+ */
+public class WebUtilsTests {
+
+    private static final CidrMatcher TRUSTED_PROXIES = CidrMatcher.of("10.0.0.0/8", "fd00::/8");
+
+    @Test
+    public void untrustedRemoteIgnoresHeader() {
+        assertEquals("203.0.113.7", remoteIp("203.0.113.7", "1.2.3.4"));
+        assertEquals("203.0.113.7", remoteIp("203.0.113.7", null));
+    }
+
+    @Test
+    public void trustedRemoteWithoutHeader() {
+        assertEquals("10.0.0.1", remoteIp("10.0.0.1", null));
+        assertEquals("10.0.0.1", remoteIp("10.0.0.1", ""));
+    }
+
+    @Test
+    public void walksRightToLeft() {
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", "198.51.100.1"));
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", "198.51.100.1, 10.0.0.2, 10.0.0.3"));
+        assertEquals("2001:db8::1", remoteIp("fd00::1", "2001:db8::1, fd00::2"));
+    }
+
+    @Test
+    public void spoofedLeftEntriesIgnored() {
+        // 客户端自行添加的 1.1.1.1 位于真实客户端地址左侧，不会被采用
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", "1.1.1.1, 198.51.100.1, 10.0.0.2"));
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", "10.0.0.9, 198.51.100.1"));
+    }
+
+    @Test
+    public void blankEntriesSkipped() {
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", "198.51.100.1, , 10.0.0.2"));
+        assertEquals("198.51.100.1", remoteIp("10.0.0.1", " 198.51.100.1 ,10.0.0.2,"));
+        assertEquals("10.0.0.1", remoteIp("10.0.0.1", " , "));
+    }
+
+    @Test
+    public void unknownEntryStopsWalk() {
+        // 遇到非 IP 字面量时返回最后一个可信代理
+        assertEquals("10.0.0.2", remoteIp("10.0.0.1", "198.51.100.1, unknown, 10.0.0.2"));
+        assertEquals("10.0.0.1", remoteIp("10.0.0.1", "unknown"));
+        assertEquals("10.0.0.1", remoteIp("10.0.0.1", "198.51.100.1, evil.example.com"));
+    }
+
+    @Test
+    public void allTrustedReturnsLeftmost() {
+        assertEquals("10.0.0.5", remoteIp("10.0.0.1", "10.0.0.5, 10.0.0.6"));
+    }
+
+    @Test
+    public void emptyTrustedProxiesFallsBack() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 10.0.0.2");
+        assertEquals("198.51.100.1", WebUtils.getRemoteIP(request, CidrMatcher.of()));
+        assertNull(WebUtils.getRemoteIP(null, TRUSTED_PROXIES));
+    }
+
+    private static String remoteIp(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return WebUtils.getRemoteIP(request, TRUSTED_PROXIES);
+    }
+}
@@ -63,14 +63,21 @@ public class AsyncCall {
     }
 
     public final void execute() {
+        final String traceId = TraceIdSnapshot.capture();
         call.enqueue(new Callback() {
             @Override
             public void onFailure(@NonNull Call call, @NonNull IOException e) {
-                failConsumer.accept(call.request(), e);
+                String previous = TraceIdSnapshot.restore(traceId);
+                try {
+                    failConsumer.accept(call.request(), e);
+                } finally {
+                    TraceIdSnapshot.restore(previous);
+                }
             }
 
             @Override
             public void onResponse(@NonNull Call call, @NonNull Response response) throws IOException {
+                String previous = TraceIdSnapshot.restore(traceId);
                 try (HttpResponse httpResponse = HttpResponse.of(response)) {
                     callbackConsumer.accept(httpResponse);
                     if (response.isSuccessful()) {
@@ -78,6 +85,8 @@ public class AsyncCall {
                     } else {
                         failConsumer.accept(call.request(), new IOException(response.message()));
                     }
+                } finally {
+                    TraceIdSnapshot.restore(previous);
                 }
             }
         });
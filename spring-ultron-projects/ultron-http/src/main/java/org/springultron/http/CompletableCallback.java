@@ -26,26 +26,38 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * CompletableFuture callback
+ * <p>
+ * 构造时捕获追踪ID，回调线程中完成 future 时恢复，同步执行的后续阶段(thenApply 等)可带上追踪ID
  *
  * @author brucewuu
  * @date 2021/4/23 上午10:48
  */
 public class CompletableCallback implements Callback {
     private final CompletableFuture<ResponseSpec> future;
+    private final String traceId;
 
     public CompletableCallback(CompletableFuture<ResponseSpec> future) {
         this.future = future;
+        this.traceId = TraceIdSnapshot.capture();
     }
 
     @Override
     public void onFailure(@NonNull Call call, @NonNull IOException e) {
-        future.completeExceptionally(e);
+        String previous = TraceIdSnapshot.restore(traceId);
+        try {
+            future.completeExceptionally(e);
+        } finally {
+            TraceIdSnapshot.restore(previous);
+        }
     }
 
     @Override
     public void onResponse(@NonNull Call call, @NonNull Response response) throws IOException {
+        String previous = TraceIdSnapshot.restore(traceId);
         try (HttpResponse httpResponse = HttpResponse.of(response)) {
             future.complete(httpResponse);
+        } finally {
+            TraceIdSnapshot.restore(previous);
         }
     }
 }
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import okhttp3.*;
 import okhttp3.internal.Util;
+import okio.Okio;
+import okio.Sink;
 import org.springframework.lang.Nullable;
 import org.springultron.core.exception.Exceptions;
 import org.springultron.core.jackson.Jackson;
@@ -29,8 +31,8 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 
@@ -188,8 +190,9 @@ public class HttpResponse implements ResponseSpec, Closeable {
 
     @Override
     public Path asFile(Path path) {
-        try {
-            Files.copy(responseBody.byteStream(), path);
+        // 响应体缓冲分段直接写入文件，不经过 InputStream 及中间 byte[] 复制，与 Files.copy 一致，文件已存在时抛出异常
+        try (Sink sink = Okio.sink(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            responseBody.source().readAll(sink);
             return path;
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
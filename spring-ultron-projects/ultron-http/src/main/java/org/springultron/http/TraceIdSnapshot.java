@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019-2029, Dreamlu 卢春梦 (596392912@qq.com & www.dreamlu.net).
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springultron.http;
+
+import org.slf4j.MDC;
+import org.springframework.lang.Nullable;
+
+/**
+ * 异步回调传递追踪ID：enqueue 时捕获，OkHttp Dispatcher 线程回调时恢复，回调完还原
+ * <p>
+ * key 与 ultron-logging 中 TraceIdContext.TRACE_ID 一致，不引入对 ultron-logging 的依赖
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:00
+ */
+final class TraceIdSnapshot {
+    private static final String TRACE_ID = "traceId";
+
+    private TraceIdSnapshot() {
+    }
+
+    @Nullable
+    static String capture() {
+        return MDC.get(TRACE_ID);
+    }
+
+    @Nullable
+    static String restore(@Nullable String traceId) {
+        String previous = MDC.get(TRACE_ID);
+        if (traceId == null) {
+            if (previous != null) {
+                MDC.remove(TRACE_ID);
+            }
+        } else if (!traceId.equals(previous)) {
+            MDC.put(TRACE_ID, traceId);
+        }
+        return previous;
+    }
+}
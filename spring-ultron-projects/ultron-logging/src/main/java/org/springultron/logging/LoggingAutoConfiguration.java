@@ -2,15 +2,21 @@ package org.springultron.logging;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskDecorator;
 import org.springultron.logging.appender.ILoggingAppender;
 import org.springultron.logging.listener.LogbackLoggerContextListener;
 import org.springultron.logging.listener.LoggingStartedEventListener;
 import org.springultron.logging.trace.TraceIdAutoConfiguration;
+import org.springultron.logging.trace.TraceIdReactorConfiguration;
+import org.springultron.logging.trace.TraceIdTaskDecorator;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,7 +30,7 @@ import java.util.List;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @AutoConfiguration
 @EnableConfigurationProperties(UltronLoggingProperties.class)
-@Import({TraceIdAutoConfiguration.class, LoggingLogstashConfiguration.class})
+@Import({TraceIdAutoConfiguration.class, TraceIdReactorConfiguration.class, LoggingLogstashConfiguration.class})
 class LoggingAutoConfiguration {
 
     @Bean
@@ -37,4 +43,15 @@ class LoggingAutoConfiguration {
         return new LogbackLoggerContextListener(appenderList.getIfAvailable(Collections::emptyList));
     }
 
+    /**
+     * 异步任务传递追踪ID，引入 ultron-boot 时由其 ContextTaskDecorator 负责
+     */
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    @ConditionalOnMissingClass("org.springultron.boot.task.ContextTaskDecorator")
+    @ConditionalOnProperty(name = "ultron.logging.enable-trace-id", havingValue = "true")
+    TraceIdTaskDecorator traceIdTaskDecorator() {
+        return new TraceIdTaskDecorator();
+    }
+
 }
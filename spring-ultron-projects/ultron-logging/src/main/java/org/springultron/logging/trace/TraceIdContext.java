@@ -1,13 +1,19 @@
 package org.springultron.logging.trace;
 
 import org.slf4j.MDC;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * 链路追踪context
+ * <p>
+ * 跨线程传递时只捕获/恢复 traceId 一项({@link #snapshot()}/{@link #restore(String)})，不复制整个 MDC；
+ * {@link #wrap(Runnable)} 等方法在提交线程捕获，在执行线程恢复，执行完还原执行线程原有的 traceId
  *
  * @author brucewuu
  * @date 2021/4/17 下午4:44
@@ -53,6 +59,100 @@ public class TraceIdContext {
         MDC.remove(TRACE_ID);
     }
 
+    /**
+     * 捕获当前线程的追踪ID
+     *
+     * @return 追踪ID，不存在时为 null
+     */
+    @Nullable
+    public static String snapshot() {
+        return MDC.get(TRACE_ID);
+    }
+
+    /**
+     * 恢复追踪ID，为 null 时移除
+     *
+     * @param traceId {@link #snapshot()} 捕获的追踪ID
+     * @return 恢复前的追踪ID，用于执行完后还原
+     */
+    @Nullable
+    public static String restore(@Nullable String traceId) {
+        String previous = MDC.get(TRACE_ID);
+        if (traceId == null) {
+            if (previous != null) {
+                MDC.remove(TRACE_ID);
+            }
+        } else if (!traceId.equals(previous)) {
+            MDC.put(TRACE_ID, traceId);
+        }
+        return previous;
+    }
+
+    /**
+     * 包装任务，执行时带上当前线程的追踪ID
+     *
+     * @param task 任务
+     * @return 包装后的任务，当前线程没有追踪ID时返回原任务
+     */
+    public static Runnable wrap(Runnable task) {
+        final String traceId = snapshot();
+        if (traceId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = restore(traceId);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装任务，执行时带上当前线程的追踪ID
+     *
+     * @param task 任务
+     * @param <T>  泛型
+     * @return 包装后的任务，当前线程没有追踪ID时返回原任务
+     */
+    public static <T> Callable<T> wrapCallable(Callable<T> task) {
+        final String traceId = snapshot();
+        if (traceId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = restore(traceId);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装任务，执行时带上当前线程的追踪ID，用于 CompletableFuture.supplyAsync 等
+     *
+     * @param task 任务
+     * @param <T>  泛型
+     * @return 包装后的任务，当前线程没有追踪ID时返回原任务
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        final String traceId = snapshot();
+        if (traceId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = restore(traceId);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
     /**
      * 清空所有
      */
@@ -0,0 +1,25 @@
+package org.springultron.logging.trace;
+
+import io.micrometer.context.ContextRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Hooks;
+
+/**
+ * Reactor 链路追踪：开启自动上下文传递，Mono/Flux 切换线程后由 {@link TraceIdThreadLocalAccessor} 恢复追踪ID
+ * <p>
+ * 需引入 reactor-core 及 io.micrometer:context-propagation
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:00
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({Hooks.class, ContextRegistry.class})
+@ConditionalOnProperty(name = "ultron.logging.enable-trace-id", havingValue = "true")
+public class TraceIdReactorConfiguration {
+
+    public TraceIdReactorConfiguration() {
+        Hooks.enableAutomaticContextPropagation();
+    }
+}
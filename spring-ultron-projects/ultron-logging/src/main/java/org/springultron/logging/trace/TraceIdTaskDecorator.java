@@ -0,0 +1,17 @@
+package org.springultron.logging.trace;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 异步任务传递追踪ID，只捕获/恢复 traceId，不复制整个 MDC
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:00
+ */
+public class TraceIdTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TraceIdContext.wrap(runnable);
+    }
+}
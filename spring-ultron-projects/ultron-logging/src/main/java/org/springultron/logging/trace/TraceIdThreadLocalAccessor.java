@@ -0,0 +1,36 @@
+package org.springultron.logging.trace;
+
+import io.micrometer.context.ThreadLocalAccessor;
+import org.slf4j.MDC;
+
+/**
+ * 追踪ID 与 Reactor Context 互通：开启自动上下文传递后，Reactor 算子执行时
+ * 从 Context 中的 {@link TraceIdContext#TRACE_ID} 恢复 MDC 中的追踪ID
+ * <p>
+ * 通过 META-INF/services 注册到 ContextRegistry
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:00
+ */
+public class TraceIdThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    @Override
+    public Object key() {
+        return TraceIdContext.TRACE_ID;
+    }
+
+    @Override
+    public String getValue() {
+        return MDC.get(TraceIdContext.TRACE_ID);
+    }
+
+    @Override
+    public void setValue(String value) {
+        MDC.put(TraceIdContext.TRACE_ID, value);
+    }
+
+    @Override
+    public void setValue() {
+        MDC.remove(TraceIdContext.TRACE_ID);
+    }
+}
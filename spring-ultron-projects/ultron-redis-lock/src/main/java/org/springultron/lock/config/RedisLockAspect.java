@@ -25,8 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.expression.AnnotatedElementKey;
-import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.util.Assert;
 import org.springultron.core.spel.UltronExpressionEvaluator;
 import org.springultron.lock.annotation.LockType;
@@ -47,9 +46,9 @@ import java.util.concurrent.TimeUnit;
 public class RedisLockAspect {
     private static final Logger log = LoggerFactory.getLogger(RedisLockAspect.class);
     /**
-     * spEl 表达式处理
+     * spEl 表达式处理，#arg、#arg.prop 形式的锁参数直接读取，其余表达式多次求值后编译执行
      */
-    private static final UltronExpressionEvaluator EVALUATOR = new UltronExpressionEvaluator();
+    private static final UltronExpressionEvaluator EVALUATOR = new UltronExpressionEvaluator(SpelCompilerMode.MIXED);
 
     private final RedisLockClient redisLockClient;
     private final ApplicationContext context;
@@ -101,9 +100,7 @@ public class RedisLockAspect {
         Object[] args = point.getArgs();
         Object target = point.getTarget();
         Class<?> targetClass = target.getClass();
-        EvaluationContext evaluationContext = EVALUATOR.createContext(method, args, target, targetClass, this.context);
-        AnnotatedElementKey elementKey = new AnnotatedElementKey(method, targetClass);
-        return EVALUATOR.evalAsText(lockParam, elementKey, evaluationContext);
+        return EVALUATOR.evalAsText(lockParam, method, args, target, targetClass, this.context);
     }
     
 }
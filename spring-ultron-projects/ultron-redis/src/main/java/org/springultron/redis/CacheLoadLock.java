@@ -0,0 +1,67 @@
+package org.springultron.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * {@link RefreshableRedisCache} 跨节点加载锁：SET NX PX 加锁，Lua 脚本比较 token 后删除，
+ * 加载超过锁超时时间后不会误删其他节点已获得的锁
+ * <p>
+ * 锁 key 为 {@link #KEY_PREFIX} + 缓存 key，不在缓存自身的 key 空间内，清空缓存不会删除正在持有的锁
+ *
+ * @author brucewuu
+ * @date 2026/10/18 23:00
+ */
+final class CacheLoadLock {
+    static final String KEY_PREFIX = "ultron:cache-lock:";
+    private static final byte[] UNLOCK_SCRIPT = ("if redis.call('get',KEYS[1])==ARGV[1] then "
+            + "return redis.call('del',KEYS[1]) else return 0 end").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Duration timeout;
+
+    CacheLoadLock(RedisConnectionFactory connectionFactory, Duration timeout) {
+        this.connectionFactory = connectionFactory;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 尝试加锁
+     *
+     * @param cacheKey 缓存 key
+     * @return 加锁成功返回 token，用于解锁；失败返回 null
+     */
+    @Nullable
+    byte[] tryLock(String cacheKey) {
+        byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Boolean locked = connection.stringCommands().set(lockKey(cacheKey), token,
+                    Expiration.from(timeout), RedisStringCommands.SetOption.ifAbsent());
+            return Boolean.TRUE.equals(locked) ? token : null;
+        }
+    }
+
+    /**
+     * 解锁，只删除 token 一致的锁
+     *
+     * @param cacheKey 缓存 key
+     * @param token    {@link #tryLock(String)} 返回的 token
+     */
+    void unlock(String cacheKey, byte[] token) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().eval(UNLOCK_SCRIPT, ReturnType.INTEGER, 1, lockKey(cacheKey), token);
+        }
+    }
+
+    private static byte[] lockKey(String cacheKey) {
+        return (KEY_PREFIX + cacheKey).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,176 @@
+package org.springultron.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 二级缓存：先读 Caffeine 本地缓存，未命中再读 Redis 并回填本地
+ * <p>
+ * 本地未命中的加载委托给 {@link RedisCache#get(Object, Callable)}，保留 Redis 缓存自身的防击穿策略；
+ * 写入、删除、清空均先操作 Redis，再更新本地并通过 {@link MultiLevelCacheManager} 广播，其他节点收到后删除本地缓存；
+ * 本地缓存的 key 为 Redis 缓存 key 的字符串形式，保证各节点一致
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:30
+ */
+public class MultiLevelCache extends AbstractValueAdaptingCache {
+    private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+    private final RedisCache redisCache;
+    private final Cache<String, Object> localCache;
+    private final MultiLevelCacheManager cacheManager;
+    private final ConversionService conversionService;
+
+    MultiLevelCache(RedisCache redisCache, Cache<String, Object> localCache, MultiLevelCacheManager cacheManager) {
+        super(redisCache.getCacheConfiguration().getAllowCacheNullValues());
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.cacheManager = cacheManager;
+        this.conversionService = redisCache.getCacheConfiguration().getConversionService();
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    public RedisCache getRedisCache() {
+        return redisCache;
+    }
+
+    public Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    @Nullable
+    @Override
+    protected Object lookup(@NonNull Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        value = toStoreValue(wrapper.get());
+        localCache.put(localKey, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        boolean[] loaded = new boolean[1];
+        // 交给 Redis 缓存加载，name#ttl#refresh 时由 RefreshableRedisCache 合并请求、提前刷新及加锁
+        Object value = localCache.get(localKey, k -> toStoreValue(redisCache.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        })));
+        if (loaded[0]) {
+            cacheManager.publishEvict(getName(), localKey);
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        redisCache.put(key, value);
+        String localKey = localKey(key);
+        localCache.put(localKey, toStoreValue(value));
+        cacheManager.publishEvict(getName(), localKey);
+    }
+
+    @Nullable
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        if (existing == null) {
+            localCache.put(localKey, toStoreValue(value));
+            cacheManager.publishEvict(getName(), localKey);
+        } else {
+            localCache.put(localKey, toStoreValue(existing.get()));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        redisCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        cacheManager.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishClear(getName());
+    }
+
+    /**
+     * 异步读取直接走 Redis
+     */
+    @Nullable
+    @Override
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        return redisCache.retrieve(key);
+    }
+
+    /**
+     * 异步读取直接走 Redis
+     */
+    @NonNull
+    @Override
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        return redisCache.retrieve(key, valueLoader);
+    }
+
+    /**
+     * 收到其他节点的失效通知，只删除本地缓存
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 收到其他节点的清空通知，只清空本地缓存
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String localKey(Object key) {
+        if (key instanceof String stringKey) {
+            return stringKey;
+        }
+        // 与 RedisCache 一致，没有转换器的 key 使用 toString
+        if (conversionService.canConvert(TypeDescriptor.forObject(key), STRING_TYPE)) {
+            String localKey = conversionService.convert(key, String.class);
+            if (localKey != null) {
+                return localKey;
+            }
+        }
+        return key.toString();
+    }
+}
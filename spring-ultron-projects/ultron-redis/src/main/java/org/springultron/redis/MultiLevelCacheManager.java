@@ -0,0 +1,159 @@
+package org.springultron.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springultron.redis.message.MessageDelegate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 二级缓存管理器：Caffeine 本地缓存 + Redis 缓存
+ * <p>
+ * Redis 缓存由 {@link RedisAutoCacheManager} 创建，支持 # 号分隔 cache name 和 超时 ttl，
+ * 本地缓存存活时间取配置值与 Redis ttl 中较小的一个。
+ * 本地缓存的失效通过 Redis pub/sub 广播，本类作为 {@link MessageDelegate} 接收其他节点的通知，
+ * 消息格式：节点ID(36 位 UUID) + 操作(E 删除/C 清空) + 缓存名长度 + ':' + 缓存名 + key，
+ * 字段按长度切分，缓存名及 key 可包含任意字符
+ * </p>
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:30
+ */
+public class MultiLevelCacheManager implements CacheManager, MessageDelegate<String> {
+    private static final Logger log = LoggerFactory.getLogger(MultiLevelCacheManager.class);
+    private static final int NODE_ID_LENGTH = 36;
+    private static final char EVICT = 'E';
+    private static final char CLEAR = 'C';
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final long localMaximumSize;
+    @Nullable
+    private final Duration localTimeToLive;
+    /**
+     * 节点ID，忽略自己发出的通知
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, MultiLevelCache> cacheMap = new ConcurrentHashMap<>(16);
+
+    public MultiLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate, String channel, long localMaximumSize, @Nullable Duration localTimeToLive) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+    }
+
+    @Nullable
+    @Override
+    public Cache getCache(@NonNull String name) {
+        MultiLevelCache cache = cacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (!(redisCache instanceof RedisCache)) {
+            return redisCache;
+        }
+        return cacheMap.computeIfAbsent(name, key -> createCache((RedisCache) redisCache));
+    }
+
+    @NonNull
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(cacheMap.keySet());
+    }
+
+    public RedisCacheManager getRedisCacheManager() {
+        return redisCacheManager;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    private MultiLevelCache createCache(RedisCache redisCache) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(localMaximumSize);
+        Duration ttl = determineLocalTtl(redisCache);
+        if (ttl != null) {
+            builder.expireAfterWrite(ttl);
+        }
+        return new MultiLevelCache(redisCache, builder.build(), this);
+    }
+
+    /**
+     * 本地缓存存活时间不超过 Redis 缓存 ttl，避免 Redis 过期后本地仍返回旧值
+     */
+    @Nullable
+    private Duration determineLocalTtl(RedisCache redisCache) {
+        Duration redisTtl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(Object.class, null);
+        boolean hasRedisTtl = redisTtl != null && !redisTtl.isZero() && !redisTtl.isNegative();
+        boolean hasLocalTtl = localTimeToLive != null && !localTimeToLive.isZero() && !localTimeToLive.isNegative();
+        if (hasRedisTtl && hasLocalTtl) {
+            return redisTtl.compareTo(localTimeToLive) < 0 ? redisTtl : localTimeToLive;
+        }
+        return hasRedisTtl ? redisTtl : (hasLocalTtl ? localTimeToLive : null);
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(EVICT, cacheName, localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(char operation, String cacheName, String localKey) {
+        String message = nodeId + operation + cacheName.length() + ':' + cacheName + localKey;
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void handleMessage(String message, String channel) {
+        int colon = message.indexOf(':', NODE_ID_LENGTH + 1);
+        if (colon < 0) {
+            log.warn("Ignore malformed cache invalidation message: {}", message);
+            return;
+        }
+        if (message.startsWith(nodeId)) {
+            return;
+        }
+        char operation = message.charAt(NODE_ID_LENGTH);
+        int nameLength;
+        try {
+            nameLength = Integer.parseInt(message, NODE_ID_LENGTH + 1, colon, 10);
+        } catch (NumberFormatException e) {
+            nameLength = -1;
+        }
+        if (nameLength < 0 || colon + 1 + nameLength > message.length()) {
+            log.warn("Ignore malformed cache invalidation message: {}", message);
+            return;
+        }
+        String cacheName = message.substring(colon + 1, colon + 1 + nameLength);
+        String localKey = message.substring(colon + 1 + nameLength);
+        for (MultiLevelCache cache : cacheMap.values()) {
+            if (!cacheName.equals(cache.getName())) {
+                continue;
+            }
+            if (operation == CLEAR) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(localKey);
+            }
+        }
+    }
+}
@@ -3,12 +3,15 @@ package org.springultron.redis;
 import org.reactivestreams.Publisher;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -561,11 +564,41 @@ public class ReactiveRedisClient {
     }
 
     /**
-     * 模糊匹配批量删除
+     * 模糊匹配批量删除，使用 SCAN 分批遍历，每批 UNLINK 删除，不阻塞 Redis
      *
      * @param pattern 匹配的前缀
+     * @return 删除的 key 数量
      */
     public Mono<Long> deleteByPattern(String pattern) {
-        return reactiveRedisTemplate.delete(reactiveRedisTemplate.keys(pattern));
+        return deleteByPattern(pattern, RedisClient.DEFAULT_SCAN_COUNT);
+    }
+
+    /**
+     * 模糊匹配批量删除，使用 SCAN 分批遍历，每批 UNLINK 删除(后台线程释放内存)，不阻塞 Redis
+     *
+     * @param pattern   匹配的前缀
+     * @param batchSize 每批 key 数量，同时作为 SCAN 的 COUNT
+     * @return 删除的 key 数量
+     */
+    public Mono<Long> deleteByPattern(String pattern, int batchSize) {
+        return scan(pattern, batchSize)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 模糊匹配遍历 key，使用 SCAN 增量遍历代替 KEYS，按批发出
+     * <p>
+     * SCAN 的语义：遍历期间新增或删除的 key 可能被遗漏，同一 key 可能返回多次
+     * </p>
+     *
+     * @param pattern   匹配的前缀
+     * @param batchSize 每批 key 数量，同时作为 SCAN 的 COUNT
+     * @return 每批 key
+     */
+    public Flux<List<String>> scan(String pattern, int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        return reactiveRedisTemplate.scan(options).buffer(batchSize);
     }
 }
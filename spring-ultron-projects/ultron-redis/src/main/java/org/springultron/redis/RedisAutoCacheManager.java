@@ -21,6 +21,7 @@ import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springultron.core.utils.StringUtils;
@@ -28,25 +29,48 @@ import org.springultron.core.utils.StringUtils;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Redis Cache扩展扩展cache name
  * 支持 # 号分隔 cache name 和 超时 ttl(默认单位秒)。
+ * <p>
+ * 追加 #refresh 时使用 {@link RefreshableRedisCache} 防止缓存击穿，并对 ttl 增加最多 10% 的随机抖动，
+ * 再追加 #lock 时跨节点加锁加载，例如：user#300#refresh、user#300#refresh#lock
+ * </p>
  *
  * @author L.cm
  * @author brucewuu
  * @date 2019/11/10 18:05
  */
 public class RedisAutoCacheManager extends RedisCacheManager {
+    private static final String REFRESH = "refresh";
+    private static final String LOCK = "lock";
+    /**
+     * #lock 加载锁的超时时间
+     */
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(10);
+    @Nullable
+    private final RedisConnectionFactory connectionFactory;
 
     public RedisAutoCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration, boolean allowRuntimeCacheCreation, Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+        this(cacheWriter, defaultCacheConfiguration, allowRuntimeCacheCreation, initialCacheConfigurations, null);
+    }
+
+    /**
+     * @param connectionFactory 用于 #lock 的加载锁，为 null 时不支持 #lock
+     */
+    public RedisAutoCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration, boolean allowRuntimeCacheCreation, Map<String, RedisCacheConfiguration> initialCacheConfigurations, @Nullable RedisConnectionFactory connectionFactory) {
         super(cacheWriter, defaultCacheConfiguration, allowRuntimeCacheCreation, initialCacheConfigurations);
+        this.connectionFactory = connectionFactory;
     }
 
     @NonNull
     @Override
     protected RedisCache createRedisCache(@NonNull String name, @Nullable RedisCacheConfiguration cacheConfig) {
         String cacheName = name;
+        boolean refresh = false;
+        boolean lock = false;
         if (StringUtils.isNotEmpty(name) && name.contains("#")) {
             String[] array = name.split("#");
             if (array.length > 1) {
@@ -57,7 +81,39 @@ public class RedisAutoCacheManager extends RedisCacheManager {
                     cacheConfig = cacheConfig.entryTtl(ttl);
                 }
             }
+            for (int i = 2; i < array.length; i++) {
+                String option = array[i].trim();
+                if (REFRESH.equalsIgnoreCase(option)) {
+                    refresh = true;
+                } else if (LOCK.equalsIgnoreCase(option)) {
+                    lock = true;
+                }
+            }
+        }
+        if (!refresh) {
+            return super.createRedisCache(cacheName, cacheConfig);
         }
-        return super.createRedisCache(cacheName, cacheConfig);
+        RedisCacheConfiguration config = cacheConfig != null ? cacheConfig : getDefaultCacheConfiguration();
+        Duration ttl = config.getTtlFunction().getTimeToLive(Object.class, null);
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            config = config.entryTtl(jitter(ttl));
+        }
+        CacheLoadLock loadLock = null;
+        if (lock) {
+            if (connectionFactory == null) {
+                throw new IllegalStateException("Cache option #lock requires a RedisConnectionFactory: " + name);
+            }
+            loadLock = new CacheLoadLock(connectionFactory, LOCK_TIMEOUT);
+        }
+        return new RefreshableRedisCache(cacheName, getCacheWriter(), config, ttl, loadLock);
+    }
+
+    /**
+     * ttl 随机增加 0~10%，避免同时写入的 key 同时过期
+     */
+    private static RedisCacheWriter.TtlFunction jitter(Duration ttl) {
+        final long ttlMillis = ttl.toMillis();
+        final long bound = ttlMillis / 10 + 1;
+        return (key, value) -> Duration.ofMillis(ttlMillis + ThreadLocalRandom.current().nextLong(bound));
     }
 }
\ No newline at end of file
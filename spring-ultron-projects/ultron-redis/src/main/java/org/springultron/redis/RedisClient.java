@@ -1,13 +1,21 @@
 package org.springultron.redis;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.TimeoutUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Redis操作客户端
@@ -16,6 +24,15 @@ import java.util.concurrent.TimeUnit;
  * @date 2019-05-31 14:26
  */
 public class RedisClient {
+    /**
+     * SCAN 默认每批 key 数量
+     */
+    public static final int DEFAULT_SCAN_COUNT = 1000;
+    /**
+     * 批量操作默认每个 pipeline 的命令数
+     */
+    public static final int DEFAULT_PIPELINE_SIZE = 500;
+
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisTemplate<String, Object> redisTemplate;
 
@@ -557,15 +574,245 @@ public class RedisClient {
     }
 
     /**
-     * 模糊匹配批量删除
+     * 批量读取缓存
+     *
+     * @param keys 缓存 key集合
+     * @param <V>  缓存泛型
+     * @return 缓存值，与 keys 顺序一致，不存在的为 null
+     */
+    public <V> List<V> mget(Collection<String> keys) {
+        return mget(keys, DEFAULT_PIPELINE_SIZE);
+    }
+
+    /**
+     * 批量读取缓存，按 batchSize 拆分为多个 MGET，每批一次网络往返
+     *
+     * @param keys      缓存 key集合
+     * @param batchSize 每批 key 数量
+     * @param <V>       缓存泛型
+     * @return 缓存值，与 keys 顺序一致，不存在的为 null
+     */
+    @SuppressWarnings("unchecked")
+    public <V> List<V> mget(Collection<String> keys, int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        if (CollectionUtils.isEmpty(keys)) {
+            return new ArrayList<>(0);
+        }
+        List<V> results = new ArrayList<>(keys.size());
+        for (List<String> chunk : partition(keys, batchSize)) {
+            List<Object> values = redisTemplate.opsForValue().multiGet(chunk);
+            if (values == null) {
+                values = Collections.nCopies(chunk.size(), null);
+            }
+            for (Object value : values) {
+                results.add((V) value);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 批量存入缓存并设置过期时间
+     *
+     * @param map     缓存键值
+     * @param timeout 过期时长，为 null 时永不过期
+     */
+    public void mset(Map<String, ?> map, Duration timeout) {
+        mset(map, timeout, DEFAULT_PIPELINE_SIZE);
+    }
+
+    /**
+     * 批量存入缓存并设置过期时间，MSET 不支持过期时间，这里使用 pipeline 批量 SET
+     *
+     * @param map          缓存键值
+     * @param timeout      过期时长，为 null 时永不过期
+     * @param pipelineSize 每个 pipeline 的命令数
+     */
+    public void mset(Map<String, ?> map, Duration timeout, int pipelineSize) {
+        if (CollectionUtils.isEmpty(map)) {
+            return;
+        }
+        executePipelined(redisTemplate, map.entrySet(), pipelineSize, (operations, entry) -> {
+            if (timeout == null) {
+                operations.opsForValue().set(entry.getKey(), entry.getValue());
+            } else {
+                operations.opsForValue().set(entry.getKey(), entry.getValue(), timeout);
+            }
+        });
+    }
+
+    /**
+     * 批量读取 Hash 数据结构
+     *
+     * @param keys 缓存 key集合
+     * @return Hash数据结构，与 keys 顺序一致，不存在的为空 Map
+     */
+    public List<Map<Object, Object>> hgetAll(Collection<String> keys) {
+        return hgetAll(keys, DEFAULT_PIPELINE_SIZE);
+    }
+
+    /**
+     * 批量读取 Hash 数据结构，使用 pipeline 批量 HGETALL
+     *
+     * @param keys         缓存 key集合
+     * @param pipelineSize 每个 pipeline 的命令数
+     * @return Hash数据结构，与 keys 顺序一致，不存在的为空 Map
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<Object, Object>> hgetAll(Collection<String> keys, int pipelineSize) {
+        List<Object> results = executePipelined(redisTemplate, keys, pipelineSize, (operations, key) -> operations.opsForHash().entries(key));
+        return (List<Map<Object, Object>>) (List<?>) results;
+    }
+
+    /**
+     * 批量设置缓存过期时间
+     *
+     * @param keys    缓存 key集合
+     * @param timeout 过期时长
+     * @return 是否设置成功，与 keys 顺序一致
+     */
+    public List<Boolean> expireAll(Collection<String> keys, Duration timeout) {
+        return expireAll(keys, timeout, DEFAULT_PIPELINE_SIZE);
+    }
+
+    /**
+     * 批量设置缓存过期时间，使用 pipeline 批量 EXPIRE
+     *
+     * @param keys         缓存 key集合
+     * @param timeout      过期时长
+     * @param pipelineSize 每个 pipeline 的命令数
+     * @return 是否设置成功，与 keys 顺序一致
+     */
+    @SuppressWarnings("unchecked")
+    public List<Boolean> expireAll(Collection<String> keys, Duration timeout, int pipelineSize) {
+        Assert.notNull(timeout, "timeout must not be null");
+        List<Object> results = executePipelined(redisTemplate, keys, pipelineSize, (operations, key) -> operations.expire(key, timeout));
+        return (List<Boolean>) (List<?>) results;
+    }
+
+    /**
+     * 批量自增
+     *
+     * @param keys  缓存 key集合
+     * @param delta 增量
+     * @return 自增后的值，与 keys 顺序一致
+     */
+    public List<Long> incrementAll(Collection<String> keys, long delta) {
+        return incrementAll(keys, delta, DEFAULT_PIPELINE_SIZE);
+    }
+
+    /**
+     * 批量自增，使用 pipeline 批量 INCRBY
+     *
+     * @param keys         缓存 key集合
+     * @param delta        增量
+     * @param pipelineSize 每个 pipeline 的命令数
+     * @return 自增后的值，与 keys 顺序一致
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> incrementAll(Collection<String> keys, long delta, int pipelineSize) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("递增因子必须大于0");
+        }
+        List<Object> results = executePipelined(stringRedisTemplate, keys, pipelineSize, (operations, key) -> operations.opsForValue().increment(key, delta));
+        return (List<Long>) (List<?>) results;
+    }
+
+    /**
+     * 模糊匹配批量删除，使用 SCAN 分批遍历，每批 UNLINK 删除，不阻塞 Redis
      *
      * @param pattern 匹配的前缀
+     * @return 遍历删除完成返回 true
      */
     public boolean deleteByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (CollectionUtils.isEmpty(keys)) {
-            return true;
+        deleteByPattern(pattern, DEFAULT_SCAN_COUNT);
+        return true;
+    }
+
+    /**
+     * 模糊匹配批量删除，使用 SCAN 分批遍历，每批 UNLINK 删除(后台线程释放内存)，不阻塞 Redis
+     *
+     * @param pattern   匹配的前缀
+     * @param batchSize 每批 key 数量，同时作为 SCAN 的 COUNT
+     * @return 删除的 key 数量
+     */
+    public long deleteByPattern(String pattern, int batchSize) {
+        final long[] deleted = new long[1];
+        scan(pattern, batchSize, keys -> {
+            Long count = redisTemplate.unlink(keys);
+            if (count != null) {
+                deleted[0] += count;
+            }
+        });
+        return deleted[0];
+    }
+
+    /**
+     * 模糊匹配遍历 key，使用 SCAN 增量遍历代替 KEYS，每凑满一批回调一次
+     * <p>
+     * SCAN 的语义：遍历期间新增或删除的 key 可能被遗漏，同一 key 可能返回多次
+     * </p>
+     *
+     * @param pattern   匹配的前缀
+     * @param batchSize 每批 key 数量，同时作为 SCAN 的 COUNT
+     * @param consumer  每批 key 的回调
+     */
+    public void scan(String pattern, int batchSize, Consumer<List<String>> consumer) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+        }
+    }
+
+    /**
+     * 按 pipelineSize 分批执行 pipeline，每批一次网络往返，结果按提交顺序返回
+     */
+    private static <T> List<Object> executePipelined(RedisTemplate<String, ?> template, Collection<T> items, int pipelineSize, BiConsumer<RedisOperations<String, Object>, T> command) {
+        Assert.isTrue(pipelineSize > 0, "pipelineSize must be greater than 0");
+        if (CollectionUtils.isEmpty(items)) {
+            return new ArrayList<>(0);
+        }
+        List<Object> results = new ArrayList<>(items.size());
+        for (List<T> chunk : partition(items, pipelineSize)) {
+            results.addAll(template.executePipelined(new SessionCallback<Object>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    for (T item : chunk) {
+                        command.accept(redisOperations, item);
+                    }
+                    return null;
+                }
+            }));
+        }
+        return results;
+    }
+
+    private static <T> List<List<T>> partition(Collection<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        List<T> chunk = new ArrayList<>(Math.min(size, items.size()));
+        for (T item : items) {
+            chunk.add(item);
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(Math.min(size, items.size()));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
         }
-        return Optional.ofNullable(redisTemplate.delete(keys)).map(l -> l > 0).orElse(Boolean.FALSE);
+        return chunks;
     }
-}
\ No newline at end of file
+}
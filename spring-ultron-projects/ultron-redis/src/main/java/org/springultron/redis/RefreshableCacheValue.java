@@ -0,0 +1,58 @@
+package org.springultron.redis;
+
+import java.io.Serializable;
+
+/**
+ * {@link RefreshableRedisCache} 存储的缓存值，附带提前刷新需要的加载耗时和过期时间
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:30
+ */
+public class RefreshableCacheValue implements Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * 缓存值
+     */
+    private Object value;
+    /**
+     * 加载耗时(毫秒)，未知时为 0
+     */
+    private long delta;
+    /**
+     * 过期时间戳(毫秒)，不过期时为 0
+     */
+    private long expireAt;
+
+    public RefreshableCacheValue() {
+    }
+
+    public RefreshableCacheValue(Object value, long delta, long expireAt) {
+        this.value = value;
+        this.delta = delta;
+        this.expireAt = expireAt;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public void setDelta(long delta) {
+        this.delta = delta;
+    }
+
+    public long getExpireAt() {
+        return expireAt;
+    }
+
+    public void setExpireAt(long expireAt) {
+        this.expireAt = expireAt;
+    }
+}
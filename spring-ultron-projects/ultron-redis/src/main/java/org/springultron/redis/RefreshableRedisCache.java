@@ -0,0 +1,181 @@
+package org.springultron.redis;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 防缓存击穿的 Redis Cache，cache name 为 name#ttl#refresh 时启用，@Cacheable(sync = true) 时生效：
+ * <p>
+ * 1、同一 key 在本 JVM 内只有一个请求加载，其他请求等待其结果(single-flight)
+ * 2、提前刷新(XFetch)：缓存值记录加载耗时，临近过期时按概率提前由一个请求刷新，刷新期间其他请求返回旧值
+ * 3、name#ttl#refresh#lock 时额外使用 Redis 分布式锁({@link CacheLoadLock})，跨节点只有一个请求加载，其他节点短暂等待后读取缓存
+ * </p>
+ * ttl 的随机抖动(最多 +10%)由 {@link RedisAutoCacheManager} 配置，避免同时写入的 key 同时过期
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:30
+ */
+public class RefreshableRedisCache extends RedisCache {
+    /**
+     * XFetch beta，越大越倾向提前刷新
+     */
+    private static final double BETA = 1.0D;
+    private static final long LOCK_WAIT_MILLIS = 2000L;
+    private static final long LOCK_POLL_MILLIS = 50L;
+
+    /**
+     * 基础 ttl(不含抖动)，为 0 表示不过期
+     */
+    private final long ttlMillis;
+    @Nullable
+    private final CacheLoadLock loadLock;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    protected RefreshableRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration, @Nullable Duration ttl, @Nullable CacheLoadLock loadLock) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.ttlMillis = ttl == null || ttl.isNegative() ? 0L : ttl.toMillis();
+        this.loadLock = loadLock;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null && !shouldRefresh(storeValue)) {
+            return (T) fromStoreValue(storeValue);
+        }
+        return (T) fromStoreValue(load(key, valueLoader, storeValue));
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        super.put(key, wrap(value, 0L));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        return super.putIfAbsent(key, wrap(value, 0L));
+    }
+
+    @Override
+    protected Object fromStoreValue(@Nullable Object storeValue) {
+        if (storeValue instanceof RefreshableCacheValue refreshableValue) {
+            return refreshableValue.getValue();
+        }
+        return super.fromStoreValue(storeValue);
+    }
+
+    /**
+     * XFetch：now - delta * beta * ln(rand) >= expireAt 时提前刷新
+     */
+    private boolean shouldRefresh(Object storeValue) {
+        if (!(storeValue instanceof RefreshableCacheValue refreshableValue)) {
+            return false;
+        }
+        long delta = refreshableValue.getDelta();
+        long expireAt = refreshableValue.getExpireAt();
+        if (delta <= 0 || expireAt <= 0) {
+            return false;
+        }
+        double random = 1.0D - ThreadLocalRandom.current().nextDouble();
+        return System.currentTimeMillis() - delta * BETA * Math.log(random) >= expireAt;
+    }
+
+    /**
+     * 加载缓存值，同一 key 同时只有一个请求加载
+     *
+     * @param staleValue 提前刷新时的旧值，缓存未命中时为 null
+     * @return 缓存存储值
+     */
+    private Object load(Object key, Callable<?> valueLoader, @Nullable Object staleValue) {
+        String cacheKey = createCacheKey(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            // 已有请求在加载，提前刷新时直接返回旧值
+            return staleValue != null ? staleValue : join(key, valueLoader, existing);
+        }
+        try {
+            Object storeValue = loadLock != null ? loadWithLock(loadLock, key, cacheKey, valueLoader, staleValue) : loadAndPut(key, valueLoader);
+            future.complete(storeValue);
+            return storeValue;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    private Object loadWithLock(CacheLoadLock lock, Object key, String cacheKey, Callable<?> valueLoader, @Nullable Object staleValue) {
+        byte[] token = lock.tryLock(cacheKey);
+        if (token != null) {
+            try {
+                return loadAndPut(key, valueLoader);
+            } finally {
+                lock.unlock(cacheKey, token);
+            }
+        }
+        // 其他节点在加载
+        if (staleValue != null) {
+            return staleValue;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOCK_WAIT_MILLIS);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(LOCK_POLL_MILLIS));
+            Object storeValue = lookup(key);
+            if (storeValue != null) {
+                return storeValue;
+            }
+        }
+        // 等待超时，自行加载
+        return loadAndPut(key, valueLoader);
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        Object wrapped = wrap(value, System.currentTimeMillis() - start);
+        super.put(key, wrapped);
+        return wrapped == null ? toStoreValue(null) : wrapped;
+    }
+
+    private Object join(Object key, Callable<?> valueLoader, CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    @Nullable
+    private Object wrap(@Nullable Object value, long delta) {
+        if (value == null) {
+            return null;
+        }
+        long expireAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0L;
+        return new RefreshableCacheValue(value, delta, expireAt);
+    }
+}
@@ -0,0 +1,64 @@
+package org.springultron.redis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 二级缓存(Caffeine 本地缓存 + Redis)配置
+ *
+ * @author brucewuu
+ * @date 2026/10/18 21:30
+ */
+@ConfigurationProperties(MultiLevelCacheProperties.PREFIX)
+public class MultiLevelCacheProperties {
+    public static final String PREFIX = "ultron.cache.multi-level";
+    /**
+     * 是否开启二级缓存
+     */
+    private boolean enabled = false;
+    /**
+     * 本地缓存失效通知的 Redis pub/sub 频道
+     */
+    private String channel = "ultron:cache:invalidate";
+    /**
+     * 每个缓存空间本地缓存的最大条数
+     */
+    private long localMaximumSize = 10_000;
+    /**
+     * 本地缓存的最长存活时间，实际取该值与 Redis 缓存 ttl 中较小的一个
+     */
+    private Duration localTimeToLive = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public long getLocalMaximumSize() {
+        return localMaximumSize;
+    }
+
+    public void setLocalMaximumSize(long localMaximumSize) {
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    public Duration getLocalTimeToLive() {
+        return localTimeToLive;
+    }
+
+    public void setLocalTimeToLive(Duration localTimeToLive) {
+        this.localTimeToLive = localTimeToLive;
+    }
+}
@@ -1,5 +1,6 @@
 package org.springultron.redis.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
@@ -7,21 +8,31 @@ import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizers;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.interceptor.CacheAspectSupport;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.lang.Nullable;
+import org.springultron.redis.MultiLevelCacheManager;
 import org.springultron.redis.RedisAutoCacheManager;
+import org.springultron.redis.RedisClient;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -38,6 +49,9 @@ import java.util.Map;
  * <p>
  * 需手动开启@EnableCaching注解
  * </p>
+ * <p>
+ * ultron.cache.multi-level.enabled=true 且引入 caffeine 时使用二级缓存 {@link MultiLevelCacheManager}
+ * </p>
  * {@link CacheAutoConfiguration}
  *
  * @author brucewuu
@@ -45,7 +59,7 @@ import java.util.Map;
  */
 @AutoConfiguration(before = {CacheAutoConfiguration.class}, after = {RedisAutoConfiguration.class})
 @ConditionalOnBean({CacheAspectSupport.class})
-@EnableConfigurationProperties({CacheProperties.class})
+@EnableConfigurationProperties({CacheProperties.class, MultiLevelCacheProperties.class})
 class RedisCacheAutoConfiguration {
 
     @Bean
@@ -60,9 +74,48 @@ class RedisCacheAutoConfiguration {
      */
     @Primary
     @Bean
+    @ConditionalOnProperty(prefix = MultiLevelCacheProperties.PREFIX, name = "enabled", havingValue = "false", matchIfMissing = true)
     RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties, CacheManagerCustomizers cacheManagerCustomizers, ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration, ObjectProvider<RedisSerializer<Object>> redisSerializer) {
-        RedisCacheWriter redisCacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory);
-        RedisCacheConfiguration cacheConfiguration = this.determineConfiguration(cacheProperties, redisCacheConfiguration, redisSerializer);
+        return createRedisCacheManager(redisConnectionFactory, cacheProperties, cacheManagerCustomizers, redisCacheConfiguration, redisSerializer);
+    }
+
+    /**
+     * 二级缓存：Caffeine 本地缓存 + Redis 缓存，本地缓存通过 Redis pub/sub 失效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Caffeine.class)
+    @ConditionalOnProperty(prefix = MultiLevelCacheProperties.PREFIX, name = "enabled", havingValue = "true")
+    static class MultiLevelCacheConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            return container;
+        }
+
+        @Primary
+        @Bean
+        MultiLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties, CacheManagerCustomizers cacheManagerCustomizers, ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration, ObjectProvider<RedisSerializer<Object>> redisSerializer,
+                                            MultiLevelCacheProperties properties, StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer listenerContainer) {
+            RedisCacheManager redisCacheManager = createRedisCacheManager(redisConnectionFactory, cacheProperties, cacheManagerCustomizers, redisCacheConfiguration, redisSerializer);
+            // 非容器管理的 bean，手动初始化
+            redisCacheManager.afterPropertiesSet();
+            MultiLevelCacheManager cacheManager = new MultiLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                    properties.getChannel(), properties.getLocalMaximumSize(), properties.getLocalTimeToLive());
+            MessageListenerAdapter listenerAdapter = new MessageListenerAdapter(cacheManager);
+            listenerAdapter.setSerializer(RedisSerializer.string());
+            listenerAdapter.afterPropertiesSet();
+            listenerContainer.addMessageListener(listenerAdapter, new ChannelTopic(properties.getChannel()));
+            return cacheManager;
+        }
+    }
+
+    private static RedisCacheManager createRedisCacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties, CacheManagerCustomizers cacheManagerCustomizers, ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration, ObjectProvider<RedisSerializer<Object>> redisSerializer) {
+        // 清空缓存时使用 SCAN 分批删除，代替默认的 KEYS
+        RedisCacheWriter redisCacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(RedisClient.DEFAULT_SCAN_COUNT));
+        RedisCacheConfiguration cacheConfiguration = determineConfiguration(cacheProperties, redisCacheConfiguration, redisSerializer);
         List<String> cacheNames = cacheProperties.getCacheNames();
         final Map<String, RedisCacheConfiguration> initialCaches = new LinkedHashMap<>(cacheNames.size());
         if (!cacheNames.isEmpty()) {
@@ -77,16 +130,16 @@ class RedisCacheAutoConfiguration {
             redisCacheWriter = redisCacheWriter.withStatisticsCollector(statisticsCollector);
         }
 
-        RedisAutoCacheManager redisCacheManager = new RedisAutoCacheManager(redisCacheWriter, cacheConfiguration, true, initialCaches);
+        RedisAutoCacheManager redisCacheManager = new RedisAutoCacheManager(redisCacheWriter, cacheConfiguration, true, initialCaches, redisConnectionFactory);
         redisCacheManager.setTransactionAware(false);
         return cacheManagerCustomizers.customize(redisCacheManager);
     }
 
-    private RedisCacheConfiguration determineConfiguration(CacheProperties cacheProperties, ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration, ObjectProvider<RedisSerializer<Object>> redisSerializer) {
-        return redisCacheConfiguration.getIfAvailable(() -> this.createConfiguration(cacheProperties, redisSerializer.getIfAvailable()));
+    private static RedisCacheConfiguration determineConfiguration(CacheProperties cacheProperties, ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration, ObjectProvider<RedisSerializer<Object>> redisSerializer) {
+        return redisCacheConfiguration.getIfAvailable(() -> createConfiguration(cacheProperties, redisSerializer.getIfAvailable()));
     }
 
-    private RedisCacheConfiguration createConfiguration(CacheProperties cacheProperties, @Nullable RedisSerializer<Object> redisSerializer) {
+    private static RedisCacheConfiguration createConfiguration(CacheProperties cacheProperties, @Nullable RedisSerializer<Object> redisSerializer) {
         CacheProperties.Redis redisProperties = cacheProperties.getRedis();
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
 
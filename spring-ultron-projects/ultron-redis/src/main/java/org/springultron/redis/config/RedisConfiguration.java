@@ -4,24 +4,35 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.ClassUtils;
 import org.springultron.core.jackson.UltronJavaTimeModule;
+import org.springultron.core.exception.Exceptions;
+import org.springultron.redis.serializer.CompactTypeResolverBuilder;
+import org.springultron.redis.serializer.CompressionRedisSerializer;
+import org.springultron.redis.serializer.JacksonBinaryRedisSerializer;
+import org.springultron.redis.serializer.RedisCompression;
+import org.springultron.redis.serializer.RedisSerializerType;
 
 /**
  * Redis配置
  * <p>
  * 序列化策略：
  * 默认使用Jackson序列化Redis value，当没有依赖Jackson时使用jdk序列化
+ * ultron.redis.serializer.type=smile/cbor 时使用二进制格式及紧凑类型标识，
+ * ultron.redis.serializer.compression=deflate 时超过阈值的 value 压缩存储
  * 用户可自定义注入redisSerializer 或 redisTemplate Bean来实现自定义配置
  * </p>
  *
@@ -29,7 +40,10 @@ import org.springultron.core.jackson.UltronJavaTimeModule;
  * @date 2019-05-31 14:26
  */
 @AutoConfiguration(before = {RedisAutoConfiguration.class})
+@EnableConfigurationProperties(UltronRedisProperties.class)
 public class RedisConfiguration {
+    private static final String SMILE_FACTORY = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String CBOR_FACTORY = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
 
     /**
      * 自定义Redis value序列化方式
@@ -39,18 +53,51 @@ public class RedisConfiguration {
     @Bean
     @ConditionalOnClass({ObjectMapper.class})
     @ConditionalOnMissingBean(name = {"redisSerializer"})
-    public RedisSerializer<Object> redisSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
+    public RedisSerializer<Object> redisSerializer(UltronRedisProperties properties) {
+        UltronRedisProperties.Serializer serializerProperties = properties.getSerializer();
+        RedisSerializer<Object> serializer;
+        if (serializerProperties.getType() == RedisSerializerType.SMILE) {
+            serializer = binarySerializer(SMILE_FACTORY, serializerProperties);
+        } else if (serializerProperties.getType() == RedisSerializerType.CBOR) {
+            serializer = binarySerializer(CBOR_FACTORY, serializerProperties);
+        } else {
+            ObjectMapper objectMapper = createObjectMapper(null);
+            // 必须设置，否则无法将JSON转化为对象，会转化成Map类型
+            objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+            serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        }
+        if (serializerProperties.getCompression() == RedisCompression.DEFLATE) {
+            serializer = new CompressionRedisSerializer(serializer, (int) serializerProperties.getCompressionThreshold().toBytes());
+        }
+        return serializer;
+    }
+
+    private static RedisSerializer<Object> binarySerializer(String factoryClassName, UltronRedisProperties.Serializer serializerProperties) {
+        JsonFactory jsonFactory;
+        try {
+            jsonFactory = (JsonFactory) ClassUtils.forName(factoryClassName, RedisConfiguration.class.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Redis serializer " + serializerProperties.getType() + " requires " + factoryClassName + " on the classpath", e);
+        } catch (ReflectiveOperationException e) {
+            throw Exceptions.unchecked(e);
+        }
+        ObjectMapper objectMapper = createObjectMapper(jsonFactory);
+        // 类型标识使用别名代替全限定类名
+        objectMapper.setDefaultTyping(new CompactTypeResolverBuilder(objectMapper.getPolymorphicTypeValidator(), serializerProperties.getTypeAliases()));
+        return new JacksonBinaryRedisSerializer(objectMapper);
+    }
+
+    private static ObjectMapper createObjectMapper(JsonFactory jsonFactory) {
+        ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
         // 指定要序列化的域，field,get和set,以及修饰符范围，ANY是都有包括private和public
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        // 必须设置，否则无法将JSON转化为对象，会转化成Map类型
-        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
         // 不反序列化为null的字段
         objectMapper.setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
         objectMapper.findAndRegisterModules();
         // 配置java8日期序列化
         objectMapper.registerModule(new UltronJavaTimeModule());
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+        return objectMapper;
     }
 
     /**
@@ -0,0 +1,79 @@
+package org.springultron.redis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springultron.redis.serializer.RedisCompression;
+import org.springultron.redis.serializer.RedisSerializerType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis 扩展配置
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+@ConfigurationProperties(UltronRedisProperties.PREFIX)
+public class UltronRedisProperties {
+    public static final String PREFIX = "ultron.redis";
+    /**
+     * value 序列化配置
+     */
+    private final Serializer serializer = new Serializer();
+
+    public Serializer getSerializer() {
+        return serializer;
+    }
+
+    public static class Serializer {
+        /**
+         * 序列化方式，默认 JSON
+         */
+        private RedisSerializerType type = RedisSerializerType.JSON;
+        /**
+         * 类型别名(SMILE、CBOR 有效)，别名 -> 类型，代替全限定类名写入类型标识，所有节点须保持一致
+         */
+        private Map<String, Class<?>> typeAliases = new LinkedHashMap<>();
+        /**
+         * 压缩方式，默认不压缩
+         */
+        private RedisCompression compression = RedisCompression.NONE;
+        /**
+         * 压缩阈值，序列化结果不小于该值时压缩
+         */
+        private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+
+        public RedisSerializerType getType() {
+            return type;
+        }
+
+        public void setType(RedisSerializerType type) {
+            this.type = type;
+        }
+
+        public Map<String, Class<?>> getTypeAliases() {
+            return typeAliases;
+        }
+
+        public void setTypeAliases(Map<String, Class<?>> typeAliases) {
+            this.typeAliases = typeAliases;
+        }
+
+        public RedisCompression getCompression() {
+            return compression;
+        }
+
+        public void setCompression(RedisCompression compression) {
+            this.compression = compression;
+        }
+
+        public DataSize getCompressionThreshold() {
+            return compressionThreshold;
+        }
+
+        public void setCompressionThreshold(DataSize compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+        }
+    }
+}
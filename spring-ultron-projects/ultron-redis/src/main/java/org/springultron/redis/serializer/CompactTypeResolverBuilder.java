@@ -0,0 +1,133 @@
+package org.springultron.redis.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 紧凑类型标识：与 activateDefaultTyping(NON_FINAL) 的类型判断一致，
+ * 但注册过别名的类型写入别名而非全限定类名，未注册的类型仍使用全限定类名
+ * <p>
+ * 别名需在所有节点保持一致，修改别名会导致已缓存的数据无法反序列化；
+ * 常用的 JDK 类型内置了别名({@link #DEFAULT_ALIASES})，自定义别名不能与之重复
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+public class CompactTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+    private static final long serialVersionUID = 1L;
+    /**
+     * 类型标识属性名
+     */
+    public static final String TYPE_PROPERTY = "@t";
+    /**
+     * 内置别名
+     */
+    public static final Map<String, Class<?>> DEFAULT_ALIASES = Map.ofEntries(
+            Map.entry("AL", ArrayList.class),
+            Map.entry("LL", LinkedList.class),
+            Map.entry("HM", HashMap.class),
+            Map.entry("LHM", LinkedHashMap.class),
+            Map.entry("TM", TreeMap.class),
+            Map.entry("HS", HashSet.class),
+            Map.entry("LHS", LinkedHashSet.class),
+            Map.entry("TS", TreeSet.class),
+            Map.entry("J", Long.class),
+            Map.entry("BD", BigDecimal.class),
+            Map.entry("D", Date.class),
+            Map.entry("LDT", LocalDateTime.class),
+            Map.entry("LD", LocalDate.class),
+            Map.entry("LT", LocalTime.class)
+    );
+
+    private final Map<Class<?>, String> classToAlias;
+    private final Map<String, Class<?>> aliasToClass;
+
+    public CompactTypeResolverBuilder(PolymorphicTypeValidator subtypeValidator, Map<String, Class<?>> aliases) {
+        super(ObjectMapper.DefaultTyping.NON_FINAL, subtypeValidator);
+        this.aliasToClass = new HashMap<>(DEFAULT_ALIASES.size() + aliases.size());
+        this.classToAlias = new HashMap<>(DEFAULT_ALIASES.size() + aliases.size());
+        DEFAULT_ALIASES.forEach(this::register);
+        aliases.forEach(this::register);
+        init(JsonTypeInfo.Id.CLASS, null);
+        inclusion(JsonTypeInfo.As.PROPERTY);
+        typeProperty(TYPE_PROPERTY);
+    }
+
+    private void register(String alias, Class<?> type) {
+        if (aliasToClass.putIfAbsent(alias, type) != null) {
+            throw new IllegalArgumentException("Duplicate type alias: " + alias);
+        }
+        if (classToAlias.putIfAbsent(type, alias) != null) {
+            throw new IllegalArgumentException("Duplicate type alias for " + type.getName());
+        }
+    }
+
+    private CompactTypeResolverBuilder(CompactTypeResolverBuilder base, Class<?> defaultImpl) {
+        super(base, defaultImpl);
+        this.aliasToClass = base.aliasToClass;
+        this.classToAlias = base.classToAlias;
+    }
+
+    @Override
+    public CompactTypeResolverBuilder withDefaultImpl(Class<?> defaultImpl) {
+        if (_defaultImpl == defaultImpl) {
+            return this;
+        }
+        return new CompactTypeResolverBuilder(this, defaultImpl);
+    }
+
+    @Override
+    protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, PolymorphicTypeValidator subtypeValidator,
+                                        Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+        return new CompactTypeIdResolver(baseType, config.getTypeFactory(), subtypes, subtypeValidator);
+    }
+
+    private final class CompactTypeIdResolver extends ClassNameIdResolver {
+
+        private CompactTypeIdResolver(JavaType baseType, TypeFactory typeFactory, Collection<NamedType> subtypes,
+                                      PolymorphicTypeValidator subtypeValidator) {
+            super(baseType, typeFactory, subtypes, subtypeValidator);
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            String alias = classToAlias.get(value.getClass());
+            return alias != null ? alias : super.idFromValue(value);
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> type) {
+            String alias = classToAlias.get(type);
+            return alias != null ? alias : super.idFromValueAndType(value, type);
+        }
+
+        @Override
+        public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+            Class<?> type = aliasToClass.get(id);
+            if (type != null) {
+                return context.constructSpecializedType(_baseType, type);
+            }
+            return super.typeFromId(context, id);
+        }
+
+        @Override
+        public JsonTypeInfo.Id getMechanism() {
+            return JsonTypeInfo.Id.CUSTOM;
+        }
+    }
+}
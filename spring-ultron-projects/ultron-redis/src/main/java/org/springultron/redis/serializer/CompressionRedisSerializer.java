@@ -0,0 +1,104 @@
+package org.springultron.redis.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 压缩 Redis value：序列化结果超过阈值时压缩，未超过的原样存储
+ * <p>
+ * 压缩后格式：1 字节标记 0x1F + 4 字节原始长度 + 压缩数据；
+ * 0x1F 不是 JSON、Smile、CBOR 的合法首字节，据此区分压缩与未压缩的数据，开启压缩前已存储的数据仍可读取
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+public class CompressionRedisSerializer implements RedisSerializer<Object> {
+    private static final byte MARKER = 0x1F;
+    private static final int HEADER_LENGTH = 5;
+    private final RedisSerializer<Object> delegate;
+    private final int threshold;
+
+    /**
+     * @param delegate  实际的序列化方式
+     * @param threshold 压缩阈值(字节)，序列化结果不小于该值时压缩
+     */
+    public CompressionRedisSerializer(RedisSerializer<Object> delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = Math.max(threshold, HEADER_LENGTH);
+    }
+
+    @Nullable
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes == null || bytes.length < threshold) {
+            return bytes;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] output = new byte[HEADER_LENGTH + bytes.length];
+            int length = HEADER_LENGTH;
+            while (!deflater.finished() && length < output.length) {
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            // 压缩后没有变小，原样存储
+            if (!deflater.finished()) {
+                return bytes;
+            }
+            output[0] = MARKER;
+            writeInt(output, bytes.length);
+            return Arrays.copyOf(output, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_LENGTH || bytes[0] != MARKER) {
+            return delegate.deserialize(bytes);
+        }
+        int originalLength = readInt(bytes);
+        byte[] output = new byte[originalLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            int length = 0;
+            while (length < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(output, length, originalLength - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != originalLength) {
+                throw new SerializationException("Could not decompress: corrupted data");
+            }
+        } catch (DataFormatException e) {
+            throw new SerializationException("Could not decompress: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+        return delegate.deserialize(output);
+    }
+
+    private static void writeInt(byte[] bytes, int value) {
+        bytes[1] = (byte) (value >>> 24);
+        bytes[2] = (byte) (value >>> 16);
+        bytes[3] = (byte) (value >>> 8);
+        bytes[4] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes) {
+        return ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16) | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+    }
+}
@@ -0,0 +1,52 @@
+package org.springultron.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+/**
+ * 基于 Jackson 的 Redis value 序列化，ObjectMapper 可为 Smile、CBOR 等二进制格式
+ * <p>
+ * 按 Object 类型读写，配合 {@link CompactTypeResolverBuilder} 写入类型标识，反序列化时还原原类型
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+public class JacksonBinaryRedisSerializer implements RedisSerializer<Object> {
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JacksonBinaryRedisSerializer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(Object.class);
+        this.reader = objectMapper.readerFor(Object.class);
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_ARRAY;
+        }
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write: " + e.getMessage(), e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read: " + e.getMessage(), e);
+        }
+    }
+}
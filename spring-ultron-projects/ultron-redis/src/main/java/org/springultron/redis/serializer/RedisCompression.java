@@ -0,0 +1,18 @@
+package org.springultron.redis.serializer;
+
+/**
+ * Redis value 压缩方式
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+public enum RedisCompression {
+    /**
+     * 不压缩
+     */
+    NONE,
+    /**
+     * JDK Deflater(BEST_SPEED)
+     */
+    DEFLATE
+}
@@ -0,0 +1,22 @@
+package org.springultron.redis.serializer;
+
+/**
+ * Redis value 序列化方式
+ *
+ * @author brucewuu
+ * @date 2026/10/18 22:00
+ */
+public enum RedisSerializerType {
+    /**
+     * JSON，类型标识为全限定类名，兼容已有数据
+     */
+    JSON,
+    /**
+     * Jackson Smile 二进制格式，需引入 jackson-dataformat-smile
+     */
+    SMILE,
+    /**
+     * Jackson CBOR 二进制格式，需引入 jackson-dataformat-cbor
+     */
+    CBOR
+}
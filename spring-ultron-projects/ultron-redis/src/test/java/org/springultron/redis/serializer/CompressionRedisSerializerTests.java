@@ -0,0 +1,156 @@
+package org.springultron.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author brucewuu
+ * @date 2026/10/19 00:10
+ */
+public class CompressionRedisSerializerTests {
+
+    private static final int THRESHOLD = 512;
+
+    private static final byte MARKER = 0x1F;
+
+    private final RedisSerializer<Object> json = new JacksonBinaryRedisSerializer(new ObjectMapper());
+
+    @Test
+    public void smallValueStoredRaw() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(json, THRESHOLD);
+        Map<String, Object> value = Map.of("id", 1, "name", "ultron");
+        byte[] bytes = serializer.serialize(value);
+        assertArrayEquals(json.serialize(value), bytes);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void largeValueRoundTrip() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(json, THRESHOLD);
+        List<Object> value = sampleList(50);
+        byte[] raw = json.serialize(value);
+        byte[] bytes = serializer.serialize(value);
+        assertEquals(MARKER, bytes[0]);
+        assertTrue(bytes.length < raw.length);
+        assertEquals(raw.length, ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16) | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF));
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void thresholdBoundary() {
+        RedisSerializer<Object> passthrough = new PassthroughSerializer();
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(passthrough, THRESHOLD);
+        byte[] below = repeated(THRESHOLD - 1);
+        assertArrayEquals(below, serializer.serialize(below));
+        byte[] atThreshold = repeated(THRESHOLD);
+        byte[] compressed = serializer.serialize(atThreshold);
+        assertEquals(MARKER, compressed[0]);
+        assertArrayEquals(atThreshold, (byte[]) serializer.deserialize(compressed));
+    }
+
+    @Test
+    public void legacyUncompressedValuesReadable() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(json, THRESHOLD);
+        // 开启压缩前写入的数据
+        List<Object> value = sampleList(50);
+        assertEquals(value, serializer.deserialize(json.serialize(value)));
+        Map<String, Object> small = Map.of("k", "v");
+        assertEquals(small, serializer.deserialize(json.serialize(small)));
+        assertEquals("ultron", serializer.deserialize(json.serialize("ultron")));
+        assertEquals(42, serializer.deserialize(json.serialize(42)));
+    }
+
+    @Test
+    public void binaryFormatsRoundTrip() {
+        List<RedisSerializer<Object>> delegates = List.of(
+                new JacksonBinaryRedisSerializer(new ObjectMapper(new SmileFactory())),
+                new JacksonBinaryRedisSerializer(new ObjectMapper(new CBORFactory())));
+        List<Object> value = sampleList(50);
+        for (RedisSerializer<Object> delegate : delegates) {
+            CompressionRedisSerializer serializer = new CompressionRedisSerializer(delegate, THRESHOLD);
+            byte[] legacy = delegate.serialize(value);
+            assertNotEquals(MARKER, legacy[0]);
+            assertEquals(value, serializer.deserialize(legacy));
+            byte[] bytes = serializer.serialize(value);
+            assertEquals(MARKER, bytes[0]);
+            assertEquals(value, serializer.deserialize(bytes));
+            assertEquals(7, serializer.deserialize(serializer.serialize(7)));
+        }
+    }
+
+    @Test
+    public void incompressibleValueStoredRaw() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(new PassthroughSerializer(), THRESHOLD);
+        byte[] random = new byte[4096];
+        new Random(24L).nextBytes(random);
+        random[0] = '{';
+        byte[] bytes = serializer.serialize(random);
+        assertArrayEquals(random, bytes);
+        assertArrayEquals(random, (byte[]) serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void nullAndEmpty() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(json, THRESHOLD);
+        byte[] bytes = serializer.serialize(null);
+        assertEquals(0, bytes.length);
+        assertNull(serializer.deserialize(bytes));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    public void corruptedDataRejected() {
+        CompressionRedisSerializer serializer = new CompressionRedisSerializer(json, THRESHOLD);
+        byte[] bytes = serializer.serialize(sampleList(50));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+        byte[] garbage = bytes.clone();
+        Arrays.fill(garbage, 5, garbage.length, (byte) 0xFF);
+        assertThrows(SerializationException.class, () -> serializer.deserialize(garbage));
+    }
+
+    private static List<Object> sampleList(int size) {
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> entity = new LinkedHashMap<>();
+            entity.put("id", i);
+            entity.put("name", "user-" + i);
+            entity.put("email", "user" + i + "@example.com");
+            entity.put("enabled", i % 2 == 0);
+            entity.put("tags", List.of("a", "b", "c"));
+            list.add(entity);
+        }
+        return list;
+    }
+
+    private static byte[] repeated(int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[0] = '"';
+        return bytes;
+    }
+
+    /**
+     * 直接存储 byte[]，用于控制压缩前的数据
+     */
+    private static final class PassthroughSerializer implements RedisSerializer<Object> {
+
+        @Override
+        public byte[] serialize(Object value) {
+            return (byte[]) value;
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return bytes;
+        }
+    }
+}
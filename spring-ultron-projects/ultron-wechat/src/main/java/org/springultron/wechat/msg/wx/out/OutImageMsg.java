@@ -1,5 +1,6 @@
 package org.springultron.wechat.msg.wx.out;
 
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.wechat.msg.wx.in.InMsg;
 
 /**
@@ -24,7 +25,7 @@ public class OutImageMsg extends OutMsg {
     }
 
     @Override
-    protected void customizeXml(StringBuilder sb) {
+    protected void customizeXml(ChunkedWriter sb) {
         if (null == mediaId) {
             throw new NullPointerException("mediaId can not be null.");
         }
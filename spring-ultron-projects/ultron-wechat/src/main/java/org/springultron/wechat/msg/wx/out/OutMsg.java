@@ -1,5 +1,6 @@
 package org.springultron.wechat.msg.wx.out;
 
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.wechat.msg.wx.in.InMsg;
 
 /**
@@ -47,7 +48,12 @@ public abstract class OutMsg {
         this.createTime = now();
     }
 
-    protected abstract void customizeXml(StringBuilder sb);
+    /**
+     * 写入各消息类型特有的 xml 节点
+     *
+     * @param sb xml 缓冲区
+     */
+    protected abstract void customizeXml(ChunkedWriter sb);
 
     /**
      * 转换xml
@@ -55,15 +61,16 @@ public abstract class OutMsg {
      * @return {String}
      */
     public String toXml() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("<xml>\n");
-        sb.append("<ToUserName><![CDATA[").append(toUserName).append("]]></ToUserName>\n");
-        sb.append("<FromUserName><![CDATA[").append(fromUserName).append("]]></FromUserName>\n");
-        sb.append("<CreateTime>").append(createTime).append("</CreateTime>\n");
-        sb.append("<MsgType><![CDATA[").append(msgType).append("]]></MsgType>\n");
-        customizeXml(sb);
-        sb.append("</xml>");
-        return sb.toString();
+        try (ChunkedWriter sb = new ChunkedWriter()) {
+            sb.append("<xml>\n");
+            sb.append("<ToUserName><![CDATA[").append(toUserName).append("]]></ToUserName>\n");
+            sb.append("<FromUserName><![CDATA[").append(fromUserName).append("]]></FromUserName>\n");
+            sb.append("<CreateTime>").append(String.valueOf(createTime)).append("</CreateTime>\n");
+            sb.append("<MsgType><![CDATA[").append(msgType).append("]]></MsgType>\n");
+            customizeXml(sb);
+            sb.append("</xml>");
+            return sb.toString();
+        }
     }
 
     public String getToUserName() {
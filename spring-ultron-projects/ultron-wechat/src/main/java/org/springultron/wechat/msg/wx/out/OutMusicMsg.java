@@ -1,5 +1,6 @@
 package org.springultron.wechat.msg.wx.out;
 
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.core.utils.StringUtils;
 import org.springultron.wechat.msg.wx.in.InMsg;
 
@@ -39,7 +40,7 @@ public class OutMusicMsg extends OutMsg {
     }
 
     @Override
-    protected void customizeXml(StringBuilder sb) {
+    protected void customizeXml(ChunkedWriter sb) {
         sb.append("<Music>\n");
         if (StringUtils.isNotEmpty(title)) {
             sb.append("<Title><![CDATA[").append(title).append("]]></Title>\n");
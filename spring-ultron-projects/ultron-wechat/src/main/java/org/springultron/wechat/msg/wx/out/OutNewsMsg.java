@@ -1,5 +1,6 @@
 package org.springultron.wechat.msg.wx.out;
 
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.wechat.msg.wx.in.InMsg;
 
 import java.util.ArrayList;
@@ -28,7 +29,7 @@ public class OutNewsMsg extends OutMsg {
     }
 
     @Override
-    protected void customizeXml(StringBuilder sb) {
+    protected void customizeXml(ChunkedWriter sb) {
         final int articleCount = getArticleCount();
         if (articleCount == 0) {
             throw new IllegalStateException("ArticleCount can not be zero");
@@ -1,6 +1,7 @@
 package org.springultron.wechat.msg.wx.out;
 
 import org.springframework.util.Assert;
+import org.springultron.core.io.ChunkedWriter;
 import org.springultron.wechat.msg.wx.in.InMsg;
 
 /**
@@ -25,7 +26,7 @@ public class OutTextMsg extends OutMsg {
     }
 
     @Override
-    protected void customizeXml(StringBuilder sb) {
+    protected void customizeXml(ChunkedWriter sb) {
         Assert.notNull(content, "content can not be null.");
         sb.append("<Content><![CDATA[").append(content).append("]]></Content>\n");
     }